@@ -1,7 +1,9 @@
 package com.company.hashtable;
 
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.ListIterator;
+import java.util.TreeMap;
 
 /**
  * ========================================================================
@@ -75,6 +77,19 @@ import java.util.ListIterator;
  * ✓ Can't tolerate expensive rehashing operations
  * ✓ Have enough memory for linked list overhead
  * 
+ * TREEIFIED BUCKETS (like java.util.HashMap):
+ * -------------------------------------------
+ * Keys come from user-supplied names, so someone can pick thousands of names
+ * that land in the same bucket ("hash flooding"). A plain chain then turns
+ * every get() into a linear scan.
+ * 
+ * So a bucket whose chain grows past TREEIFY_THRESHOLD (8) is converted into
+ * a balanced red-black tree (java.util.TreeMap) ordered by hash code first
+ * and by the key itself second. Lookups in that bucket become O(log n).
+ * When removals shrink it to UNTREEIFY_THRESHOLD (6) it turns back into a
+ * list, because short lists are faster than small trees. The gap between 8
+ * and 6 stops a bucket from flipping back and forth on every put/remove.
+ * 
  * @author Data Structures Learning Project
  * @version 1.0
  */
@@ -94,7 +109,28 @@ public class ChainedHashtable {
      */
     private LinkedList<StoredEmployee>[] hashtable;
 
-    private LinkedList<StoredEmployee>[] hashtable;
+    /**
+     * Tree form of each bucket. trees[i] is null while bucket i is a plain
+     * list; once it is treeified, trees[i] holds the entries and
+     * hashtable[i] is left empty.
+     */
+    private TreeMap<String, StoredEmployee>[] trees;
+
+    /** Turns a key into a 32-bit hash; hashKey() maps it to a bucket. */
+    private final HashFunction hashFunction;
+
+    /** A chain longer than this is converted into a tree. */
+    static final int TREEIFY_THRESHOLD = 8;
+
+    /** A tree that shrinks to this size is converted back into a list. */
+    static final int UNTREEIFY_THRESHOLD = 6;
+
+    /**
+     * Tree order: hash code first (cheap int compare), then the key itself
+     * so that keys with EQUAL hash codes are still told apart in O(log n).
+     */
+    private static final Comparator<String> TREE_ORDER =
+            Comparator.comparingInt(String::hashCode).thenComparing(Comparator.naturalOrder());
 
     /**
      * CONSTRUCTOR - Initialize the Chained Hash Table
@@ -122,9 +158,31 @@ public class ChainedHashtable {
      * if the folder exists first.
      */
     public ChainedHashtable(){
-        hashtable = new LinkedList[10];  // Create array of 10 LinkedList references
+        this(10, StandardHashFunction.STRING_HASH);
+    }
+
+    /**
+     * Creates a chained hash table with a chosen number of buckets and hash
+     * function - for comparing hash functions by how evenly they fill the
+     * buckets (see longestChain()).
+     *
+     * @param buckets number of chains (fixed - this table never resizes)
+     * @param hashFunction turns each key into a 32-bit hash
+     * @throws IllegalArgumentException if buckets is not positive
+     * @throws NullPointerException if hashFunction is null
+     */
+    public ChainedHashtable(int buckets, HashFunction hashFunction){
+        if(buckets <= 0){
+            throw new IllegalArgumentException("Illegal bucket count: " + buckets);
+        }
+        if(hashFunction == null){
+            throw new NullPointerException("hashFunction");
+        }
+        this.hashFunction = hashFunction;
+        hashtable = new LinkedList[buckets];  // Create array of LinkedList references
+        trees = newTrees(hashtable.length);  // No bucket starts as a tree
         
-        // Initialize each LinkedList (create 10 empty buckets)
+        // Initialize each LinkedList (create the empty buckets)
         for(int i =0;i<hashtable.length;i++){
             hashtable[i] = new LinkedList<StoredEmployee>();
         }
@@ -180,21 +238,49 @@ public class ChainedHashtable {
      * @param key The search key (usually employee's last name)
      * @param employee The Employee object to store
      * 
+     * If the key is already stored, its employee is replaced instead of
+     * adding a second entry. A chain that grows past TREEIFY_THRESHOLD is
+     * converted into a tree.
+     * 
      * TIME COMPLEXITY:
-     * - Best/Average/Worst for insertion: O(1)
-     * - LinkedList.add() at end is O(1)
-     * - No searching or probing needed!
+     * - List bucket: O(chain length), and chains never exceed TREEIFY_THRESHOLD
+     * - Tree bucket: O(log n)
      * 
      * SPACE COMPLEXITY:
      * - O(1) per item (one StoredEmployee node + one LinkedList node)
      */
     public void put(String key, Employee employee){
         int hashedKey = hashKey(key);  // Step 1: Calculate which bucket
-        
-        // Step 2: Add to the chain at that bucket
+
+        if(trees[hashedKey]!=null){
+            // Treeified bucket: O(log n) insert or replace
+            StoredEmployee existing = trees[hashedKey].get(key);
+            if(existing!=null){
+                existing.employee = employee;
+            }
+            else{
+                trees[hashedKey].put(key, new StoredEmployee(key,employee));
+            }
+            return;
+        }
+
+        // Step 2: Same key already in the chain? Just replace the employee
+        for(StoredEmployee stored : hashtable[hashedKey]){
+            if(stored.key.equals(key)){
+                stored.employee = employee;
+                return;
+            }
+        }
+
+        // Step 3: Add to the chain at that bucket
         // This is MUCH simpler than linear probing!
         // No checking if occupied, no probing, just add!
         hashtable[hashedKey].add(new StoredEmployee(key,employee));
+
+        // Step 4: Chain too long? Turn it into a balanced tree
+        if(hashtable[hashedKey].size() > TREEIFY_THRESHOLD){
+            treeify(hashedKey);
+        }
     }
 
     /**
@@ -250,12 +336,17 @@ public class ChainedHashtable {
      * - Average Case: O(1 + α) where α is load factor
      *   - If load factor is 0.75, average chain length is 0.75
      *   - On average, check less than 1 item!
-     * - Worst Case: O(n) - All items in one chain
-     *   - Must check every item in the chain
-     *   - Rare with good hash function!
+     * - Worst Case: O(log n) - All items in one bucket, which is then a tree
+     *   - Without treeification this would be O(n): a scan of the whole chain
      */
     public Employee get(String key){
         int hashedKey = hashKey(key);  // Step 1: Find which bucket
+
+        if(trees[hashedKey]!=null){
+            // Treeified bucket: binary search down the tree
+            StoredEmployee stored = trees[hashedKey].get(key);
+            return stored==null ? null : stored.employee;
+        }
         
         // Step 2: Get an iterator to walk through the chain
         ListIterator<StoredEmployee> iterator= hashtable[hashedKey].listIterator();
@@ -281,12 +372,26 @@ public class ChainedHashtable {
      * This method removes an employee from the appropriate chain.
      * Unlike linear probing, we DON'T need to rehash the entire table!
      * We just remove one node from a linked list.
+     * A tree bucket that shrinks to UNTREEIFY_THRESHOLD becomes a list again.
      * 
      * @param key The search key of the employee to remove
+     * 
      * @return The removed Employee object, or null if not found
      */
     public Employee remove(String key){
         int hashedKey = hashKey(key);
+
+        if(trees[hashedKey]!=null){
+            StoredEmployee stored = trees[hashedKey].remove(key);
+            if(stored==null){
+                return null;
+            }
+            if(trees[hashedKey].size() <= UNTREEIFY_THRESHOLD){
+                untreeify(hashedKey);
+            }
+            return stored.employee;
+        }
+
         ListIterator<StoredEmployee> iterator= hashtable[hashedKey].listIterator();
         StoredEmployee employee=null;
         int index = -1;
@@ -308,20 +413,75 @@ public class ChainedHashtable {
 
     }
 
+    /**
+     * TREEIFY - Convert a Long Chain into a Balanced Tree
+     * ====================================================
+     * 
+     * Moves every entry of the chain into a TreeMap (a red-black tree, which
+     * keeps itself balanced) and empties the list.
+     * 
+     * @param hashedKey The bucket to convert
+     */
+    private void treeify(int hashedKey){
+        TreeMap<String, StoredEmployee> tree = new TreeMap<>(TREE_ORDER);
+        for(StoredEmployee stored : hashtable[hashedKey]){
+            tree.put(stored.key, stored);
+        }
+        hashtable[hashedKey].clear();
+        trees[hashedKey] = tree;
+    }
+
+    /**
+     * UNTREEIFY - Convert a Small Tree back into a Chain
+     * 
+     * @param hashedKey The bucket to convert
+     */
+    private void untreeify(int hashedKey){
+        hashtable[hashedKey].addAll(trees[hashedKey].values());
+        trees[hashedKey] = null;
+    }
+
+    /**
+     * @return length empty slots for tree buckets (Java cannot create a
+     *         generic array directly)
+     */
+    @SuppressWarnings("unchecked")
+    private static TreeMap<String, StoredEmployee>[] newTrees(int length){
+        return (TreeMap<String, StoredEmployee>[]) new TreeMap<?, ?>[length];
+    }
+
     /**
      * HASH KEY - The Hash Function (IMPROVED!)
      * =========================================
      * 
-     * Uses Java's built-in String.hashCode() for better distribution.
+     * By default uses Java's built-in String.hashCode() for better distribution.
      * Much better than the simple length-based function!
+     * (StandardHashFunction.LENGTH is that old function, if you want to compare.)
      * 
      * @param key The key to hash
-     * @return An index from 0 to 9
+     * @return An index from 0 to buckets-1
      */
     private int hashKey(String key){
-//        return key.length() % hashtable.length;
+        return Math.abs(hashFunction.hash(key)%hashtable.length);
+    }
 
-        return Math.abs(key.hashCode()%hashtable.length);
+    /**
+     * LONGEST CHAIN - The Worst Bucket
+     * ================================
+     *
+     * get() on a key in this bucket has to walk the whole chain (or, once the
+     * bucket is a tree, about log2 of it). A good hash function keeps this
+     * close to the average size/buckets.
+     *
+     * @return the number of entries in the fullest bucket
+     */
+    public int longestChain(){
+        int longest = 0;
+        for(int i = 0; i < hashtable.length; i++){
+            int length = trees[i] != null ? trees[i].size() : hashtable[i].size();
+            longest = Math.max(longest, length);
+        }
+        return longest;
     }
 
     /**
@@ -333,7 +493,15 @@ public class ChainedHashtable {
      */
     public void printHashtable(){
         for(int i =0;i<hashtable.length;i++){
-            if(hashtable[i].isEmpty()){
+            if(trees[i]!=null){
+                System.out.print("position"+i+" (tree): ");
+                for(StoredEmployee stored : trees[i].values()){
+                    System.out.print(stored.employee);
+                    System.out.print(", ");
+                }
+                System.out.println();
+            }
+            else if(hashtable[i].isEmpty()){
                 System.out.println("position"+i+": is empty");
             }
             else{
@@ -0,0 +1,278 @@
+package com.company.hashtable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ========================================================================
+ * CONCURRENT CHAINED HASHTABLE - Lock Striping with Lock-Free Reads
+ * ========================================================================
+ *
+ * A thread-safe version of ChainedHashtable that many threads can use at the
+ * same time without one global lock.
+ *
+ * THE PROBLEM WITH ONE BIG LOCK:
+ * ------------------------------
+ * Wrapping every call in synchronized(table) means only ONE thread works at a
+ * time - on a 32-core machine, 31 cores just wait in line.
+ *
+ * THE IDEA: LOCK STRIPING
+ * -----------------------
+ * The buckets are split into SEGMENTS (stripes). Each segment is a small
+ * chained hashtable with its OWN lock and its OWN bucket array. The high
+ * bits of a key's hash pick the segment, the low bits pick the bucket.
+ *
+ * Think of a supermarket with many checkout lanes instead of one: customers
+ * in different lanes never wait for each other.
+ *
+ *   segment 0 (lock 0) → [bucket][bucket][bucket]...
+ *   segment 1 (lock 1) → [bucket][bucket][bucket]...
+ *   ...
+ *
+ * LOCK-FREE READS:
+ * ----------------
+ * get() takes NO lock at all. It works because writers never change a chain
+ * in a way a reader could trip over:
+ * - New nodes are fully built before being published at the head of a chain.
+ * - Bucket heads are read through AtomicReferenceArray, and node.next and
+ *   node.employee are volatile, so readers always see complete nodes.
+ * - A removed node keeps its next pointer, so a reader standing on it can
+ *   still walk to the end of the chain.
+ *
+ * RESIZING WHILE WRITES CONTINUE:
+ * -------------------------------
+ * Each segment resizes on its own, under its own lock. It copies its chains
+ * into a NEW bucket array (the old nodes are never modified) and then
+ * publishes the new array. Readers still walking the old array see a
+ * consistent snapshot, and writers on all other segments never stop.
+ *
+ * PERFORMANCE:
+ * ------------
+ * - get():    O(1) average, never blocks
+ * - put():    O(1) average, blocks only writers of the same segment
+ * - remove(): O(1) average, blocks only writers of the same segment
+ * - size():   O(segments), a moment-in-time estimate under concurrent writes
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class ConcurrentChainedHashtable {
+
+    private static final int DEFAULT_SEGMENTS = 64;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 30;
+
+    /**
+     * One link in a chain. key and hash never change; employee and next are
+     * volatile so lock-free readers always see the latest published values.
+     */
+    static final class Node {
+        final int hash;
+        final String key;
+        volatile Employee employee;
+        volatile Node next;
+
+        Node(int hash, String key, Employee employee, Node next) {
+            this.hash = hash;
+            this.key = key;
+            this.employee = employee;
+            this.next = next;
+        }
+    }
+
+    /**
+     * One stripe: a lock plus its own bucket array.
+     */
+    static final class Segment extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        volatile AtomicReferenceArray<Node> table;
+        volatile int count;
+        int threshold;
+
+        Segment(int capacity) {
+            table = new AtomicReferenceArray<>(capacity);
+            threshold = (int) (capacity * LOAD_FACTOR);
+        }
+    }
+
+    private final Segment[] segments;
+
+    /** Right shift that brings the segment-selecting high bits down. */
+    private final int segmentShift;
+
+    /**
+     * Creates a table with 64 lock stripes.
+     */
+    public ConcurrentChainedHashtable() {
+        this(DEFAULT_CAPACITY, DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * @param initialCapacity expected number of employees
+     * @param concurrencyLevel expected number of concurrent writers (rounded up to a power of two)
+     * @throws IllegalArgumentException if initialCapacity is negative or concurrencyLevel is not positive
+     */
+    public ConcurrentChainedHashtable(int initialCapacity, int concurrencyLevel) {
+        if (initialCapacity < 0 || concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal capacity or concurrency level");
+        }
+        int segmentCount = powerOfTwoAtLeast(Math.min(concurrencyLevel, 1 << 16));
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        int perSegment = powerOfTwoAtLeast((int) Math.ceil(initialCapacity / (double) segmentCount / LOAD_FACTOR));
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    /**
+     * PUT - Insert or Replace
+     *
+     * Locks only the key's segment. A new key is pushed on the head of its
+     * chain; an existing key just gets its employee replaced.
+     *
+     * @param key the search key (usually the employee's last name)
+     * @param employee the Employee to store
+     */
+    public void put(String key, Employee employee) {
+        int hash = spread(key.hashCode());
+        Segment segment = segmentFor(hash);
+        segment.lock();
+        try {
+            AtomicReferenceArray<Node> table = segment.table;
+            int index = hash & (table.length() - 1);
+            Node head = table.get(index);
+            for (Node node = head; node != null; node = node.next) {
+                if (node.hash == hash && node.key.equals(key)) {
+                    node.employee = employee;
+                    return;
+                }
+            }
+            table.set(index, new Node(hash, key, employee, head));
+            int count = segment.count + 1;
+            segment.count = count;
+            if (count > segment.threshold) {
+                rehash(segment);
+            }
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * GET - Lock-Free Lookup
+     *
+     * @param key the search key
+     * @return the Employee, or null if not found
+     */
+    public Employee get(String key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node> table = segmentFor(hash).table;
+        for (Node node = table.get(hash & (table.length() - 1)); node != null; node = node.next) {
+            if (node.hash == hash && node.key.equals(key)) {
+                return node.employee;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * REMOVE - Unlink a Node under the Segment Lock
+     *
+     * The removed node's own next pointer is left alone, so a reader that is
+     * standing on it can still finish walking the chain.
+     *
+     * @param key the search key of the employee to remove
+     * @return the removed Employee, or null if not found
+     */
+    public Employee remove(String key) {
+        int hash = spread(key.hashCode());
+        Segment segment = segmentFor(hash);
+        segment.lock();
+        try {
+            AtomicReferenceArray<Node> table = segment.table;
+            int index = hash & (table.length() - 1);
+            Node prev = null;
+            for (Node node = table.get(index); node != null; prev = node, node = node.next) {
+                if (node.hash == hash && node.key.equals(key)) {
+                    if (prev == null) {
+                        table.set(index, node.next);
+                    } else {
+                        prev.next = node.next;
+                    }
+                    segment.count = segment.count - 1;
+                    return node.employee;
+                }
+            }
+            return null;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stored employees. With concurrent writers this is
+     * only a moment-in-time estimate.
+     *
+     * @return the sum of all segment counts
+     */
+    public int size() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.count;
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * REHASH - Double One Segment
+     *
+     * Called with the segment lock held. Every node is COPIED into the new
+     * array, so the old array (which lock-free readers may still be walking)
+     * stays exactly as it was. The new array is published with one volatile
+     * write at the end.
+     */
+    private void rehash(Segment segment) {
+        AtomicReferenceArray<Node> oldTable = segment.table;
+        int oldCapacity = oldTable.length();
+        if (oldCapacity >= MAXIMUM_SEGMENT_CAPACITY) {
+            segment.threshold = Integer.MAX_VALUE;
+            return;
+        }
+        int newCapacity = oldCapacity << 1;
+        int mask = newCapacity - 1;
+        AtomicReferenceArray<Node> newTable = new AtomicReferenceArray<>(newCapacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            for (Node node = oldTable.get(i); node != null; node = node.next) {
+                int index = node.hash & mask;
+                newTable.lazySet(index, new Node(node.hash, node.key, node.employee, newTable.get(index)));
+            }
+        }
+        segment.threshold = (int) (newCapacity * LOAD_FACTOR);
+        segment.table = newTable;
+    }
+
+    private Segment segmentFor(int hash) {
+        // segmentShift == 32 when there is one segment; Java masks shifts to 5 bits
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    /**
+     * Mixes all bits of String.hashCode() (MurmurHash3 finalizer), so both the
+     * high bits (segment) and the low bits (bucket) are well distributed.
+     */
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int powerOfTwoAtLeast(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+}
@@ -0,0 +1,128 @@
+package com.company.hashtable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ========================================================================
+ * CONCURRENT CHAINED HASHTABLE BENCHMARK - vs ConcurrentHashMap
+ * ========================================================================
+ *
+ * Measures total throughput (operations per second across all threads) of
+ * ConcurrentChainedHashtable and java.util.concurrent.ConcurrentHashMap at
+ * 1, 4, 16 and 64 threads.
+ *
+ * WORKLOAD:
+ * ---------
+ * The table is pre-loaded with KEY_COUNT employees. Each thread then runs a
+ * directory-style mix for a fixed time: 80% get, 10% put, 10% remove, on
+ * random keys. Each configuration gets a warmup run before the measured run.
+ *
+ * HOW TO RUN:
+ * -----------
+ * java com.company.hashtable.ConcurrentChainedHashtableBenchmark [secondsPerRun]
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class ConcurrentChainedHashtableBenchmark {
+
+    private static final int KEY_COUNT = 1 << 20;
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64};
+
+    /** Keeps the JIT from discarding get() results as dead code. */
+    private static volatile long blackhole;
+
+    /** Common face for the two implementations under test. */
+    private interface Directory {
+        Employee get(String key);
+        void put(String key, Employee employee);
+        Employee remove(String key);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long runMillis = (args.length > 0 ? Long.parseLong(args[0]) : 2) * 1000;
+
+        String[] keys = new String[KEY_COUNT];
+        Employee[] employees = new Employee[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "Employee" + i;
+            employees[i] = new Employee("First" + i, keys[i], i);
+        }
+
+        System.out.printf("%-8s %28s %28s%n", "threads", "ConcurrentChainedHashtable", "ConcurrentHashMap");
+        for (int threads : THREAD_COUNTS) {
+            ConcurrentChainedHashtable striped = new ConcurrentChainedHashtable(KEY_COUNT, 64);
+            Directory stripedDirectory = new Directory() {
+                public Employee get(String key) { return striped.get(key); }
+                public void put(String key, Employee employee) { striped.put(key, employee); }
+                public Employee remove(String key) { return striped.remove(key); }
+            };
+            ConcurrentHashMap<String, Employee> chm = new ConcurrentHashMap<>(KEY_COUNT);
+            Directory chmDirectory = new Directory() {
+                public Employee get(String key) { return chm.get(key); }
+                public void put(String key, Employee employee) { chm.put(key, employee); }
+                public Employee remove(String key) { return chm.remove(key); }
+            };
+
+            double stripedOps = measure(stripedDirectory, keys, employees, threads, runMillis);
+            double chmOps = measure(chmDirectory, keys, employees, threads, runMillis);
+            System.out.printf("%-8d %,28.0f %,28.0f%n", threads, stripedOps, chmOps);
+        }
+    }
+
+    /** Pre-loads the directory, warms up, then returns measured ops/sec. */
+    private static double measure(Directory directory, String[] keys, Employee[] employees,
+                                  int threads, long runMillis) throws InterruptedException {
+        for (int i = 0; i < keys.length; i++) {
+            directory.put(keys[i], employees[i]);
+        }
+        run(directory, keys, employees, threads, runMillis / 2);
+        return run(directory, keys, employees, threads, runMillis);
+    }
+
+    private static double run(Directory directory, String[] keys, Employee[] employees,
+                              int threads, long runMillis) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long[] deadline = new long[1];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long ops = 0;
+                long sink = 0;
+                while ((ops & 1023) != 0 || System.nanoTime() < deadline[0]) {
+                    int i = random.nextInt(keys.length);
+                    int choice = random.nextInt(10);
+                    if (choice < 8) {
+                        Employee employee = directory.get(keys[i]);
+                        sink += employee == null ? 0 : 1;
+                    } else if (choice == 8) {
+                        directory.put(keys[i], employees[i]);
+                    } else {
+                        directory.remove(keys[i]);
+                    }
+                    ops++;
+                }
+                operations.add(ops);
+                blackhole = sink;
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        deadline[0] = begin + runMillis * 1_000_000;
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return operations.sum() * 1e9 / (System.nanoTime() - begin);
+    }
+}
@@ -0,0 +1,143 @@
+package com.company.hashtable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ========================================================================
+ * CONCURRENT CHAINED HASHTABLE - Multi-Threaded Stress Test
+ * ========================================================================
+ *
+ * Hammers one ConcurrentChainedHashtable from many threads at once and checks
+ * that nothing was lost or corrupted. Run it with:
+ *
+ *   java com.company.hashtable.ConcurrentChainedHashtableStressTest [threads] [keysPerThread]
+ *
+ * WHAT IT CHECKS:
+ * ---------------
+ * 1. PUT PHASE: every writer inserts its OWN keys while the table is tiny, so
+ *    segments are resizing over and over while other writers keep going.
+ *    Reader threads run lock-free get() the whole time and fail if they ever
+ *    see an employee stored under the wrong key.
+ * 2. REMOVE PHASE: every writer removes its even-numbered keys and overwrites
+ *    its odd-numbered keys, again with readers running.
+ * 3. VERIFY: size() and every single key are checked against what the
+ *    writers did. The program exits with status 1 on the first failure.
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class ConcurrentChainedHashtableStressTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        int writers = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int keysPerWriter = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        int readers = Math.max(2, writers / 2);
+
+        // Deliberately tiny so segments resize while writes continue
+        ConcurrentChainedHashtable table = new ConcurrentChainedHashtable(1, 8);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        runPhase("put", table, writers, readers, keysPerWriter, failure, (t, w, i) ->
+                t.put(key(w, i), new Employee("First" + i, key(w, i), i)));
+        check(failure, table.size() == writers * keysPerWriter,
+                "size after put phase: " + table.size());
+
+        runPhase("remove/overwrite", table, writers, readers, keysPerWriter, failure, (t, w, i) -> {
+            if (i % 2 == 0) {
+                Employee removed = t.remove(key(w, i));
+                if (removed == null || removed.getId() != i) {
+                    failure.compareAndSet(null, "remove returned " + removed + " for " + key(w, i));
+                }
+            } else {
+                t.put(key(w, i), new Employee("Updated" + i, key(w, i), -i));
+            }
+        });
+
+        int expectedSize = writers * (keysPerWriter / 2);
+        check(failure, table.size() == expectedSize, "size after remove phase: " + table.size());
+        for (int w = 0; w < writers; w++) {
+            for (int i = 0; i < keysPerWriter; i++) {
+                Employee employee = table.get(key(w, i));
+                if (i % 2 == 0) {
+                    check(failure, employee == null, key(w, i) + " should have been removed");
+                } else {
+                    check(failure, employee != null && employee.getId() == -i,
+                            key(w, i) + " should have been overwritten but was " + employee);
+                }
+            }
+        }
+        System.out.println("PASSED: " + writers + " writers, " + readers + " readers, "
+                + keysPerWriter + " keys per writer");
+    }
+
+    /** One writer operation: (table, writer number, key number). */
+    private interface WriterOp {
+        void apply(ConcurrentChainedHashtable table, int writer, int i);
+    }
+
+    private static void runPhase(String name, ConcurrentChainedHashtable table, int writers, int readers,
+                                 int keysPerWriter, AtomicReference<String> failure, WriterOp op)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger writersLeft = new AtomicInteger(writers);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < keysPerWriter; i++) {
+                    op.apply(table, writer, i);
+                }
+                writersLeft.decrementAndGet();
+            }));
+        }
+        for (int r = 0; r < readers; r++) {
+            int seed = r;
+            threads.add(new Thread(() -> {
+                await(start);
+                int i = seed;
+                while (writersLeft.get() > 0 && failure.get() == null) {
+                    String key = key(i % writers, (i * 31) % keysPerWriter);
+                    Employee employee = table.get(key);
+                    if (employee != null && !employee.getLastName().equals(key)) {
+                        failure.compareAndSet(null, "get(" + key + ") returned " + employee);
+                    }
+                    i++;
+                }
+            }));
+        }
+
+        long begin = System.nanoTime();
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        System.out.printf("%s phase finished in %d ms%n", name, (System.nanoTime() - begin) / 1_000_000);
+        check(failure, true, null);
+    }
+
+    private static String key(int writer, int i) {
+        return "W" + writer + "-" + i;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void check(AtomicReference<String> failure, boolean condition, String message) {
+        if (failure.get() != null || !condition) {
+            System.out.println("FAILED: " + (failure.get() != null ? failure.get() : message));
+            System.exit(1);
+        }
+    }
+}
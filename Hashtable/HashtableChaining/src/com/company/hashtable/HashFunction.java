@@ -0,0 +1,33 @@
+package com.company.hashtable;
+
+/**
+ * ========================================================================
+ * HASH FUNCTION - The "Which Slot?" Formula as a Pluggable Strategy
+ * ========================================================================
+ *
+ * A hash table is only as good as its hash function: two keys with the same
+ * hash land in the same slot and have to be told apart by probing (open
+ * addressing) or by walking a chain (chaining).
+ *
+ * Instead of hard-coding one formula, a table can be GIVEN a HashFunction.
+ * The function turns a key into a full 32-bit hash; the table then maps it
+ * to one of its slots (with "% length" or "& (length - 1)").
+ *
+ *   key "Jones" ──► HashFunction.hash() ──► 0x5c3e9a17 ──► table index 7
+ *
+ * See StandardHashFunction for ready-made choices, from the learning
+ * version (key length) up to Murmur3 and xxHash, and HashFunctionBenchmark
+ * (in the hashtable module) for how they compare on real-looking names.
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface HashFunction {
+
+    /**
+     * @param key the key to hash (never null)
+     * @return a 32-bit hash; the same key must always give the same hash
+     */
+    int hash(String key);
+}
@@ -0,0 +1,154 @@
+package com.company.hashtable;
+
+/**
+ * ========================================================================
+ * STANDARD HASH FUNCTIONS - From "Key Length" to Murmur3 and xxHash
+ * ========================================================================
+ *
+ * LENGTH              key.length()
+ *                     The learning version: "Jones", "Smith" and "Brown"
+ *                     all collide. Only a handful of distinct hashes exist.
+ *
+ * STRING_HASH         key.hashCode() = s[0]*31^(n-1) + ... + s[n-1]
+ *                     Uses every character, but the LOW bits (the ones a
+ *                     power-of-two table looks at) vary little for similar
+ *                     keys like "user1", "user2", ...
+ *
+ * STRING_HASH_SPREAD  key.hashCode() run through the Murmur3 finalizer, so
+ *                     every bit of hashCode() affects the low bits. Cheap,
+ *                     because String caches its hashCode().
+ *
+ * MURMUR3             MurmurHash3 (x86, 32-bit) over the UTF-16 chars, two
+ *                     chars per 32-bit block. Excellent distribution.
+ *
+ * XXHASH32            xxHash32-style: four independent accumulators over
+ *                     16-byte stripes, so long keys hash in parallel inside
+ *                     the CPU. Same "two chars per 32-bit lane" input.
+ *
+ * Unlike STRING_HASH(_SPREAD), MURMUR3 and XXHASH32 are recomputed on every
+ * call (nothing is cached in the String), which is the price for a hash
+ * that does not depend on String.hashCode()'s weak low bits.
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public enum StandardHashFunction implements HashFunction {
+
+    LENGTH {
+        @Override
+        public int hash(String key) {
+            return key.length();
+        }
+    },
+
+    STRING_HASH {
+        @Override
+        public int hash(String key) {
+            return key.hashCode();
+        }
+    },
+
+    STRING_HASH_SPREAD {
+        @Override
+        public int hash(String key) {
+            return fmix(key.hashCode());
+        }
+    },
+
+    MURMUR3 {
+        @Override
+        public int hash(String key) {
+            int h = SEED;
+            int length = key.length();
+            for (int i = 1; i < length; i += 2) {
+                int k = key.charAt(i - 1) | (key.charAt(i) << 16);
+                h ^= mixMurmurBlock(k);
+                h = Integer.rotateLeft(h, 13) * 5 + 0xe6546b64;
+            }
+            if ((length & 1) == 1) {
+                h ^= mixMurmurBlock(key.charAt(length - 1));
+            }
+            return fmix(h ^ (2 * length));
+        }
+    },
+
+    XXHASH32 {
+        @Override
+        public int hash(String key) {
+            int length = key.length();
+            int i = 0;
+            int h;
+            if (length >= 8) {
+                int v1 = SEED + PRIME1 + PRIME2;
+                int v2 = SEED + PRIME2;
+                int v3 = SEED;
+                int v4 = SEED - PRIME1;
+                for (; i + 8 <= length; i += 8) {  // One 16-byte stripe = 8 chars
+                    v1 = xxRound(v1, lane(key, i));
+                    v2 = xxRound(v2, lane(key, i + 2));
+                    v3 = xxRound(v3, lane(key, i + 4));
+                    v4 = xxRound(v4, lane(key, i + 6));
+                }
+                h = Integer.rotateLeft(v1, 1) + Integer.rotateLeft(v2, 7)
+                        + Integer.rotateLeft(v3, 12) + Integer.rotateLeft(v4, 18);
+            } else {
+                h = SEED + PRIME5;
+            }
+            h += 2 * length;
+            for (; i + 2 <= length; i += 2) {
+                h += lane(key, i) * PRIME3;
+                h = Integer.rotateLeft(h, 17) * PRIME4;
+            }
+            if (i < length) {  // One char (two bytes) left
+                char c = key.charAt(i);
+                h += (c & 0xff) * PRIME5;
+                h = Integer.rotateLeft(h, 11) * PRIME1;
+                h += (c >>> 8) * PRIME5;
+                h = Integer.rotateLeft(h, 11) * PRIME1;
+            }
+            h ^= h >>> 15;
+            h *= PRIME2;
+            h ^= h >>> 13;
+            h *= PRIME3;
+            h ^= h >>> 16;
+            return h;
+        }
+    };
+
+    private static final int SEED = 0;
+
+    private static final int PRIME1 = 0x9E3779B1;
+    private static final int PRIME2 = 0x85EBCA77;
+    private static final int PRIME3 = 0xC2B2AE3D;
+    private static final int PRIME4 = 0x27D4EB2F;
+    private static final int PRIME5 = 0x165667B1;
+
+    /**
+     * MurmurHash3 finalizer: every input bit flips about half the output bits.
+     */
+    static int fmix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int mixMurmurBlock(int k) {
+        k *= 0xcc9e2d51;
+        k = Integer.rotateLeft(k, 15);
+        return k * 0x1b873593;
+    }
+
+    private static int xxRound(int accumulator, int input) {
+        accumulator += input * PRIME2;
+        accumulator = Integer.rotateLeft(accumulator, 13);
+        return accumulator * PRIME1;
+    }
+
+    /** Two chars as one little-endian 32-bit lane. */
+    private static int lane(String key, int index) {
+        return key.charAt(index) | (key.charAt(index + 1) << 16);
+    }
+}
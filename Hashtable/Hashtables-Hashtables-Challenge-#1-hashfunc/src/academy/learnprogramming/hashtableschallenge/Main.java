@@ -93,6 +93,12 @@ package academy.learnprogramming.hashtableschallenge;
  * 3. Universal hashing: Use random coefficients
  *    - Prevents malicious collision attacks
  * 
+ * 4. Bit mixing: scramble the bits BEFORE taking the modulo (mixedHash below)
+ *    - Uses the MurmurHash3 finalizer: every input bit changes the result
+ *    - 43, 53, 63 no longer share a slot just because they end in 3
+ *    - For String keys, see HashFunction / StandardHashFunction in the
+ *      hashtable and HashtableChaining modules (Murmur3, xxHash, ...)
+ * 
  * ALTERNATIVE APPROACHES:
  * ----------------------
  * Instead of simple modulo, we could:
@@ -174,4 +180,25 @@ public class Main {
         return Math.abs(value  % 10);
 
     }
+
+    /*
+     * MIXED HASH FUNCTION (alternative)
+     * ----------------------------------
+     * Runs the value through the MurmurHash3 finalizer first, so the index
+     * depends on ALL digits of the value, not just the last one.
+     * floorMod (instead of Math.abs) keeps the result in 0-9 even for
+     * negative mixed values.
+     * 
+     * @param value - The integer to hash
+     * @return An index between 0 and 9
+     */
+    public static int mixedHash(int value) {
+        int h = value;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return Math.floorMod(h, 10);
+    }
 }
@@ -0,0 +1,118 @@
+package academy.learnprogramming.hashtableschallenge;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════
+ * BLOOM FILTER - "Definitely Not Seen" or "Maybe Seen" in a Few Bits per ID
+ * ═══════════════════════════════════════════════════════════════════════════
+ *
+ * A Bloom filter is a bit array plus k hash functions. Adding an ID sets
+ * the k bits it hashes to. Checking an ID looks at the same k bits:
+ * - any bit is 0  → the ID was DEFINITELY never added
+ * - all bits are 1 → the ID was PROBABLY added (it may be a false positive:
+ *                     other IDs happened to set all k bits)
+ *
+ * It never gives a false "not seen", which is what makes it a safe
+ * pre-check in front of an exact (and slower) set.
+ *
+ * SIZING:
+ * -------
+ * For n expected IDs and a target false-positive rate p:
+ *   bits   m = -n * ln(p) / (ln 2)²     (~9.6 bits per ID for p = 1%)
+ *   hashes k = (m / n) * ln 2           (~7 for p = 1%)
+ *
+ * The k bit positions come from two hashes (h1 + i * h2), the usual
+ * "double hashing" trick, so only one 64-bit mix is computed per ID.
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions number of IDs the filter is sized for
+     * @param falsePositiveRate target probability of a false "maybe seen", in (0, 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Illegal expected insertions: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Illegal false positive rate: " + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long words = Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) >>> 6));
+        this.bits = new long[(int) words];
+        this.bitCount = words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    /**
+     * Records the ID.
+     *
+     * @return true if the filter changed, i.e. the ID was definitely not seen before
+     */
+    public boolean add(int id) {
+        long hash = mix(id);
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return false if the ID was definitely never added, true if it may have been
+     */
+    public boolean mightContain(int id) {
+        long hash = mix(id);
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the theoretical false-positive rate after {@code insertions} IDs:
+     *         (1 - e^(-k * n / m))^k
+     */
+    public double expectedFalsePositiveRate(long insertions) {
+        return Math.pow(1 - Math.exp(-hashCount * (double) insertions / bitCount), hashCount);
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 64-bit finalizer (from SplitMix64) - turns sequential IDs into
+     * unrelated-looking bit patterns.
+     */
+    private static long mix(int id) {
+        long z = id * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
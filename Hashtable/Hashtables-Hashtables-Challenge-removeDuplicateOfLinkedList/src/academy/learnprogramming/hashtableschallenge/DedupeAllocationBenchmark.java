@@ -0,0 +1,91 @@
+package academy.learnprogramming.hashtableschallenge;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/*
+ * ═══════════════════════════════════════════════════════════════════════════
+ * DEDUPE ALLOCATION BENCHMARK: HashMap<Integer, Employee> vs IntIntHashMap
+ * ═══════════════════════════════════════════════════════════════════════════
+ *
+ * Runs the duplicate-removal pass both ways on the same employee lists and
+ * reports time and BYTES ALLOCATED PER EMPLOYEE.
+ *
+ * Allocation is read from the JVM's per-thread allocation counter
+ * (com.sun.management.ThreadMXBean#getThreadAllocatedBytes) - the same
+ * counter JMH's GC profiler ("-prof gc", gc.alloc.rate.norm) is based on.
+ *
+ * Each list is copied before every run (outside the measured region), so
+ * both versions start from identical input. IDs are drawn so that roughly
+ * half of the employees are duplicates.
+ *
+ * HOW TO RUN:
+ *   java academy.learnprogramming.hashtableschallenge.DedupeAllocationBenchmark [employees]
+ * ═══════════════════════════════════════════════════════════════════════════
+ */
+public class DedupeAllocationBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        LinkedList<Employee> source = new LinkedList<>();
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < count; i++) {
+            int id = 100_000 + random.nextInt(count / 2 + 1);
+            source.add(new Employee("First" + id, "Last" + id, id));
+        }
+
+        System.out.printf("%-26s %12s %18s%n", "implementation", "ms", "bytes/employee");
+        report("HashMap<Integer,Employee>", source, false);
+        report("IntIntHashMap", source, true);
+    }
+
+    private static void report(String name, LinkedList<Employee> source, boolean primitive) {
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            LinkedList<Employee> employees = new LinkedList<>(source);
+            long threadId = Thread.currentThread().getId();
+            long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            if (primitive) {
+                Main.removeDuplicates(employees);
+            } else {
+                removeDuplicatesBoxed(employees);
+            }
+            long nanos = System.nanoTime() - start;
+            long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+            if (round >= WARMUP_ROUNDS) {
+                bestNanos = Math.min(bestNanos, nanos);
+                bestBytes = Math.min(bestBytes, bytes);
+            }
+        }
+        System.out.printf("%-26s %12.1f %18.1f%n", name, bestNanos / 1e6, bestBytes / (double) source.size());
+    }
+
+    /**
+     * The original HashMap<Integer, Employee> version, kept as the baseline.
+     */
+    private static int removeDuplicatesBoxed(LinkedList<Employee> employees) {
+        HashMap<Integer, Employee> hashtable = new HashMap<Integer, Employee>();
+        Iterator<Employee> iterator = employees.iterator();
+        int removed = 0;
+        while (iterator.hasNext()) {
+            Employee employee = iterator.next();
+            if (hashtable.containsKey(employee.getId())) {
+                iterator.remove();
+                removed++;
+            } else {
+                hashtable.put(employee.getId(), employee);
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,260 @@
+package academy.learnprogramming.hashtableschallenge;
+
+import java.util.Arrays;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════
+ * INT-INT HASH MAP - A HashMap<Integer, Integer> Without the Boxes
+ * ═══════════════════════════════════════════════════════════════════════════
+ *
+ * Maps int keys to int values using two plain int[] arrays and open
+ * addressing (linear probing), so put/get never allocate an Integer.
+ *
+ * WHY NOT HashMap<Integer, ...>?
+ * ------------------------------
+ * Every entry of a java.util.HashMap is a Node object (32+ bytes) that points
+ * to a boxed Integer key (16 bytes) - roughly 50+ bytes and several pointer
+ * hops for one 4-byte id. Here one entry is just 8 bytes: keys[i] and
+ * values[i], sitting next to each other in memory.
+ *
+ * HOW EMPTY SLOTS ARE MARKED:
+ * ---------------------------
+ * A slot whose key is 0 is EMPTY. The real key 0 is therefore stored
+ * separately (hasZeroKey / zeroValue), so every int can still be a key.
+ *
+ * REMOVAL:
+ * --------
+ * remove() uses BACKWARD SHIFT: entries after the removed one slide back if
+ * that brings them closer to their home slot, so no tombstones are needed.
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class IntIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int missingValue;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * @param expectedSize number of entries to make room for up front
+     * @param missingValue value returned by get() for keys that are not present
+     */
+    public IntIntHashMap(int expectedSize, int missingValue) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal size: " + expectedSize);
+        }
+        this.missingValue = missingValue;
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * @return the value for {@code key}, or the missing value given to the constructor
+     */
+    public int get(int key) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+        int index = indexOf(key);
+        return index < 0 ? missingValue : values[index];
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * Stores {@code value} under {@code key}.
+     *
+     * @return the previous value, or the missing value if the key was new
+     */
+    public int put(int key, int value) {
+        if (key == 0) {
+            int previous = hasZeroKey ? zeroValue : missingValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int index = mix(key) & mask;
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * Stores {@code value} only if {@code key} is not present yet - the
+     * "have I seen this id before?" check and the insert in one probe.
+     *
+     * @return true if the key was added, false if it was already present
+     */
+    public boolean putIfAbsent(int key, int value) {
+        if (key == 0) {
+            if (hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = true;
+            zeroValue = value;
+            size++;
+            return true;
+        }
+        int index = mix(key) & mask;
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * @return the removed value, or the missing value if the key was not present
+     */
+    public int remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return missingValue;
+        }
+        int removed = values[index];
+        shiftBack(index);
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return all keys in no particular order (a new array of length size())
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int count = 0;
+        if (hasZeroKey) {
+            result[count++] = 0;
+        }
+        for (int k : keys) {
+            if (k != 0) {
+                result[count++] = k;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Empties the map but keeps its arrays for reuse.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    private int indexOf(int key) {
+        int index = mix(key) & mask;
+        int k;
+        while ((k = keys[index]) != 0) {
+            if (k == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Fills the hole at {@code gap} by moving back any later entry whose home
+     * slot is not between the gap and its current position.
+     */
+    private void shiftBack(int gap) {
+        int index = (gap + 1) & mask;
+        int k;
+        while ((k = keys[index]) != 0) {
+            int home = mix(k) & mask;
+            boolean canMove = gap <= index ? (home <= gap || home > index) : (home <= gap && home > index);
+            if (canMove) {
+                keys[gap] = k;
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int k = oldKeys[i];
+            if (k != 0) {
+                int index = mix(k) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = k;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Employee ids are often sequential (1001, 1002, ...). Multiplying by the
+     * golden-ratio constant and folding the high bits down spreads them over
+     * the whole table instead of one dense run.
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -35,16 +35,15 @@ import java.util.*;
  * 
  * TIME COMPLEXITY: O(n)
  * -------------------
- * - First loop (with iterator): O(n) - visit each employee once
- * - HashMap.containsKey(): O(1) average case
- * - Second loop (removing): O(m) where m = number of duplicates
- * - Total: O(n + m) = O(n) since m ≤ n
+ * - One loop (with iterator): O(n) - visit each employee once
+ * - Map lookup + insert: O(1) average case
+ * - iterator.remove() on a LinkedList: O(1)
+ * - Total: O(n)
  * 
  * SPACE COMPLEXITY: O(n)
  * --------------------
- * - HashMap stores at most n unique employees: O(n)
- * - List to track duplicates: O(m) where m is number of duplicates
- * - Total: O(n + m) = O(n)
+ * - The map stores at most n unique employee IDs: O(n)
+ * - Duplicates are removed while iterating, so no removal list is needed
  * 
  * WHY THIS SOLUTION IS OPTIMAL:
  * ----------------------------
@@ -55,14 +54,21 @@ import java.util.*;
  * 
  * ALGORITHM STEPS:
  * ---------------
- * 1. Create a HashMap to track seen employees (by ID)
- * 2. Create a list to track which employees are duplicates
- * 3. Iterate through the LinkedList using an iterator
- * 4. For each employee:
- *    - If ID already in HashMap → it's a duplicate, add to removal list
- *    - If ID not in HashMap → it's unique, add to HashMap
- * 5. Remove all employees in the removal list from LinkedList
- * 6. Print the cleaned list
+ * 1. Create a map to track seen employee IDs
+ * 2. Iterate through the LinkedList using an iterator
+ * 3. For each employee:
+ *    - If ID already in the map → it's a duplicate, iterator.remove() it
+ *    - If ID not in the map → it's unique, add it to the map
+ * 4. Print the cleaned list
+ * 
+ * WHICH MAP? IntIntHashMap INSTEAD OF HashMap<Integer, Employee>:
+ * --------------------------------------------------------------
+ * The IDs are plain ints. A HashMap<Integer, Employee> boxes every ID into
+ * an Integer and wraps every entry in a Node object - around 50 bytes of
+ * garbage per employee. IntIntHashMap (ID → position of first occurrence)
+ * keeps the IDs in an int[] and allocates nothing per employee, which
+ * matters once the list has millions of entries.
+ * See DedupeAllocationBenchmark for measured bytes per employee.
  * 
  * VISUALIZATION:
  * --------------
@@ -116,6 +122,11 @@ import java.util.*;
  *    - Use distinct() with custom comparator
  *    - Trade-off: More concise but less control
  * 
+ * 5. Streaming (StreamingDeduplicator):
+ *    - Bloom filter pre-check + exact ID set that spills to disk
+ *    - Time: O(n), Space: bounded by a fixed memory budget
+ *    - Trade-off: for feeds too big for memory; a little slower per record
+ * 
  * WHY OUR APPROACH IS BETTER:
  * --------------------------
  * - Maintains original order (first occurrence kept)
@@ -155,47 +166,10 @@ public class Main {
         // Uncomment to see the list WITH duplicates:
 //        employees.forEach(e -> System.out.println(e));
 
-        // STEP 2: Create a HashMap to track which employees we've seen
-        // Key: Employee ID (Integer)
-        // Value: Employee object
-        // This allows us to quickly check "Have we seen this ID before?"
-        HashMap<Integer, Employee> hashtable = new HashMap<Integer, Employee>();
-        
-        // STEP 3: Create an iterator to safely traverse the LinkedList
-        // We use an iterator (not a for-loop) because we might modify
-        // the list while iterating
-        ListIterator<Employee> iterator = employees.listIterator();
-        
-        // STEP 4: Create a list to store employees that need to be removed
-        // We can't remove directly while iterating (would cause ConcurrentModificationException)
-        List<Employee> remove = new ArrayList<>();
-
-        // STEP 5: First pass - identify duplicates
-        while(iterator.hasNext()){
-            Employee employee = iterator.next();  // Get next employee
+        // STEP 2: Remove the duplicates (see removeDuplicates below)
+        removeDuplicates(employees);
 
-            // Check if we've already seen this employee ID
-            if(hashtable.containsKey(employee.getId())){
-                // DUPLICATE FOUND!
-                // This employee's ID is already in our HashMap
-                // Add this duplicate to our removal list
-                remove.add(employee);
-            }
-            else{
-                // FIRST TIME seeing this ID
-                // Add the employee to our HashMap
-                // This will help us detect duplicates later
-                hashtable.put(employee.getId(), employee);
-            }
-        }
-
-        // STEP 6: Second pass - remove all duplicates
-        // Now we safely remove all employees marked as duplicates
-        for(Employee employee: remove){
-            employees.remove(employee);  // Remove from the LinkedList
-        }
-
-        // STEP 7: Print the cleaned list (no duplicates!)
+        // STEP 3: Print the cleaned list (no duplicates!)
         // Now the list only contains unique employees (by ID)
         employees.forEach(e -> System.out.println(e));
 
@@ -216,6 +190,39 @@ public class Main {
 //        }
     }
 
+    /**
+     * REMOVE DUPLICATES - Keep the First Employee for Each ID
+     * =======================================================
+     * 
+     * One pass over the list:
+     * - putIfAbsent() checks "have we seen this ID?" and records it in a
+     *   single probe of the IntIntHashMap (value = position of first occurrence)
+     * - A duplicate is removed right away with iterator.remove(), which is
+     *   O(1) on a LinkedList - no second pass and no list of removals
+     * 
+     * @param employees the list to clean (modified in place)
+     * @return the number of duplicates removed
+     * 
+     * TIME COMPLEXITY: O(n)
+     * SPACE COMPLEXITY: O(u) ints, where u = number of unique IDs
+     */
+    public static int removeDuplicates(LinkedList<Employee> employees) {
+        IntIntHashMap seen = new IntIntHashMap(employees.size(), -1);
+        Iterator<Employee> iterator = employees.iterator();
+        int position = 0;
+        int removed = 0;
+        while (iterator.hasNext()) {
+            Employee employee = iterator.next();
+            if (!seen.putIfAbsent(employee.getId(), position)) {
+                // DUPLICATE FOUND! This ID is already in our map
+                iterator.remove();
+                removed++;
+            }
+            position++;
+        }
+        return removed;
+    }
+
     /*
      * HASH FUNCTION (from previous challenge)
      * ----------------------------------------
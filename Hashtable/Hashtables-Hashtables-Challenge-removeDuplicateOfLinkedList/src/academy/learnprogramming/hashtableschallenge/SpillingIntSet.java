@@ -0,0 +1,248 @@
+package academy.learnprogramming.hashtableschallenge;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════
+ * SPILLING INT SET - An Exact Set of IDs That Moves to Disk When Memory Is Full
+ * ═══════════════════════════════════════════════════════════════════════════
+ *
+ * New IDs go into an in-memory IntIntHashMap. When it holds maxInMemory IDs
+ * (the memory budget), they are SORTED and written to a "run" file, and the
+ * map is emptied for the next batch:
+ *
+ *   memory: {88, 5, 203}        → full → spill
+ *   run 0 : [5, 88, 203]  (sorted ints on disk)
+ *   memory: {}                  → keeps filling
+ *
+ * contains() checks memory first, then binary-searches each run. Runs are
+ * memory-mapped read-only, so the operating system keeps the hot pages in
+ * its page cache and the Java heap stays at the budget.
+ *
+ * Too many runs make every lookup slower, so once there are more than
+ * MAX_RUNS the smallest ones are merged into one (a k-way merge of sorted
+ * files) - as many as fit in a single mapping.
+ *
+ * Run files get unique temporary names in spillDirectory, so several sets
+ * (or a rerun) can share a directory; close() deletes them.
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class SpillingIntSet implements Closeable {
+
+    /** Runs kept before they are merged into one. */
+    static final int MAX_RUNS = 8;
+
+    /** A single mapping is limited to 2GB, i.e. this many ints. */
+    private static final int MAX_RUN_LENGTH = Integer.MAX_VALUE / 4;
+
+    private final int maxInMemory;
+    private final Path spillDirectory;
+    private final IntIntHashMap memory;
+    private final List<Run> runs = new ArrayList<>();
+
+    private long size;
+    private int spills;
+    private long diskLookups;
+
+    /**
+     * @param maxInMemory number of IDs kept on the heap before spilling
+     * @param spillDirectory where run files are written (deleted by close())
+     */
+    public SpillingIntSet(int maxInMemory, Path spillDirectory) {
+        if (maxInMemory <= 0) {
+            throw new IllegalArgumentException("Illegal memory budget: " + maxInMemory);
+        }
+        this.maxInMemory = maxInMemory;
+        this.spillDirectory = spillDirectory;
+        this.memory = new IntIntHashMap(maxInMemory, 0);
+    }
+
+    /**
+     * @return true if the ID was added, false if it was already in the set
+     */
+    public boolean add(int id) {
+        if (memory.containsKey(id) || onDisk(id)) {
+            return false;
+        }
+        addAbsent(id);
+        return true;
+    }
+
+    /**
+     * Adds an ID the caller already KNOWS is not in the set (for example
+     * because a Bloom filter ruled it out), skipping the lookup - and with
+     * it every disk search.
+     */
+    public void addAbsent(int id) {
+        memory.put(id, 1);
+        size++;
+        if (memory.size() >= maxInMemory) {
+            spill();
+        }
+    }
+
+    public boolean contains(int id) {
+        return memory.containsKey(id) || onDisk(id);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return how many times the in-memory part was written to disk
+     */
+    public int spillCount() {
+        return spills;
+    }
+
+    /**
+     * @return how many binary searches of run files were made
+     */
+    public long diskLookups() {
+        return diskLookups;
+    }
+
+    /**
+     * Deletes all run files.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Run run : runs) {
+            Files.deleteIfExists(run.file);
+        }
+        runs.clear();
+    }
+
+    private boolean onDisk(int id) {
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            Run run = runs.get(i);
+            if (id >= run.min && id <= run.max) {
+                diskLookups++;
+                if (run.contains(id)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void spill() {
+        int[] ids = memory.keys();
+        Arrays.sort(ids);
+        memory.clear();
+        spills++;
+        try {
+            Path file = Files.createTempFile(spillDirectory, "dedupe-run-", ".ints");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+                for (int id : ids) {
+                    out.writeInt(id);
+                }
+            }
+            runs.add(new Run(file, ids.length));
+            if (runs.size() > MAX_RUNS) {
+                mergeRuns();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill IDs to " + spillDirectory, e);
+        }
+    }
+
+    /**
+     * Merges the smallest runs - as many as fit in one mapping - into one
+     * sorted file: each step writes the smallest current head among them
+     * and advances that run.
+     *
+     * Runs too big to merge further hold over MAX_RUN_LENGTH / 2 distinct
+     * ints each, and there are only 2^32 ints, so at most 16 of them can
+     * pile up: the run count stays bounded.
+     */
+    private void mergeRuns() throws IOException {
+        List<Run> merged = new ArrayList<>(runs);
+        merged.sort((a, b) -> Integer.compare(a.length, b.length));
+        long total = 0;
+        int count = 0;
+        while (count < merged.size() && total + merged.get(count).length <= MAX_RUN_LENGTH) {
+            total += merged.get(count++).length;
+        }
+        if (count < 2) {
+            return;  // Even the two smallest runs would not fit one mapping
+        }
+        merged = merged.subList(0, count);
+
+        Path file = Files.createTempFile(spillDirectory, "dedupe-run-", ".ints");
+        int[] heads = new int[count];
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            for (long written = 0; written < total; written++) {
+                int smallest = -1;
+                for (int r = 0; r < heads.length; r++) {
+                    Run run = merged.get(r);
+                    if (heads[r] < run.length
+                            && (smallest < 0 || run.ids.get(heads[r]) < merged.get(smallest).ids.get(heads[smallest]))) {
+                        smallest = r;
+                    }
+                }
+                out.writeInt(merged.get(smallest).ids.get(heads[smallest]++));
+            }
+        }
+        for (Run run : merged) {
+            runs.remove(run);
+            Files.deleteIfExists(run.file);
+        }
+        runs.add(new Run(file, (int) total));
+    }
+
+    /**
+     * One sorted file of IDs, mapped read-only.
+     */
+    private static final class Run {
+        final Path file;
+        final int length;
+        final IntBuffer ids;
+        final int min;
+        final int max;
+
+        Run(Path file, int length) throws IOException {
+            this.file = file;
+            this.length = length;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                this.ids = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) length * 4).asIntBuffer();
+            }
+            this.min = length == 0 ? 0 : ids.get(0);
+            this.max = length == 0 ? -1 : ids.get(length - 1);
+        }
+
+        boolean contains(int id) {
+            int low = 0;
+            int high = length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int value = ids.get(mid);
+                if (value < id) {
+                    low = mid + 1;
+                } else if (value > id) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package academy.learnprogramming.hashtableschallenge;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Random;
+
+/*
+ * ═══════════════════════════════════════════════════════════════════════════
+ * STREAMING DEDUPE BENCHMARK - Throughput and False Positives vs Memory Budget
+ * ═══════════════════════════════════════════════════════════════════════════
+ *
+ * Streams a generated feed of employees (about half are repeats) through
+ * StreamingDeduplicator with a shrinking heap budget for the exact set:
+ * everything in memory, 1/4 of the unique IDs, and 1/20. Smaller budgets
+ * mean more spills and more disk lookups; the Bloom filter keeps the fast
+ * path the same.
+ *
+ * The feed is produced lazily by an Iterator, so the employees themselves
+ * are never all in memory. A final run dedupes the same feed from a CSV
+ * file. Each run prints StreamingDeduplicator.statistics().
+ *
+ * HOW TO RUN:
+ *   java academy.learnprogramming.hashtableschallenge.StreamingDedupeBenchmark [records]
+ * ═══════════════════════════════════════════════════════════════════════════
+ */
+public class StreamingDedupeBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        int idRange = records / 2;
+        Path spillDirectory = Files.createTempDirectory("dedupe-spill");
+
+        int[] budgets = {idRange, idRange / 4, idRange / 20};
+        for (int budget : budgets) {
+            System.out.printf("── Iterator, exact set budget %,d IDs ──%n", budget);
+            try (StreamingDeduplicator dedupe = new StreamingDeduplicator(idRange, 0.01, budget, spillDirectory)) {
+                Iterator<Employee> unique = dedupe.dedupe(feed(records, idRange));
+                long count = 0;
+                while (unique.hasNext()) {
+                    unique.next();
+                    count++;
+                }
+                System.out.println("emitted=" + count);
+                System.out.println(dedupe.statistics());
+            }
+        }
+
+        Path input = spillDirectory.resolve("feed.csv");
+        Path output = spillDirectory.resolve("unique.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(input, StandardCharsets.UTF_8)) {
+            Iterator<Employee> employees = feed(records, idRange);
+            while (employees.hasNext()) {
+                Employee employee = employees.next();
+                writer.write(employee.getFirstName() + "," + employee.getLastName() + "," + employee.getId());
+                writer.newLine();
+            }
+        }
+        System.out.printf("── File, exact set budget %,d IDs ──%n", idRange / 20);
+        try (StreamingDeduplicator dedupe = new StreamingDeduplicator(idRange, 0.01, idRange / 20, spillDirectory)) {
+            System.out.println("written=" + dedupe.dedupe(input, output));
+            System.out.println(dedupe.statistics());
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(spillDirectory);
+        }
+    }
+
+    /**
+     * Generates {@code records} employees with random IDs from
+     * [100000, 100000 + idRange), one at a time.
+     */
+    private static Iterator<Employee> feed(int records, int idRange) {
+        Random random = new Random(42);
+        return new Iterator<Employee>() {
+            private int produced;
+
+            @Override
+            public boolean hasNext() {
+                return produced < records;
+            }
+
+            @Override
+            public Employee next() {
+                produced++;
+                int id = 100_000 + random.nextInt(idRange);
+                return new Employee("First" + id, "Last" + id, id);
+            }
+        };
+    }
+}
@@ -0,0 +1,234 @@
+package academy.learnprogramming.hashtableschallenge;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * ═══════════════════════════════════════════════════════════════════════════
+ * STREAMING DEDUPLICATOR - Remove Duplicate Employees in One Pass, Bounded Memory
+ * ═══════════════════════════════════════════════════════════════════════════
+ *
+ * Main.removeDuplicates needs the whole LinkedList AND every ID in memory.
+ * A nightly feed of hundreds of millions of employees fits neither, so this
+ * version STREAMS: employees come from an Iterator or a file, each one is
+ * checked once, and unique ones are passed straight on (first occurrence
+ * wins, order is kept).
+ *
+ * TWO-LEVEL CHECK:
+ * ----------------
+ *   id ──► BloomFilter.mightContain(id)?
+ *            │ no  → definitely NEW. Add to both, emit. (fast path, no exact lookup)
+ *            │ yes → ask the exact SpillingIntSet:
+ *                      present → DUPLICATE, drop it
+ *                      absent  → Bloom FALSE POSITIVE; it is new, add + emit
+ *
+ * Most new IDs take the fast path, so the exact set - which may have to
+ * binary-search run files on disk - is only consulted for real duplicates
+ * and the small fraction of false positives.
+ *
+ * BOUNDED MEMORY:
+ * ---------------
+ * - Bloom filter: ~10 bits per expected ID at 1% false positives
+ * - Exact set: at most maxIdsInMemory IDs on the heap; the rest are spilled
+ *   to sorted run files in spillDirectory (see SpillingIntSet)
+ *
+ * STATISTICS:
+ * -----------
+ * statistics() reports records/sec and how often the Bloom filter said
+ * "maybe" for an ID that turned out to be new (observed false-positive
+ * rate), next to the rate the filter was sized for. The observed rate is
+ * lower than the "expected" one, which is computed for the FINAL fill: early
+ * IDs were checked against a mostly empty filter.
+ *
+ * FILE FORMAT:
+ * ------------
+ * One employee per line: firstName,lastName,id
+ *
+ * HOW TO USE:
+ *   try (StreamingDeduplicator dedupe = new StreamingDeduplicator(
+ *            100_000_000, 0.01, 10_000_000, Paths.get("/tmp"))) {
+ *       dedupe.dedupe(Paths.get("feed.csv"), Paths.get("unique.csv"));
+ *       System.out.println(dedupe.statistics());
+ *   }
+ * ═══════════════════════════════════════════════════════════════════════════
+ */
+public class StreamingDeduplicator implements Closeable {
+
+    private final BloomFilter bloom;
+    private final SpillingIntSet exact;
+    private final double targetFalsePositiveRate;
+
+    private long records;
+    private long duplicates;
+    private long bloomMaybes;
+    private long falsePositives;
+    private long busyNanos;
+
+    /**
+     * @param expectedIds number of UNIQUE IDs the Bloom filter is sized for
+     * @param falsePositiveRate target Bloom filter false-positive rate, e.g. 0.01
+     * @param maxIdsInMemory IDs kept on the heap before the exact set spills to disk
+     * @param spillDirectory where spill files go (they are deleted by close())
+     */
+    public StreamingDeduplicator(long expectedIds, double falsePositiveRate, int maxIdsInMemory, Path spillDirectory) {
+        this.bloom = new BloomFilter(expectedIds, falsePositiveRate);
+        this.exact = new SpillingIntSet(maxIdsInMemory, spillDirectory);
+        this.targetFalsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Records the ID.
+     *
+     * @return true the first time an ID is seen, false for every repeat
+     */
+    public boolean firstOccurrence(int id) {
+        long start = System.nanoTime();
+        boolean first = record(id);
+        busyNanos += System.nanoTime() - start;
+        return first;
+    }
+
+    /** firstOccurrence without the timing - the dedupe methods time whole batches. */
+    private boolean record(int id) {
+        records++;
+        if (!bloom.mightContain(id)) {
+            bloom.add(id);
+            exact.addAbsent(id);
+            return true;
+        }
+        bloomMaybes++;
+        if (exact.add(id)) {
+            falsePositives++;  // The Bloom filter said "maybe", but the ID was new
+            return true;
+        }
+        duplicates++;
+        return false;
+    }
+
+    /**
+     * Wraps {@code employees} in an iterator that skips every employee whose
+     * ID was already seen. Nothing is buffered: each call to next() pulls
+     * from the source until it finds a new ID.
+     */
+    public Iterator<Employee> dedupe(Iterator<Employee> employees) {
+        return new Iterator<Employee>() {
+            private Employee next;
+
+            @Override
+            public boolean hasNext() {
+                long start = System.nanoTime();
+                while (next == null && employees.hasNext()) {
+                    Employee candidate = employees.next();
+                    if (record(candidate.getId())) {
+                        next = candidate;
+                    }
+                }
+                busyNanos += System.nanoTime() - start;
+                return next != null;
+            }
+
+            @Override
+            public Employee next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Employee result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Copies every line of {@code input} whose ID is seen for the first time
+     * to {@code output}, in one pass.
+     *
+     * @return the number of lines written
+     * @throws IOException if a file cannot be read or written
+     * @throws NumberFormatException if a line's ID is not an int
+     */
+    public long dedupe(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        long written = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                int id = Integer.parseInt(line.substring(line.lastIndexOf(',') + 1).trim());
+                if (record(id)) {
+                    writer.write(line);
+                    writer.newLine();
+                    written++;
+                }
+            }
+        } finally {
+            busyNanos += System.nanoTime() - start;
+        }
+        return written;
+    }
+
+    public long records() {
+        return records;
+    }
+
+    public long uniqueCount() {
+        return records - duplicates;
+    }
+
+    public long duplicates() {
+        return duplicates;
+    }
+
+    public long falsePositives() {
+        return falsePositives;
+    }
+
+    /**
+     * @return the share of NEW IDs for which the Bloom filter wrongly said "maybe"
+     */
+    public double observedFalsePositiveRate() {
+        long unique = uniqueCount();
+        return unique == 0 ? 0 : (double) falsePositives / unique;
+    }
+
+    /**
+     * @return records per second over the time spent inside dedupe(...)
+     *         and firstOccurrence()
+     */
+    public double throughput() {
+        return busyNanos == 0 ? 0 : records * 1e9 / busyNanos;
+    }
+
+    public String statistics() {
+        return String.format(
+                "records=%d unique=%d duplicates=%d%n"
+                        + "throughput=%.0f records/sec%n"
+                        + "bloom: bits=%d hashes=%d maybe=%d falsePositives=%d%n"
+                        + "false-positive rate: observed=%.4f%% expected=%.4f%% target=%.4f%%%n"
+                        + "exact set: spills=%d diskLookups=%d",
+                records, uniqueCount(), duplicates,
+                throughput(),
+                bloom.bitCount(), bloom.hashCount(), bloomMaybes, falsePositives,
+                observedFalsePositiveRate() * 100, bloom.expectedFalsePositiveRate(uniqueCount()) * 100,
+                targetFalsePositiveRate * 100,
+                exact.spillCount(), exact.diskLookups());
+    }
+
+    /**
+     * Deletes the spill files.
+     */
+    @Override
+    public void close() throws IOException {
+        exact.close();
+    }
+}
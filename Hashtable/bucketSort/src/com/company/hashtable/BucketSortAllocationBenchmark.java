@@ -0,0 +1,99 @@
+package com.company.hashtable;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ========================================================================
+ * BUCKET SORT ALLOCATION BENCHMARK - List<Integer> vs IntArrayList buckets
+ * ========================================================================
+ *
+ * Sorts the same random 2-digit data with the original boxed buckets
+ * (List<Integer>[] + Collections.sort) and with Main.bucketSort (IntArrayList
+ * buckets), and reports time and BYTES ALLOCATED PER ELEMENT.
+ *
+ * Allocation is read from the JVM's per-thread allocation counter
+ * (com.sun.management.ThreadMXBean#getThreadAllocatedBytes) - the same
+ * counter JMH's GC profiler ("-prof gc", gc.alloc.rate.norm) is based on.
+ *
+ * NOTE: bucketSort only handles 2-digit values, and 0..99 are inside the
+ * JVM's Integer cache, so the boxed numbers here UNDERSTATE the cost of
+ * boxing larger values (those allocate a 16-byte Integer each on top).
+ *
+ * HOW TO RUN:
+ * -----------
+ * java com.company.hashtable.BucketSortAllocationBenchmark [elements]
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class BucketSortAllocationBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int[] source = new int[count];
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            source[i] = random.nextInt(100);
+        }
+
+        System.out.printf("%-22s %12s %18s%n", "buckets", "ms", "bytes/element");
+        report("List<Integer>", source, false);
+        report("IntArrayList", source, true);
+    }
+
+    private static void report(String name, int[] source, boolean primitive) {
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            int[] input = source.clone();
+            long threadId = Thread.currentThread().getId();
+            long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            if (primitive) {
+                Main.bucketSort(input);
+            } else {
+                boxedBucketSort(input);
+            }
+            long nanos = System.nanoTime() - start;
+            long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+            if (round >= WARMUP_ROUNDS) {
+                bestNanos = Math.min(bestNanos, nanos);
+                bestBytes = Math.min(bestBytes, bytes);
+            }
+        }
+        System.out.printf("%-22s %12.1f %18.1f%n", name, bestNanos / 1e6, bestBytes / (double) source.length);
+    }
+
+    /**
+     * The original List<Integer>[] version of Main.bucketSort, kept as the baseline.
+     */
+    private static void boxedBucketSort(int[] input) {
+        @SuppressWarnings("unchecked")
+        List<Integer>[] buckets = (List<Integer>[]) new List<?>[10];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ArrayList<Integer>();
+        }
+        for (int value : input) {
+            buckets[value / 10 % 10].add(value);
+        }
+        for (List<Integer> bucket : buckets) {
+            Collections.sort(bucket);
+        }
+        int j = 0;
+        for (List<Integer> bucket : buckets) {
+            for (int value : bucket) {
+                input[j++] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.company.hashtable;
+
+import java.util.Arrays;
+
+/**
+ * ========================================================================
+ * INT ARRAY LIST - A Growable List of Primitive ints
+ * ========================================================================
+ *
+ * Like ArrayList<Integer>, but the values live directly in an int[].
+ *
+ * WHY NOT ArrayList<Integer>?
+ * ---------------------------
+ * ArrayList<Integer> stores REFERENCES to Integer objects ("boxing"):
+ * - every add() of a value outside -128..127 allocates a 16-byte Integer
+ * - the list itself holds a 4-8 byte pointer per value
+ * - reading a value means following that pointer somewhere else in memory
+ * So one 4-byte int costs ~20-24 bytes and a cache miss.
+ *
+ * IntArrayList keeps the ints side by side in one array: 4 bytes per value,
+ * no allocation per add(), and sequential reads the CPU can prefetch.
+ *
+ *   ArrayList<Integer>:  [ref][ref][ref] → Integer(54)  Integer(46)  Integer(83)
+ *   IntArrayList:        [54][46][83]
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of values to make room for up front
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = new int[initialCapacity];
+    }
+
+    /**
+     * Appends a value, growing the array by 1.5x when it is full.
+     *
+     * TIME COMPLEXITY: O(1) amortized, no allocation unless the array grows
+     */
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if index is not in [0, size)
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[index];
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if index is not in [0, size)
+     */
+    public void set(int index, int value) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Forgets all values but keeps the array, so the list can be refilled
+     * without allocating.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the values in place with Arrays.sort(int[]) - a primitive
+     * dual-pivot quicksort, no boxing and no Comparator calls.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Copies the values into {@code target} starting at {@code offset}.
+     *
+     * @return the index just after the last value written
+     */
+    public int copyTo(int[] target, int offset) {
+        System.arraycopy(elements, 0, target, offset, size);
+        return offset + size;
+    }
+
+    /**
+     * Makes sure at least {@code minCapacity} values fit without growing.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -1,8 +1,5 @@
 package com.company.hashtable;
 
-
-import java.util.*;
-
 /**
  * ========================================================================
  * BUCKET SORT - Using Hash Tables for Sorting!
@@ -161,38 +158,31 @@ public class Main {
      * - Overall: O(n + k) average case
      * 
      * SPACE COMPLEXITY: O(n + k)
-     * - k buckets (ArrayList objects)
-     * - n items stored across buckets
+     * - k buckets (IntArrayList objects)
+     * - n items stored across buckets, 4 bytes each (no Integer boxing)
      */
     public static void bucketSort(int[] input){
-        // Note: This uses List interface - can hold any list type!
-        // List is the parent interface of ArrayList, LinkedList, Vector, etc.
-        // This makes the code flexible!
-        
         // ===================================================================
         // STEP 1: CREATE BUCKETS
         // ===================================================================
         // Create an array of 10 lists (one for each digit 0-9)
-        // We use List interface so we can choose implementation later
         
-        List<Integer>[] buckets = new List[10];
+        IntArrayList[] buckets = new IntArrayList[10];
         
-        // Initialize each bucket as an ArrayList
-        // ArrayList is chosen because:
-        // - Fast random access for sorting
+        // Initialize each bucket as an IntArrayList
+        // IntArrayList is chosen because:
+        // - Values are stored as plain ints - no Integer object per value
         // - Dynamic size (can grow as needed)
         // - Good for sequential access during gathering
+        // Pre-size for an even spread so most buckets never have to grow.
+        int expectedPerBucket = input.length / buckets.length + 1;
         for(int i =0;i<buckets.length;i++){
-            buckets[i] = new ArrayList<Integer>();  // Create empty ArrayList
-            
-            // ALTERNATIVES (commented out):
-            // You could use LinkedList instead:
-            // buckets[i] = new LinkedList<Integer>();
-            // Better for frequent insertions, but slower to sort
+            buckets[i] = new IntArrayList(expectedPerBucket);  // Create empty list
             
-            // Or Vector (thread-safe but slower):
-            // buckets[i] = new Vector<Integer>();
-            // Use if multiple threads access same bucket
+            // ALTERNATIVE (the original version):
+            // buckets[i] = new ArrayList<Integer>();
+            // Every add() then boxes the int into an Integer object,
+            // costing ~5x the memory and an extra pointer hop per read
         }
 
         // ===================================================================
@@ -215,11 +205,11 @@ public class Main {
         // ===================================================================
         // STEP 3: SORTING - Sort each bucket individually
         // ===================================================================
-        // Collections.sort() uses an optimized sorting algorithm
-        // (Timsort - combination of merge sort and insertion sort)
+        // IntArrayList.sort() uses Arrays.sort(int[]) - a dual-pivot
+        // quicksort on the raw ints, with no boxing or Comparator calls
         
         for(int i =0;i<buckets.length;i++){
-            Collections.sort(buckets[i]);
+            buckets[i].sort();
         }
         
         // This sorts each bucket in place:
@@ -244,10 +234,8 @@ public class Main {
         
         // For each bucket (in order 0, 1, 2, ..., 9)
         for(int i =0;i<buckets.length;i++){
-            // For each item in this bucket
-            for(int value: buckets[i]){  // Enhanced for loop
-                input[j++] = value;  // Place item in array, increment index
-            }
+            // Copy the whole bucket in one System.arraycopy
+            j = buckets[i].copyTo(input, j);  // Returns the next free index
         }
         
         // Example gathering:
@@ -461,7 +449,7 @@ public class Main {
  *     bucket[9] = []
  *     
  *     Now we must sort the entire array in one bucket!
- *     - Collections.sort() uses Timsort: O(n log n)
+ *     - Arrays.sort() on that one bucket: O(n log n)
  *     - No benefit from bucketing
  *     - Wasted time creating buckets!
  *     
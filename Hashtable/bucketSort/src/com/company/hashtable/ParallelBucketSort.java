@@ -0,0 +1,314 @@
+package com.company.hashtable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ========================================================================
+ * PARALLEL BUCKET SORT - Sample-Sized Buckets Sorted on a ForkJoinPool
+ * ========================================================================
+ *
+ * The bucketSort in Main always makes 10 buckets with hash(value) = value / 10,
+ * which only works for evenly spread 2-digit numbers. This engine sorts any
+ * int[] or double[] and scales across all cores.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * 1. SAMPLE: pick a few thousand random values, sort them, and take evenly
+ *    spaced ones as SPLITTERS (bucket boundaries). Because the splitters
+ *    come from the data itself, SKEWED inputs still get evenly filled
+ *    buckets - where values are dense, the boundaries are dense too.
+ *    The number of buckets is chosen so one bucket is about TARGET_BUCKET_SIZE
+ *    elements, small enough to be sorted inside the CPU's L2 cache.
+ *
+ * 2. COUNT (parallel): the input is cut into chunks; each chunk finds the
+ *    bucket of each of its values (binary search over the splitters) and
+ *    counts how many go to each bucket.
+ *
+ * 3. SCATTER (parallel): from the counts every chunk knows exactly where its
+ *    values go in one PRE-SIZED primitive array - no lists, no boxing, no
+ *    resizing, and no two chunks ever write the same position.
+ *
+ * 4. SORT (parallel): every bucket is sorted with Arrays.sort on its own
+ *    range and copied back. Buckets are independent, so they are handed out
+ *    as ForkJoin tasks.
+ *
+ * HEAVY DUPLICATES:
+ * -----------------
+ * Every splitter also gets its own EQUALITY bucket holding values exactly
+ * equal to it. If one value makes up half the input (a very common ledger
+ * amount, say), it ends up in a single equality bucket that needs no sorting
+ * at all, instead of one giant bucket.
+ *
+ *   buckets:  [< s0] [= s0] [s0 < x < s1] [= s1] ... [> s(m-1)]
+ *
+ * DOUBLES:
+ * --------
+ * double values are compared through a "sortable" long key whose order is
+ * exactly Double.compare's order (-0.0 before 0.0, NaN last), matching
+ * Arrays.sort(double[]).
+ *
+ * PERFORMANCE:
+ * ------------
+ * - Time: O(n log(n/k)) work, spread over all cores
+ * - Space: n extra elements + 2 bytes per element for bucket ids
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public final class ParallelBucketSort {
+
+    /** Below this size a plain Arrays.sort is faster than any set-up. */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    /** ~32K elements (128-256KB) per bucket fits comfortably in L2 cache. */
+    static final int TARGET_BUCKET_SIZE = 1 << 15;
+
+    /** Splitters are capped so a bucket id always fits in a char. */
+    static final int MAX_SPLITTERS = 4095;
+
+    /** Sample values taken per splitter; more samples = more even buckets. */
+    static final int OVERSAMPLING = 16;
+
+    private ParallelBucketSort() {
+    }
+
+    /**
+     * Sorts the array in ascending order using the common ForkJoinPool.
+     *
+     * @param input the array to sort (modified in place)
+     */
+    public static void sort(int[] input) {
+        sort(input, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts the array in ascending order using the given pool.
+     *
+     * @param input the array to sort (modified in place)
+     * @param pool the pool that runs the parallel phases
+     */
+    public static void sort(int[] input, ForkJoinPool pool) {
+        int n = input.length;
+        if (n < SEQUENTIAL_THRESHOLD) {
+            Arrays.sort(input);
+            return;
+        }
+        long[] sample = new long[sampleSize(n)];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = input[random.nextInt(n)];
+        }
+        long[] splitters = splitters(sample, n);
+        int buckets = 2 * splitters.length + 1;
+
+        int chunks = chunkCount(n, pool);
+        int[][] counts = new int[chunks][buckets];
+        char[] bucketOf = new char[n];
+        forEach(pool, chunks, chunk -> {
+            int[] count = counts[chunk];
+            for (int i = chunkStart(chunk, chunks, n), end = chunkStart(chunk + 1, chunks, n); i < end; i++) {
+                int b = bucketOf(input[i], splitters);
+                bucketOf[i] = (char) b;
+                count[b]++;
+            }
+        });
+
+        int[] bucketStart = new int[buckets + 1];
+        toOffsets(counts, bucketStart);
+
+        int[] scattered = new int[n];
+        forEach(pool, chunks, chunk -> {
+            int[] next = counts[chunk];
+            for (int i = chunkStart(chunk, chunks, n), end = chunkStart(chunk + 1, chunks, n); i < end; i++) {
+                scattered[next[bucketOf[i]]++] = input[i];
+            }
+        });
+
+        forEach(pool, buckets, b -> {
+            int from = bucketStart[b];
+            int to = bucketStart[b + 1];
+            if ((b & 1) == 0) {
+                Arrays.sort(scattered, from, to);  // Odd buckets hold equal values only
+            }
+            System.arraycopy(scattered, from, input, from, to - from);
+        });
+    }
+
+    /**
+     * Sorts the array in ascending order (Double.compare order) using the
+     * common ForkJoinPool.
+     *
+     * @param input the array to sort (modified in place)
+     */
+    public static void sort(double[] input) {
+        sort(input, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts the array in ascending order (Double.compare order) using the
+     * given pool.
+     *
+     * @param input the array to sort (modified in place)
+     * @param pool the pool that runs the parallel phases
+     */
+    public static void sort(double[] input, ForkJoinPool pool) {
+        int n = input.length;
+        if (n < SEQUENTIAL_THRESHOLD) {
+            Arrays.sort(input);
+            return;
+        }
+        long[] sample = new long[sampleSize(n)];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = sortableKey(input[random.nextInt(n)]);
+        }
+        long[] splitters = splitters(sample, n);
+        int buckets = 2 * splitters.length + 1;
+
+        int chunks = chunkCount(n, pool);
+        int[][] counts = new int[chunks][buckets];
+        char[] bucketOf = new char[n];
+        forEach(pool, chunks, chunk -> {
+            int[] count = counts[chunk];
+            for (int i = chunkStart(chunk, chunks, n), end = chunkStart(chunk + 1, chunks, n); i < end; i++) {
+                int b = bucketOf(sortableKey(input[i]), splitters);
+                bucketOf[i] = (char) b;
+                count[b]++;
+            }
+        });
+
+        int[] bucketStart = new int[buckets + 1];
+        toOffsets(counts, bucketStart);
+
+        double[] scattered = new double[n];
+        forEach(pool, chunks, chunk -> {
+            int[] next = counts[chunk];
+            for (int i = chunkStart(chunk, chunks, n), end = chunkStart(chunk + 1, chunks, n); i < end; i++) {
+                scattered[next[bucketOf[i]]++] = input[i];
+            }
+        });
+
+        forEach(pool, buckets, b -> {
+            int from = bucketStart[b];
+            int to = bucketStart[b + 1];
+            if ((b & 1) == 0) {
+                Arrays.sort(scattered, from, to);
+            }
+            System.arraycopy(scattered, from, input, from, to - from);
+        });
+    }
+
+    /**
+     * Maps a double to a long whose signed order matches Double.compare:
+     * negative numbers have their magnitude bits flipped so that "more
+     * negative" sorts lower. doubleToLongBits folds every NaN into one value.
+     */
+    static long sortableKey(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static int sampleSize(int n) {
+        int wantedBuckets = Math.min(MAX_SPLITTERS + 1, Math.max(2, n / TARGET_BUCKET_SIZE));
+        return Math.min(n, wantedBuckets * OVERSAMPLING);
+    }
+
+    /**
+     * Sorts the sample and takes every OVERSAMPLING-th value as a splitter.
+     * Repeated values are dropped - a value that shows up many times in the
+     * sample becomes ONE splitter with its own equality bucket.
+     */
+    private static long[] splitters(long[] sample, int n) {
+        Arrays.sort(sample);
+        int wanted = Math.min(MAX_SPLITTERS, Math.max(1, n / TARGET_BUCKET_SIZE - 1));
+        long[] splitters = new long[wanted];
+        int count = 0;
+        for (int i = 1; i <= wanted; i++) {
+            long candidate = sample[(int) ((long) i * sample.length / (wanted + 1))];
+            if (count == 0 || splitters[count - 1] != candidate) {
+                splitters[count++] = candidate;
+            }
+        }
+        return Arrays.copyOf(splitters, count);
+    }
+
+    /**
+     * Bucket 2k holds values between splitter k-1 and splitter k;
+     * bucket 2k+1 holds values equal to splitter k.
+     */
+    private static int bucketOf(long key, long[] splitters) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {  // First splitter >= key
+            int mid = (low + high) >>> 1;
+            if (splitters[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < splitters.length && splitters[low] == key ? 2 * low + 1 : 2 * low;
+    }
+
+    /**
+     * Turns per-chunk counts into per-chunk write positions (in place) and
+     * fills bucketStart with where each bucket begins in the output.
+     */
+    private static void toOffsets(int[][] counts, int[] bucketStart) {
+        int position = 0;
+        for (int b = 0; b + 1 < bucketStart.length; b++) {
+            bucketStart[b] = position;
+            for (int[] count : counts) {
+                int c = count[b];
+                count[b] = position;
+                position += c;
+            }
+        }
+        bucketStart[bucketStart.length - 1] = position;
+    }
+
+    private static int chunkCount(int n, ForkJoinPool pool) {
+        return Math.max(1, Math.min(pool.getParallelism() * 4, n / SEQUENTIAL_THRESHOLD));
+    }
+
+    private static int chunkStart(int chunk, int chunks, int n) {
+        return (int) ((long) chunk * n / chunks);
+    }
+
+    /** Body of one parallel step, called once per index. */
+    private interface IndexTask {
+        void run(int index);
+    }
+
+    /** Runs task(0..count-1) on the pool, splitting the range in halves. */
+    private static void forEach(ForkJoinPool pool, int count, IndexTask task) {
+        pool.invoke(new RangeAction(0, count, task));
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IndexTask task;
+
+        RangeAction(int from, int to, IndexTask task) {
+            this.from = from;
+            this.to = to;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                task.run(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, mid, task), new RangeAction(mid, to, task));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.hashtable;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * ========================================================================
+ * PARALLEL BUCKET SORT BENCHMARK - vs Arrays.sort and Arrays.parallelSort
+ * ========================================================================
+ *
+ * Sorts the same data with ParallelBucketSort, Arrays.sort (single thread)
+ * and Arrays.parallelSort, and reports the best time of several rounds.
+ *
+ * DATA SETS:
+ * ----------
+ * - uniform int      : random ints over the whole int range
+ * - skewed int       : 90% of values in 0..999, the rest anywhere
+ * - ledger double    : log-normal "transaction amounts" rounded to cents,
+ *                      where a few amounts (9.99, 100.00) repeat very often
+ *
+ * Speed-up over Arrays.sort depends on the number of cores
+ * (Runtime.availableProcessors is printed).
+ *
+ * HOW TO RUN:
+ * -----------
+ * java com.company.hashtable.ParallelBucketSortBenchmark [elements]
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class ParallelBucketSortBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Random random = new Random(42);
+
+        int[] uniform = new int[count];
+        int[] skewed = new int[count];
+        double[] ledger = new double[count];
+        for (int i = 0; i < count; i++) {
+            uniform[i] = random.nextInt();
+            skewed[i] = random.nextInt(10) == 0 ? random.nextInt() : random.nextInt(1000);
+            int pick = random.nextInt(10);
+            ledger[i] = pick == 0 ? 9.99 : pick == 1 ? 100.00
+                    : Math.round(Math.exp(3 + 1.5 * random.nextGaussian()) * 100) / 100.0;
+        }
+
+        System.out.printf("%d elements, %d cores%n", count, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-16s %18s %18s %18s%n", "data", "ParallelBucket ms", "Arrays.sort ms", "parallelSort ms");
+        System.out.printf("%-16s %18.1f %18.1f %18.1f%n", "uniform int",
+                time(uniform, 0), time(uniform, 1), time(uniform, 2));
+        System.out.printf("%-16s %18.1f %18.1f %18.1f%n", "skewed int",
+                time(skewed, 0), time(skewed, 1), time(skewed, 2));
+        System.out.printf("%-16s %18.1f %18.1f %18.1f%n", "ledger double",
+                time(ledger, 0), time(ledger, 1), time(ledger, 2));
+    }
+
+    private static double time(int[] source, int algorithm) {
+        long best = Long.MAX_VALUE;
+        int[] expected = source.clone();
+        Arrays.sort(expected);
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            int[] input = source.clone();
+            long start = System.nanoTime();
+            if (algorithm == 0) {
+                ParallelBucketSort.sort(input);
+            } else if (algorithm == 1) {
+                Arrays.sort(input);
+            } else {
+                Arrays.parallelSort(input);
+            }
+            long nanos = System.nanoTime() - start;
+            if (!Arrays.equals(expected, input)) {
+                throw new IllegalStateException("Sort produced a wrong result");
+            }
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, nanos);
+            }
+        }
+        return best / 1e6;
+    }
+
+    private static double time(double[] source, int algorithm) {
+        long best = Long.MAX_VALUE;
+        double[] expected = source.clone();
+        Arrays.sort(expected);
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            double[] input = source.clone();
+            long start = System.nanoTime();
+            if (algorithm == 0) {
+                ParallelBucketSort.sort(input);
+            } else if (algorithm == 1) {
+                Arrays.sort(input);
+            } else {
+                Arrays.parallelSort(input);
+            }
+            long nanos = System.nanoTime() - start;
+            if (!Arrays.equals(expected, input)) {
+                throw new IllegalStateException("Sort produced a wrong result");
+            }
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, nanos);
+            }
+        }
+        return best / 1e6;
+    }
+}
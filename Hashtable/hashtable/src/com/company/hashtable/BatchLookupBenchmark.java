@@ -0,0 +1,120 @@
+package com.company.hashtable;
+
+import java.util.Random;
+
+/**
+ * ========================================================================
+ * BATCH LOOKUP BENCHMARK - getAll()/putAll() vs One Key at a Time
+ * ========================================================================
+ *
+ * A request looks up REQUEST_SIZE random employee keys. This harness does
+ * that with a loop of get() calls and with one getAll() call, and loads
+ * tables with a loop of put() vs putAll(), for several table sizes.
+ *
+ * Small tables fit in the CPU cache, so batching gains little there; the
+ * gap should open up once the table is much bigger than the cache, because
+ * that is where getAll() overlaps the cache misses.
+ *
+ * HOW TO RUN:
+ * -----------
+ * java -Xmx8g com.company.hashtable.BatchLookupBenchmark               (1K .. 4M)
+ * java com.company.hashtable.BatchLookupBenchmark 1000 100000          (custom sizes)
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class BatchLookupBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int REQUEST_SIZE = 4_096;
+    private static final int LOOKUPS_PER_ROUND = 4_000_000;
+    private static final int[] DEFAULT_SIZES = {1_000, 64_000, 1_000_000, 4_000_000};
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%-10s %16s %16s %16s %16s%n", "keys",
+                "get() ops/sec", "getAll ops/sec", "put() ops/sec", "putAll ops/sec");
+        for (int n : sizes) {
+            String[] keys = new String[n];
+            Employee[] employees = new Employee[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = "Jones" + i;
+                employees[i] = new Employee("First" + i, keys[i], i);
+            }
+            SimpleHashtable table = new SimpleHashtable(n, 0.75f);
+            table.putAll(keys, employees);
+
+            Random random = new Random(42);
+            String[][] requests = new String[LOOKUPS_PER_ROUND / REQUEST_SIZE][REQUEST_SIZE];
+            for (String[] request : requests) {
+                for (int i = 0; i < REQUEST_SIZE; i++) {
+                    // One in eight keys is a miss
+                    request[i] = random.nextInt(8) == 0 ? "Smith" + random.nextInt(n) : keys[random.nextInt(n)];
+                }
+            }
+
+            System.out.printf("%-10d %,16.0f %,16.0f %,16.0f %,16.0f%n", n,
+                    lookups(table, requests, false), lookups(table, requests, true),
+                    loads(keys, employees, false), loads(keys, employees, true));
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static double lookups(SimpleHashtable table, String[][] requests, boolean batch) {
+        Employee[] out = new Employee[REQUEST_SIZE];
+        double best = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long found = 0;
+            long start = System.nanoTime();
+            for (String[] request : requests) {
+                if (batch) {
+                    found += table.getAll(request, out);
+                } else {
+                    for (int i = 0; i < request.length; i++) {
+                        out[i] = table.get(request[i]);
+                        if (out[i] != null) {
+                            found++;
+                        }
+                    }
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            sink += found;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.max(best, (double) requests.length * REQUEST_SIZE * 1e9 / nanos);
+            }
+        }
+        return best;
+    }
+
+    private static double loads(String[] keys, Employee[] employees, boolean batch) {
+        double best = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            SimpleHashtable table = new SimpleHashtable(keys.length, 0.75f);
+            long start = System.nanoTime();
+            if (batch) {
+                table.putAll(keys, employees);
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    table.put(keys[i], employees[i]);
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            sink += table.size();
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.max(best, keys.length * 1e9 / nanos);
+            }
+        }
+        return best;
+    }
+}
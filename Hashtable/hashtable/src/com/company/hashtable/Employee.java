@@ -38,10 +38,6 @@ public class Employee {
     private String lastName;   // Employee's last name (e.g., "Jones")
     private int id;            // Unique employee ID number (e.g., 123)
 
-    private String firstName;  // Employee's first name (e.g., "Jane")
-    private String lastName;   // Employee's last name (e.g., "Jones")
-    private int id;            // Unique employee ID number (e.g., 123)
-
     /**
      * CONSTRUCTOR - Creating a New Employee
      * ======================================
@@ -0,0 +1,172 @@
+package com.company.hashtable;
+
+import java.util.Random;
+
+/**
+ * ========================================================================
+ * HASH FUNCTION BENCHMARK - Which StandardHashFunction Should a Table Use?
+ * ========================================================================
+ *
+ * For every name dataset and every StandardHashFunction it reports:
+ *
+ * - variance/mean: bucket occupancy variance divided by the mean, with one
+ *   bucket per slot of a 0.75-loaded power-of-two table (hash & mask).
+ *   A perfectly random hash gives ~1.0 (Poisson); bigger = more clumping.
+ * - longest chain: the fullest bucket, i.e. the longest chain a chained
+ *   table (like ChainedHashtable) would have with that many buckets.
+ * - longest probe: SimpleHashtable.longestProbe() after loading every key
+ *   into a production-mode table with that function.
+ * - put/get ops/sec: best of several rounds on that same table.
+ *
+ * A function whose longest chain is above DEGENERATE_CHAIN (the learning
+ * LENGTH hash, for instance) clusters so badly that linear probing becomes
+ * quadratic; its table measurements are skipped and shown as "-".
+ *
+ * DATASETS (all keys unique):
+ * ---------------------------
+ * - full names : "Jane Q Jones" - first x middle initial x last name
+ * - logins     : "jjones1", "jjones2", ... - sequential suffixes, the case
+ *                where String.hashCode()'s low bits vary the least
+ * - emails     : "jane.jones.4821@company.com" - long keys with random ids
+ *
+ * HOW TO RUN:
+ * -----------
+ * java com.company.hashtable.HashFunctionBenchmark [keysPerDataset]
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class HashFunctionBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int DEGENERATE_CHAIN = 1_000;
+
+    private static final String[] FIRST_NAMES = {
+            "Jane", "John", "Mike", "Mary", "Bill", "Anna", "James", "Linda", "Robert", "Patricia",
+            "David", "Susan", "Joseph", "Karen", "Thomas", "Nancy", "Daniel", "Lisa", "Paul", "Sandra",
+            "Mark", "Emily", "Steven", "Donna", "Andrew", "Carol", "Kevin", "Ruth", "Brian", "Sharon",
+            "Wei", "Priya", "Carlos", "Fatima", "Yuki", "Olga", "Ahmed", "Sofia", "Ivan", "Mei"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Jones", "Smith", "Brown", "Wilson", "Doe", "Taylor", "Clark", "Davis", "Miller", "Moore",
+            "Johnson", "Williams", "Garcia", "Martinez", "Anderson", "Thomas", "Jackson", "White", "Harris", "Martin",
+            "Thompson", "Robinson", "Lewis", "Walker", "Young", "Allen", "King", "Wright", "Scott", "Green",
+            "Nguyen", "Patel", "Kim", "Chen", "Singh", "Kumar", "Lopez", "Gonzalez", "Hernandez", "Ivanov",
+            "Schmidt", "Muller", "Rossi", "Tanaka", "Sato", "Cohen", "Silva", "Santos", "Novak", "Kowalski"
+    };
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        String[][] datasets = {fullNames(n), logins(n), emails(n)};
+        String[] datasetNames = {"full names", "logins", "emails"};
+
+        System.out.printf("%-11s %-19s %14s %14s %14s %16s %16s%n", "dataset", "hash function",
+                "variance/mean", "longest chain", "longest probe", "put ops/sec", "get ops/sec");
+        for (int d = 0; d < datasets.length; d++) {
+            String[] keys = datasets[d];
+            Employee[] employees = new Employee[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                employees[i] = new Employee("First" + i, keys[i], i);
+            }
+            for (StandardHashFunction function : StandardHashFunction.values()) {
+                int buckets = Integer.highestOneBit((int) (keys.length / 0.75f) - 1) << 1;
+                int[] counts = new int[buckets];
+                for (String key : keys) {
+                    counts[function.hash(key) & (buckets - 1)]++;
+                }
+                double mean = keys.length / (double) buckets;
+                double variance = 0;
+                int longestChain = 0;
+                for (int count : counts) {
+                    variance += (count - mean) * (count - mean);
+                    longestChain = Math.max(longestChain, count);
+                }
+                variance /= buckets;
+
+                if (longestChain > DEGENERATE_CHAIN) {
+                    System.out.printf("%-11s %-19s %14.2f %14d %14s %16s %16s%n", datasetNames[d], function,
+                            variance / mean, longestChain, "-", "-", "-");
+                    continue;
+                }
+                SimpleHashtable table = new SimpleHashtable(keys.length, 0.75f, function);
+                for (int i = 0; i < keys.length; i++) {
+                    table.put(keys[i], employees[i]);
+                }
+                double[] opsPerSecond = measure(keys, employees, function);
+                System.out.printf("%-11s %-19s %14.2f %14d %14d %,16.0f %,16.0f%n", datasetNames[d], function,
+                        variance / mean, longestChain, table.longestProbe(), opsPerSecond[0], opsPerSecond[1]);
+            }
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * @return {best put ops/sec, best get ops/sec} for a pre-sized table
+     */
+    private static double[] measure(String[] keys, Employee[] employees, HashFunction function) {
+        double bestPut = 0;
+        double bestGet = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            SimpleHashtable table = new SimpleHashtable(keys.length, 0.75f, function);
+            long start = System.nanoTime();
+            for (int i = 0; i < keys.length; i++) {
+                table.put(keys[i], employees[i]);
+            }
+            long putNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long found = 0;
+            for (String key : keys) {
+                found += table.get(key).getId();
+            }
+            long getNanos = System.nanoTime() - start;
+            sink += found + table.size();
+
+            if (round >= WARMUP_ROUNDS) {
+                bestPut = Math.max(bestPut, keys.length * 1e9 / putNanos);
+                bestGet = Math.max(bestGet, keys.length * 1e9 / getNanos);
+            }
+        }
+        return new double[]{bestPut, bestGet};
+    }
+
+    private static String[] fullNames(int n) {
+        String[] keys = new String[n];
+        int i = 0;
+        for (int suffix = 0; i < n; suffix++) {  // Names repeat with a number once all combinations are used
+            for (String last : LAST_NAMES) {
+                for (String first : FIRST_NAMES) {
+                    for (char middle = 'A'; middle <= 'Z' && i < n; middle++) {
+                        keys[i++] = first + " " + middle + " " + last + (suffix == 0 ? "" : " " + suffix);
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static String[] logins(int n) {
+        String[] keys = new String[n];
+        for (int i = 0; i < n; i++) {
+            String first = FIRST_NAMES[i % FIRST_NAMES.length];
+            keys[i] = Character.toLowerCase(first.charAt(0))
+                    + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length].toLowerCase() + i;
+        }
+        return keys;
+    }
+
+    private static String[] emails(int n) {
+        Random random = new Random(42);
+        String[] keys = new String[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)].toLowerCase() + "."
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)].toLowerCase() + "."
+                    + (i * 10_000 + random.nextInt(10_000)) + "@company.com";
+        }
+        return keys;
+    }
+}
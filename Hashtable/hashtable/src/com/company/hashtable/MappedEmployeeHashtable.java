@@ -0,0 +1,586 @@
+package com.company.hashtable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ========================================================================
+ * MAPPED EMPLOYEE HASHTABLE - Off-Heap, Persistent Open Addressing
+ * ========================================================================
+ *
+ * An employee hashtable that lives in a FILE instead of on the Java heap.
+ * The file is memory-mapped (MappedByteBuffer), so reading a slot is just a
+ * memory read - the operating system pages the file in and out for us.
+ *
+ * WHY?
+ * ----
+ * SimpleHashtable and ChainedHashtable keep every Employee as heap objects:
+ * - With tens of millions of rows, the garbage collector has to walk all of
+ *   them again and again (GC pressure).
+ * - Everything is lost when the JVM stops, so the table is rebuilt on every
+ *   start (minutes of warm-up).
+ * Here the data sits outside the heap, and reopening the file is instant:
+ * nothing is loaded until a slot is actually touched.
+ *
+ * FILE LAYOUT:
+ * ------------
+ * [ header: 4096 bytes ][ slot 0 ][ slot 1 ] ... [ slot capacity-1 ]
+ *
+ * Header: magic, version, record size, capacity, size, tombstones, state,
+ * and the two slots of an update in progress.
+ *
+ * Every slot is a FIXED 128-byte record, so slot i is at a known offset:
+ *   offset  0  byte   state (EMPTY / USED / TOMBSTONE)
+ *   offset  1  byte   key length (UTF-8 bytes)
+ *   offset  2  byte   first name length
+ *   offset  3  byte   last name length
+ *   offset  4  int    mixed hash of the key
+ *   offset  8  int    employee id
+ *   offset 12  int    checksum of the record
+ *   offset 16  48 bytes key
+ *   offset 64  32 bytes first name
+ *   offset 96  32 bytes last name
+ *
+ * Collisions are handled with linear probing and TOMBSTONE deletes, exactly
+ * like SimpleHashtable in production mode (same spread() hash).
+ *
+ * CRASH RECOVERY:
+ * ---------------
+ * - The header has a state flag: DIRTY while the file is open, CLEAN only
+ *   after close() has flushed everything to disk.
+ * - A new record is written completely BEFORE its state byte is set to USED,
+ *   so a half-written new record is still EMPTY.
+ * - A committed record is never overwritten. An update writes the new
+ *   version into a free slot the same way, then turns the old slot into a
+ *   tombstone. While it does, the header names both slots, so a crash in
+ *   between keeps exactly one version - the new one only if it was
+ *   completely written.
+ * - Every record carries a checksum. If the file is opened while still
+ *   DIRTY (the process died), all slots are scanned: records whose checksum
+ *   does not match (torn by the OS or the disk) become tombstones, an
+ *   interrupted update is settled, and size and tombstone counts are
+ *   recomputed. A file that was cut short is extended.
+ * - Resizing writes a brand-new file next to the old one and swaps it in
+ *   with an atomic rename, so a crash mid-resize leaves the old file intact.
+ * - MappedEmployeeHashtableCrashTest kills a writer mid-way and checks all
+ *   of this.
+ *
+ * LIMITS:
+ * -------
+ * - key up to 48 UTF-8 bytes, first and last name up to 32 UTF-8 bytes each.
+ * - One instance per file; it is not thread-safe.
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class MappedEmployeeHashtable implements Closeable {
+
+    private static final long MAGIC = 0x454D504C48415348L;  // "EMPLHASH"
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 4096;
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 8;
+    private static final int H_RECORD_SIZE = 12;
+    private static final int H_CAPACITY = 16;
+    private static final int H_SIZE = 24;
+    private static final int H_TOMBSTONES = 32;
+    private static final int H_STATE = 40;
+    private static final int H_REPLACED = 48;      // Update in progress: old slot + 1, 0 = none
+    private static final int H_REPLACEMENT = 56;   // ... and the new version's slot + 1
+
+    private static final int STATE_DIRTY = 0;
+    private static final int STATE_CLEAN = 0x434C4541;  // "CLEA"
+
+    private static final int RECORD_SHIFT = 7;
+    private static final int RECORD_SIZE = 1 << RECORD_SHIFT;  // 128 bytes
+    private static final int R_STATE = 0;
+    private static final int R_KEY_LENGTH = 1;
+    private static final int R_FIRST_LENGTH = 2;
+    private static final int R_LAST_LENGTH = 3;
+    private static final int R_HASH = 4;
+    private static final int R_ID = 8;
+    private static final int R_CHECKSUM = 12;
+    private static final int R_KEY = 16;
+    private static final int R_FIRST = 64;
+    private static final int R_LAST = 96;
+    private static final int MAX_KEY_BYTES = R_FIRST - R_KEY;
+    private static final int MAX_NAME_BYTES = R_LAST - R_FIRST;
+
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+    private static final byte TOMBSTONE = 2;
+
+    /** A mapping is limited to 2GB, so the slots are mapped in 1GB chunks. */
+    private static final int SLOTS_PER_CHUNK_SHIFT = 30 - RECORD_SHIFT;
+
+    private static final float LOAD_FACTOR = 0.7f;
+    private static final long MINIMUM_CAPACITY = 16;
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] chunks;
+    private long capacity;
+    private long size;
+    private long tombstones;
+    private boolean recovered;
+
+    private MappedEmployeeHashtable(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * OPEN - Create a New File or Reopen an Existing One
+     * ==================================================
+     *
+     * A missing or empty file becomes a new table. An existing file is
+     * opened instantly (only the header is read). If it was not closed
+     * cleanly, the recovery scan described above runs first. Any other file
+     * is rejected and left untouched.
+     *
+     * @param path the table file
+     * @param expectedEmployees initial capacity hint, used only when the file is created
+     * @return the open table
+     * @throws IOException if the file cannot be read or is not an employee hashtable
+     */
+    public static MappedEmployeeHashtable open(Path path, long expectedEmployees) throws IOException {
+        Files.deleteIfExists(resizeFile(path));  // Left over from a crash mid-resize
+        MappedEmployeeHashtable table = new MappedEmployeeHashtable(path);
+        long fileSize = Files.exists(path) ? Files.size(path) : 0;
+        if (fileSize == 0) {
+            table.create(capacityFor(expectedEmployees));
+        } else if (fileSize < HEADER_SIZE) {
+            // Never truncate a short file - it may be someone else's data
+            throw new IOException(path + " is not an employee hashtable file");
+        } else {
+            table.load();
+        }
+        table.header.putInt(H_STATE, STATE_DIRTY);
+        table.header.force();
+        return table;
+    }
+
+    /**
+     * PUT - Insert or Replace an Employee
+     *
+     * Replacing writes the new version into a free slot and only then
+     * retires the old one (see CRASH RECOVERY), so it can grow the file
+     * just like an insert.
+     *
+     * @param key the search key (usually the employee's last name)
+     * @param employee the Employee to store
+     * @throws IllegalArgumentException if the key or a name is too long for its fixed-size field
+     * @throws UncheckedIOException if growing the file fails
+     */
+    public void put(String key, Employee employee) {
+        byte[] keyBytes = encode(key, MAX_KEY_BYTES, "key");
+        byte[] first = encode(employee.getFirstName(), MAX_NAME_BYTES, "first name");
+        byte[] last = encode(employee.getLastName(), MAX_NAME_BYTES, "last name");
+        int hash = SimpleHashtable.spread(key.hashCode());
+
+        // An update needs a free slot too: the old version stays until the new one is complete
+        if (size + tombstones + 1 > (long) (capacity * LOAD_FACTOR)) {
+            try {
+                resize();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not grow " + path, e);
+            }
+        }
+        long old = findSlot(keyBytes, hash);
+        long slot = freeSlot(hash);
+        boolean reused = state(slot) == TOMBSTONE;
+        if (old < 0) {
+            writeRecord(slot, keyBytes, hash, employee.getId(), first, last);
+            setSize(size + 1);
+            if (reused) {
+                setTombstones(tombstones - 1);
+            }
+            return;
+        }
+
+        header.putLong(H_REPLACEMENT, slot + 1);
+        header.putLong(H_REPLACED, old + 1);
+        writeRecord(slot, keyBytes, hash, employee.getId(), first, last);
+        chunk(old).put(offset(old) + R_STATE, TOMBSTONE);
+        header.putLong(H_REPLACED, 0);
+        if (!reused) {
+            setTombstones(tombstones + 1);
+        }
+    }
+
+    /**
+     * GET - Read an Employee Back from the File
+     *
+     * @param key the search key
+     * @return a new Employee decoded from the record, or null if not found
+     */
+    public Employee get(String key) {
+        long slot = findSlot(encode(key, Integer.MAX_VALUE, "key"), SimpleHashtable.spread(key.hashCode()));
+        return slot < 0 ? null : readEmployee(slot);
+    }
+
+    /**
+     * REMOVE - Mark the Slot as a TOMBSTONE
+     *
+     * @param key the search key of the employee to remove
+     * @return the removed Employee, or null if not found
+     */
+    public Employee remove(String key) {
+        long slot = findSlot(encode(key, Integer.MAX_VALUE, "key"), SimpleHashtable.spread(key.hashCode()));
+        if (slot < 0) {
+            return null;
+        }
+        Employee employee = readEmployee(slot);
+        chunk(slot).put(offset(slot) + R_STATE, TOMBSTONE);
+        setSize(size - 1);
+        setTombstones(tombstones + 1);
+        return employee;
+    }
+
+    /**
+     * @return the number of employees stored in the file
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return true if the last open() had to run the crash-recovery scan
+     */
+    public boolean wasRecovered() {
+        return recovered;
+    }
+
+    /**
+     * Flushes every dirty page to disk. The file stays marked DIRTY.
+     */
+    public void flush() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.force();
+    }
+
+    /**
+     * CLOSE - Flush Everything, then Mark the File CLEAN
+     *
+     * The CLEAN flag is written only after all records are on disk, so the
+     * next open() can skip the recovery scan.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        flush();
+        header.putInt(H_STATE, STATE_CLEAN);
+        header.force();
+        channel.close();
+        channel = null;
+    }
+
+    // ------------------------------------------------------------------
+    // Probing
+    // ------------------------------------------------------------------
+
+    /** Returns the slot holding the key, or -1. Tombstones do not stop the search. */
+    private long findSlot(byte[] keyBytes, int hash) {
+        long mask = capacity - 1;
+        long slot = (hash & 0xFFFFFFFFL) & mask;
+        for (long probes = 0; probes < capacity; probes++) {
+            ByteBuffer chunk = chunk(slot);
+            int offset = offset(slot);
+            byte state = chunk.get(offset + R_STATE);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == USED && chunk.getInt(offset + R_HASH) == hash && keyEquals(chunk, offset, keyBytes)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** Returns the first EMPTY or TOMBSTONE slot on the key's probe path. */
+    private long freeSlot(int hash) {
+        long mask = capacity - 1;
+        long slot = (hash & 0xFFFFFFFFL) & mask;
+        while (state(slot) == USED) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private Employee readEmployee(long slot) {
+        ByteBuffer chunk = chunk(slot);
+        int offset = offset(slot);
+        String first = decode(chunk, offset + R_FIRST, chunk.get(offset + R_FIRST_LENGTH));
+        String last = decode(chunk, offset + R_LAST, chunk.get(offset + R_LAST_LENGTH));
+        return new Employee(first, last, chunk.getInt(offset + R_ID));
+    }
+
+    private boolean keyEquals(ByteBuffer chunk, int offset, byte[] keyBytes) {
+        if (chunk.get(offset + R_KEY_LENGTH) != keyBytes.length) {
+            return false;
+        }
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (chunk.get(offset + R_KEY + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes all fields and the checksum first, and the USED state byte LAST,
+     * so a crash in the middle leaves a new slot EMPTY.
+     */
+    private void writeRecord(long slot, byte[] key, int hash, int id, byte[] first, byte[] last) {
+        ByteBuffer chunk = chunk(slot);
+        int offset = offset(slot);
+        chunk.put(offset + R_KEY_LENGTH, (byte) key.length);
+        chunk.put(offset + R_FIRST_LENGTH, (byte) first.length);
+        chunk.put(offset + R_LAST_LENGTH, (byte) last.length);
+        chunk.putInt(offset + R_HASH, hash);
+        chunk.putInt(offset + R_ID, id);
+        putBytes(chunk, offset + R_KEY, key, MAX_KEY_BYTES);
+        putBytes(chunk, offset + R_FIRST, first, MAX_NAME_BYTES);
+        putBytes(chunk, offset + R_LAST, last, MAX_NAME_BYTES);
+        chunk.putInt(offset + R_CHECKSUM, checksum(chunk, offset));
+        chunk.put(offset + R_STATE, USED);
+    }
+
+    /** Copies bytes and zero-fills the rest of the field, so checksums are stable. */
+    private static void putBytes(ByteBuffer chunk, int at, byte[] bytes, int fieldLength) {
+        for (int i = 0; i < fieldLength; i++) {
+            chunk.put(at + i, i < bytes.length ? bytes[i] : 0);
+        }
+    }
+
+    /** FNV-1a over every byte of the record except the state and checksum fields. */
+    private static int checksum(ByteBuffer chunk, int offset) {
+        int h = 0x811C9DC5;
+        for (int i = R_KEY_LENGTH; i < RECORD_SIZE; i++) {
+            if (i == R_CHECKSUM) {
+                i += 3;
+                continue;
+            }
+            h = (h ^ (chunk.get(offset + i) & 0xFF)) * 0x01000193;
+        }
+        return h;
+    }
+
+    // ------------------------------------------------------------------
+    // File management
+    // ------------------------------------------------------------------
+
+    private void create(long slots) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        capacity = slots;
+        map();
+        header.putLong(H_MAGIC, MAGIC);
+        header.putInt(H_VERSION, VERSION);
+        header.putInt(H_RECORD_SIZE, RECORD_SIZE);
+        header.putLong(H_CAPACITY, capacity);
+        setSize(0);
+        setTombstones(0);
+        header.force();
+    }
+
+    private void load() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        long storedCapacity = header.getLong(H_CAPACITY);
+        if (header.getLong(H_MAGIC) != MAGIC || header.getInt(H_VERSION) != VERSION
+                || header.getInt(H_RECORD_SIZE) != RECORD_SIZE
+                || storedCapacity < MINIMUM_CAPACITY || Long.bitCount(storedCapacity) != 1) {
+            channel.close();
+            throw new IOException(path + " is not an employee hashtable file");
+        }
+        capacity = storedCapacity;
+        boolean truncated = channel.size() < HEADER_SIZE + (capacity << RECORD_SHIFT);
+        map();  // Mapping past the end extends the file with zeros (EMPTY slots)
+        size = header.getLong(H_SIZE);
+        tombstones = header.getLong(H_TOMBSTONES);
+        if (truncated || header.getInt(H_STATE) != STATE_CLEAN) {
+            recover();
+        }
+    }
+
+    /**
+     * RECOVER - Scan After a Crash
+     *
+     * Drops records whose checksum does not match, settles an interrupted
+     * update, and recounts size and tombstones. Dropped records become
+     * tombstones so that probe chains running through them stay intact.
+     */
+    private void recover() {
+        long live = 0;
+        long dead = 0;
+        for (long slot = 0; slot < capacity; slot++) {
+            ByteBuffer chunk = chunk(slot);
+            int offset = offset(slot);
+            byte state = chunk.get(offset + R_STATE);
+            if (state == USED && chunk.getInt(offset + R_CHECKSUM) != checksum(chunk, offset)) {
+                chunk.put(offset + R_STATE, TOMBSTONE);
+                state = TOMBSTONE;
+            }
+            if (state == USED) {
+                live++;
+            } else if (state == TOMBSTONE) {
+                dead++;
+            } else if (state != EMPTY) {
+                chunk.put(offset + R_STATE, EMPTY);  // Garbage state byte: never a valid record
+            }
+        }
+        long replaced = header.getLong(H_REPLACED) - 1;
+        if (replaced >= 0) {
+            // Died mid-update: the new version counts only if it became USED
+            // (and survived the checksum check above); else keep the old one
+            if (state(header.getLong(H_REPLACEMENT) - 1) == USED && state(replaced) == USED) {
+                chunk(replaced).put(offset(replaced) + R_STATE, TOMBSTONE);
+                live--;
+                dead++;
+            }
+            header.putLong(H_REPLACED, 0);
+        }
+        setSize(live);
+        setTombstones(dead);
+        flush();
+        recovered = true;
+    }
+
+    private void map() throws IOException {
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        long slotsPerChunk = 1L << SLOTS_PER_CHUNK_SHIFT;
+        int chunkCount = (int) ((capacity + slotsPerChunk - 1) >>> SLOTS_PER_CHUNK_SHIFT);
+        chunks = new MappedByteBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            long firstSlot = (long) c << SLOTS_PER_CHUNK_SHIFT;
+            long slots = Math.min(slotsPerChunk, capacity - firstSlot);
+            chunks[c] = channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_SIZE + (firstSlot << RECORD_SHIFT), slots << RECORD_SHIFT);
+        }
+    }
+
+    /**
+     * RESIZE - Rebuild into a New File and Swap It In
+     *
+     * Doubles the capacity (or keeps it when most used slots are tombstones),
+     * copies every live record into a temporary file, flushes it, and then
+     * atomically renames it over the original.
+     */
+    private void resize() throws IOException {
+        long newCapacity = tombstones >= size ? capacity : capacity << 1;
+        Path target = resizeFile(path);
+        Files.deleteIfExists(target);
+        MappedEmployeeHashtable copy = new MappedEmployeeHashtable(target);
+        copy.create(newCapacity);
+        long mask = newCapacity - 1;
+        for (long slot = 0; slot < capacity; slot++) {
+            ByteBuffer chunk = chunk(slot);
+            int offset = offset(slot);
+            if (chunk.get(offset + R_STATE) != USED) {
+                continue;
+            }
+            long to = (chunk.getInt(offset + R_HASH) & 0xFFFFFFFFL) & mask;
+            while (copy.state(to) != EMPTY) {
+                to = (to + 1) & mask;
+            }
+            ByteBuffer toChunk = copy.chunk(to);
+            int toOffset = copy.offset(to);
+            for (int i = 0; i < RECORD_SIZE; i++) {
+                toChunk.put(toOffset + i, chunk.get(offset + i));
+            }
+        }
+        copy.setSize(size);
+        copy.close();
+
+        channel.close();
+        Files.move(target, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        load();
+        header.putInt(H_STATE, STATE_DIRTY);
+        header.force();
+    }
+
+    private static Path resizeFile(Path path) {
+        Path name = path.getFileName();
+        Path parent = path.toAbsolutePath().getParent();
+        return parent.resolve(name + ".resize");
+    }
+
+    private static long capacityFor(long expectedEmployees) {
+        long wanted = Math.max(MINIMUM_CAPACITY, (long) Math.ceil(expectedEmployees / (double) LOAD_FACTOR));
+        return Long.highestOneBit(wanted - 1) << 1;
+    }
+
+    // ------------------------------------------------------------------
+    // Small helpers
+    // ------------------------------------------------------------------
+
+    private ByteBuffer chunk(long slot) {
+        return chunks[(int) (slot >>> SLOTS_PER_CHUNK_SHIFT)];
+    }
+
+    private int offset(long slot) {
+        return (int) ((slot & ((1L << SLOTS_PER_CHUNK_SHIFT) - 1)) << RECORD_SHIFT);
+    }
+
+    private byte state(long slot) {
+        return chunk(slot).get(offset(slot) + R_STATE);
+    }
+
+    private void setSize(long newSize) {
+        size = newSize;
+        header.putLong(H_SIZE, newSize);
+    }
+
+    private void setTombstones(long newTombstones) {
+        tombstones = newTombstones;
+        header.putLong(H_TOMBSTONES, newTombstones);
+    }
+
+    private static byte[] encode(String value, int maxBytes, String field) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException(field + " longer than " + maxBytes + " bytes: " + value);
+        }
+        return bytes;
+    }
+
+    private static String decode(ByteBuffer chunk, int at, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = chunk.get(at + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Small demo: the second run finds the employees written by the first.
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : "employees.htbl");
+        try (MappedEmployeeHashtable table = MappedEmployeeHashtable.open(file, 1_000)) {
+            System.out.println("Opened " + file + " with " + table.size() + " employees"
+                    + (table.wasRecovered() ? " (recovered after crash)" : ""));
+            System.out.println("Retrieve key Jones: " + table.get("Jones"));
+            table.put("Jones", new Employee("Jane", "Jones", 123));
+            table.put("Doe", new Employee("John", "Doe", 4567));
+            table.put("Smith", new Employee("Mary", "Smith", 22));
+        }
+    }
+}
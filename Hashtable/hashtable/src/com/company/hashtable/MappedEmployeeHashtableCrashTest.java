@@ -0,0 +1,227 @@
+package com.company.hashtable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * ========================================================================
+ * MAPPED EMPLOYEE HASHTABLE CRASH TEST - Kill the Writer, Reopen, Verify
+ * ========================================================================
+ *
+ * 1. SHORT FILES: an empty file becomes a new table; a file shorter than
+ *    the header is rejected with an IOException and left byte for byte as
+ *    it was.
+ *
+ * 2. KILLED WRITER: a child JVM puts employees e0, e1, e2, ... into a fresh
+ *    table (removing every 10th one again right away). Step i also UPDATES
+ *    e(i/2), so half the puts replace a committed record; the step number
+ *    goes into the first name as the version. After every flush() it
+ *    reports how far it got. Once it is past several resizes it is killed
+ *    with destroyForcibly() - in the middle of an insert, an update, a
+ *    resize or a flush, wherever it happens to be. Then the file is
+ *    reopened:
+ *    - open() must have run the recovery scan,
+ *    - every employee flushed before the kill must be there with the right
+ *      id and names, every removed one must be gone,
+ *    - an update the kill interrupted leaves the old or the new version,
+ *      never neither - and never a version older than the last flush,
+ *    - anything found past the last flush must decode correctly too,
+ *    - size() must match what is actually in the file,
+ *    - after close() the next open() must be clean again.
+ *
+ * A killed process is not a power failure: pages it wrote but did not
+ * flush usually still reach the disk through the OS. The kill still hits
+ * every half-done step of put/resize, which is what recovery must handle.
+ *
+ * Exits with status 1 on the first failure.
+ *
+ * HOW TO RUN:
+ * -----------
+ * java com.company.hashtable.MappedEmployeeHashtableCrashTest [rounds]
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class MappedEmployeeHashtableCrashTest {
+
+    private static final int FLUSH_EVERY = 1_000;
+    private static final int KILL_AFTER = 40_000;   // Past several resizes from 16 slots
+    private static final int REMOVE_EVERY = 10;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals("writer")) {
+            write(Paths.get(args[1]));
+            return;
+        }
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        Path directory = Files.createTempDirectory("mapped-crash-");
+        try {
+            checkShortFiles(directory);
+            System.out.println("short files: passed");
+            for (int round = 1; round <= rounds; round++) {
+                Path file = directory.resolve("employees-" + round + ".table");
+                int flushed = killWriter(file);
+                int found = checkRecovered(file, flushed);
+                System.out.printf("round %d: killed after %,d flushed puts, %,d employees recovered - passed%n",
+                        round, flushed, found);
+                Files.delete(file);
+            }
+        } finally {
+            try (Stream<Path> left = Files.list(directory)) {
+                for (Path path : (Iterable<Path>) left::iterator) {
+                    Files.delete(path);
+                }
+            }
+            Files.delete(directory);
+        }
+        System.out.println("ALL PASSED");
+    }
+
+    private static void checkShortFiles(Path directory) throws IOException {
+        Path empty = Files.createFile(directory.resolve("empty.table"));
+        try (MappedEmployeeHashtable table = MappedEmployeeHashtable.open(empty, 10)) {
+            table.put("e1", new Employee("Jane", "Jones", 1));
+        }
+        try (MappedEmployeeHashtable table = MappedEmployeeHashtable.open(empty, 10)) {
+            check(table.size() == 1 && table.get("e1") != null, "empty file becomes a table");
+        }
+
+        Path notes = directory.resolve("notes.txt");
+        byte[] text = "not a hashtable, just a short text file\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(notes, text);
+        try {
+            MappedEmployeeHashtable.open(notes, 10).close();
+            check(false, "short file accepted");
+        } catch (IOException expected) {
+            check(expected.getMessage().contains("not an employee hashtable"), "message: " + expected.getMessage());
+        }
+        check(Arrays.equals(Files.readAllBytes(notes), text), "short file left untouched");
+        Files.delete(empty);
+        Files.delete(notes);
+    }
+
+    /**
+     * Starts a writer JVM on file and kills it once KILL_AFTER puts are flushed.
+     *
+     * @return how many puts the writer reported as flushed
+     */
+    private static int killWriter(Path file) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process writer = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                MappedEmployeeHashtableCrashTest.class.getName(), "writer", file.toString())
+                .redirectErrorStream(true)
+                .start();
+        int flushed = 0;
+        try (BufferedReader lines = new BufferedReader(
+                new InputStreamReader(writer.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (flushed < KILL_AFTER && (line = lines.readLine()) != null) {
+                check(line.startsWith("flushed "), "writer: " + line);
+                flushed = Integer.parseInt(line.substring("flushed ".length()));
+            }
+            Thread.sleep(ThreadLocalRandom.current().nextInt(50));  // Kill anywhere, not just after a flush
+            writer.destroyForcibly();
+        }
+        check(writer.waitFor(30, TimeUnit.SECONDS), "writer did not die");
+        check(flushed >= KILL_AFTER, "writer stopped early after " + flushed + " puts");
+        return flushed;
+    }
+
+    /** The child JVM: puts forever, reporting every flush on stdout. */
+    private static void write(Path file) throws IOException {
+        try (MappedEmployeeHashtable table = MappedEmployeeHashtable.open(file, 16)) {
+            for (int i = 0; ; i++) {
+                table.put(key(i), employee(i, i));
+                if (i % REMOVE_EVERY == 0) {
+                    table.remove(key(i));
+                }
+                int updated = i / 2;
+                if (updated < i && updated % REMOVE_EVERY != 0) {
+                    table.put(key(updated), employee(updated, i));
+                }
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    table.flush();
+                    System.out.println("flushed " + (i + 1));
+                    System.out.flush();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return how many employees the recovered file holds
+     */
+    private static int checkRecovered(Path file, int flushed) throws IOException {
+        int found = 0;
+        try (MappedEmployeeHashtable table = MappedEmployeeHashtable.open(file, 16)) {
+            check(table.wasRecovered(), "killed writer left the file clean");
+            int missing = 0;
+            for (int i = 0; missing < 2 * FLUSH_EVERY; i++) {
+                Employee employee = table.get(key(i));
+                boolean removed = i % REMOVE_EVERY == 0;
+                if (i < flushed) {
+                    check(removed == (employee == null), key(i) + (removed ? " not removed" : " lost"));
+                }
+                if (employee == null) {
+                    missing += i < flushed ? 0 : 1;
+                    continue;
+                }
+                int version = version(i, employee);
+                check(version >= 0, key(i) + " read as " + employee);
+                if (!removed) {
+                    // Steps i, 2i and 2i+1 write e(i); the last flushed one must have survived
+                    int newestFlushed = 2 * i + 1 < flushed ? 2 * i + 1 : 2 * i < flushed ? 2 * i : i;
+                    check(version >= newestFlushed || i >= flushed, key(i) + " went back from version "
+                            + newestFlushed + " to " + version);
+                }
+                found++;
+            }
+            check(table.size() == found, "size " + table.size() + " but " + found + " employees found");
+        }
+        try (MappedEmployeeHashtable table = MappedEmployeeHashtable.open(file, 16)) {
+            check(!table.wasRecovered(), "recovered again after a clean close");
+            check(table.size() == found, "size changed after a clean close");
+        }
+        return found;
+    }
+
+    private static String key(int i) {
+        return "e" + i;
+    }
+
+    /** Employee i as written by the given step. */
+    private static Employee employee(int i, int version) {
+        return new Employee("First" + i + "v" + version, "Last" + (i * 31), i);
+    }
+
+    /**
+     * @return the step that wrote this employee i, or -1 if it is not an
+     *         intact version of employee i at all
+     */
+    private static int version(int i, Employee employee) {
+        String prefix = "First" + i + "v";
+        if (employee.getId() != i || !employee.getLastName().equals("Last" + (i * 31))
+                || !employee.getFirstName().startsWith(prefix)) {
+            return -1;
+        }
+        int version = Integer.parseInt(employee.getFirstName().substring(prefix.length()));
+        boolean written = version == i || (i % REMOVE_EVERY != 0 && version / 2 == i);
+        return written ? version : -1;
+    }
+
+    private static void check(boolean condition, String what) {
+        if (!condition) {
+            System.out.println("FAILED: " + what);
+            System.exit(1);
+        }
+    }
+}
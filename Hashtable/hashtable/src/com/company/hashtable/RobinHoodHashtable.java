@@ -0,0 +1,340 @@
+package com.company.hashtable;
+
+/**
+ * ========================================================================
+ * ROBIN HOOD HASHTABLE - Linear Probing that "Steals from the Rich"
+ * ========================================================================
+ *
+ * Same put/get/remove(String) API as SimpleHashtable, but with ROBIN HOOD
+ * probing instead of plain linear probing.
+ *
+ * THE IDEA:
+ * ---------
+ * Every stored item knows its PROBE DISTANCE: how many slots it sits past its
+ * home slot (the slot its hash points to). While inserting, if we meet an item
+ * that is CLOSER to home than we are ("richer"), we take its slot and carry
+ * that item forward instead ("give to the poor").
+ *
+ * Think of it like a cinema where latecomers may swap with anyone who got a
+ * better seat than they did - nobody ends up VERY far from where they wanted.
+ *
+ * WHY IT HELPS:
+ * -------------
+ * 1. PROBE LENGTHS STAY SMALL AND EVEN: the variance of probe distances is
+ *    tiny, so the worst lookup is not much worse than the average one.
+ * 2. MISSES STOP EARLY: items along a probe chain are ordered by distance.
+ *    If we reach a slot whose item is closer to home than we would be, our
+ *    key cannot be further along - we stop right there. Plain linear probing
+ *    has to walk until it reaches an empty slot.
+ * 3. NO TOMBSTONES: remove() uses BACKWARD-SHIFT deletion - the items after
+ *    the removed one slide back one slot, so the table stays tidy.
+ *
+ * EXAMPLE (home slot in brackets, distance after the arrow):
+ * -----------------------------------------------------------
+ * slot 5: Jones[5] → 0
+ * slot 6: Doe[6]   → 0
+ * put(Smith[5]): slot 5 is Jones (dist 0), we are dist 0 → keep going
+ *                slot 6 is Doe (dist 0), we are dist 1 → Doe is richer, SWAP!
+ *                Smith takes slot 6, Doe moves on to slot 7 (dist 1)
+ *
+ * PROBE STATISTICS:
+ * -----------------
+ * maxProbeDistance() and meanProbeDistance() are kept up to date on every
+ * put/remove, so a monitor can poll them and alert when skewed keys start
+ * to stretch probe chains.
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class RobinHoodHashtable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.9f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** The slots; null means empty (there are no tombstones). */
+    private StoredEmployee[] hashtable;
+
+    /** Mixed hash of the key in each slot, so we never recompute it. */
+    private int[] hashes;
+
+    /** Robin Hood keeps probe chains short, so a high load factor is fine. */
+    private final float loadFactor;
+
+    private int size;
+    private int threshold;
+
+    /** Sum of the probe distances of all stored items. */
+    private long totalProbeDistance;
+
+    /**
+     * distanceCounts[d] = how many items sit exactly d slots past their home.
+     * This lets maxProbeDistance() shrink again after removals.
+     */
+    private int[] distanceCounts = new int[16];
+
+    /** Highest d with distanceCounts[d] > 0 (0 when the table is empty). */
+    private int maxProbeDistance;
+
+    /**
+     * Creates a table with room for 16 slots and a 0.9 load factor.
+     */
+    public RobinHoodHashtable() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param initialCapacity expected number of employees (rounded up to a power of two)
+     * @param loadFactor fraction of slots allowed to be used before resizing, in (0, 1)
+     * @throws IllegalArgumentException if initialCapacity is negative or loadFactor is not in (0, 1)
+     */
+    public RobinHoodHashtable(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        int wanted = (int) Math.min(MAXIMUM_CAPACITY, Math.ceil(initialCapacity / (double) loadFactor));
+        int capacity = Math.max(2, Integer.highestOneBit(Math.max(wanted, 2) - 1) << 1);
+        allocate(Math.min(capacity, MAXIMUM_CAPACITY));
+    }
+
+    /**
+     * PUT - Insert or Replace
+     * =======================
+     *
+     * 1. Probe from the home slot with distance 0.
+     * 2. Same key? Replace the employee and stop.
+     * 3. Empty slot? Drop the item we are carrying there and stop.
+     * 4. The resident is closer to home than we are? Swap: we take the slot,
+     *    and keep probing with the resident (and its distance) in our hands.
+     *
+     * @param key the search key (usually the employee's last name)
+     * @param employee the Employee to store
+     *
+     * TIME COMPLEXITY: O(1) amortized, including resizes
+     */
+    public void put(String key, Employee employee) {
+        int hash = SimpleHashtable.spread(key.hashCode());
+        int index = findIndex(key, hash);
+        if (index != -1) {
+            hashtable[index].employee = employee;
+            return;
+        }
+        if (size + 1 > threshold) {
+            resize();
+        }
+        insert(new StoredEmployee(key, employee), hash);
+        size++;
+    }
+
+    /**
+     * GET - Retrieve an Employee by Key
+     *
+     * @param key the search key
+     * @return the Employee, or null if the key is not in the table
+     *
+     * TIME COMPLEXITY: O(1) average; misses stop after about maxProbeDistance slots
+     */
+    public Employee get(String key) {
+        int index = findIndex(key, SimpleHashtable.spread(key.hashCode()));
+        return index == -1 ? null : hashtable[index].employee;
+    }
+
+    /**
+     * REMOVE - Delete with Backward Shift
+     * ===================================
+     *
+     * After emptying the slot, every following item that is NOT at its home
+     * slot slides back one position (its distance drops by one). We stop at
+     * an empty slot or at an item already at home. No tombstones are left.
+     *
+     * @param key the search key of the employee to remove
+     * @return the removed Employee, or null if not found
+     *
+     * TIME COMPLEXITY: O(1) average
+     */
+    public Employee remove(String key) {
+        int index = findIndex(key, SimpleHashtable.spread(key.hashCode()));
+        if (index == -1) {
+            return null;
+        }
+        Employee employee = hashtable[index].employee;
+        int mask = hashtable.length - 1;
+        untrack(distance(index, hashes[index]));
+
+        int next = (index + 1) & mask;
+        while (hashtable[next] != null) {
+            int dist = distance(next, hashes[next]);
+            if (dist == 0) {
+                break;  // Already at home - cannot move back
+            }
+            hashtable[index] = hashtable[next];
+            hashes[index] = hashes[next];
+            untrack(dist);
+            track(dist - 1);
+            index = next;
+            next = (next + 1) & mask;
+        }
+        hashtable[index] = null;
+        size--;
+        return employee;
+    }
+
+    /**
+     * Returns the number of employees currently stored.
+     *
+     * @return the number of live entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the longest probe distance of any stored item. A lookup (hit or
+     * miss) never inspects more than maxProbeDistance() + 1 slots.
+     *
+     * @return the current maximum probe distance
+     */
+    public int maxProbeDistance() {
+        return maxProbeDistance;
+    }
+
+    /**
+     * Returns the average probe distance over all stored items.
+     *
+     * @return the current mean probe distance, or 0 when empty
+     */
+    public double meanProbeDistance() {
+        return size == 0 ? 0 : (double) totalProbeDistance / size;
+    }
+
+    /**
+     * Prints every slot with its probe distance - handy for seeing the
+     * Robin Hood ordering along a chain.
+     */
+    public void printHashtable() {
+        for (int i = 0; i < hashtable.length; i++) {
+            if (hashtable[i] == null) {
+                System.out.println("empty");
+            } else {
+                System.out.println("position" + i + " (distance " + distance(i, hashes[i]) + "): "
+                        + hashtable[i].employee);
+            }
+        }
+    }
+
+    /**
+     * FIND INDEX - Lookup with Early Termination
+     * ==========================================
+     *
+     * Walk the chain while counting our own distance. Stop with a MISS when:
+     * - the slot is empty, or
+     * - the resident's distance is SMALLER than ours: had our key been
+     *   inserted, it would have taken this slot (Robin Hood rule).
+     *
+     * @return the slot index, or -1 if the key is absent
+     */
+    private int findIndex(String key, int hash) {
+        int mask = hashtable.length - 1;
+        int index = hash & mask;
+        for (int dist = 0; ; dist++) {
+            StoredEmployee stored = hashtable[index];
+            if (stored == null || distance(index, hashes[index]) < dist) {
+                return -1;
+            }
+            if (hashes[index] == hash && stored.key.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Places an entry known NOT to be in the table, swapping with richer
+     * residents on the way.
+     */
+    private void insert(StoredEmployee carried, int carriedHash) {
+        int mask = hashtable.length - 1;
+        int index = carriedHash & mask;
+        int dist = 0;
+        while (true) {
+            StoredEmployee resident = hashtable[index];
+            if (resident == null) {
+                hashtable[index] = carried;
+                hashes[index] = carriedHash;
+                track(dist);
+                return;
+            }
+            int residentDist = distance(index, hashes[index]);
+            if (residentDist < dist) {
+                // Robin Hood swap: the poorer (further) item takes the slot
+                int residentHash = hashes[index];
+                hashtable[index] = carried;
+                hashes[index] = carriedHash;
+                track(dist);
+                untrack(residentDist);
+                carried = resident;
+                carriedHash = residentHash;
+                dist = residentDist;
+            }
+            index = (index + 1) & mask;
+            dist++;
+        }
+    }
+
+    /** How far slot {@code index} is from the home slot of {@code hash}. */
+    private int distance(int index, int hash) {
+        return (index - hash) & (hashtable.length - 1);
+    }
+
+    private void track(int dist) {
+        if (dist >= distanceCounts.length) {
+            int[] grown = new int[Math.max(dist + 1, distanceCounts.length * 2)];
+            System.arraycopy(distanceCounts, 0, grown, 0, distanceCounts.length);
+            distanceCounts = grown;
+        }
+        distanceCounts[dist]++;
+        totalProbeDistance += dist;
+        if (dist > maxProbeDistance) {
+            maxProbeDistance = dist;
+        }
+    }
+
+    private void untrack(int dist) {
+        distanceCounts[dist]--;
+        totalProbeDistance -= dist;
+        while (maxProbeDistance > 0 && distanceCounts[maxProbeDistance] == 0) {
+            maxProbeDistance--;
+        }
+    }
+
+    private void allocate(int capacity) {
+        hashtable = new StoredEmployee[capacity];
+        hashes = new int[capacity];
+        threshold = (int) (capacity * loadFactor);
+    }
+
+    /**
+     * RESIZE - Double the capacity and re-insert every item; probe statistics
+     * are rebuilt from scratch along the way.
+     */
+    private void resize() {
+        if (hashtable.length >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Hashtable cannot grow beyond " + MAXIMUM_CAPACITY + " slots");
+        }
+        StoredEmployee[] oldhashtable = hashtable;
+        int[] oldhashes = hashes;
+        allocate(oldhashtable.length << 1);
+        distanceCounts = new int[16];
+        totalProbeDistance = 0;
+        maxProbeDistance = 0;
+        for (int i = 0; i < oldhashtable.length; i++) {
+            if (oldhashtable[i] != null) {
+                insert(oldhashtable[i], oldhashes[i]);
+            }
+        }
+    }
+}
@@ -68,6 +68,15 @@ package com.company.hashtable;
  * - Use LINKED LIST when: Frequent insertions/deletions at beginning
  * - Use HASH TABLE when: Need fast lookups by key, don't care about order
  * 
+ * LEARNING MODE vs PRODUCTION MODE:
+ * ---------------------------------
+ * new SimpleHashtable()           → the 10-slot, length-hashed table described above
+ * SimpleHashtable.production() or
+ * new SimpleHashtable(cap, 0.75f) → mixed String.hashCode(), power-of-two capacity,
+ *                                   automatic resizing, TOMBSTONE deletes
+ * new SimpleHashtable(cap, 0.75f, fn) → production mode with any HashFunction
+ *                                   (see StandardHashFunction, HashFunctionBenchmark)
+ * 
  * @author Data Structures Learning Project
  * @version 1.0
  */
@@ -83,7 +92,48 @@ public class SimpleHashtable {
      */
     private StoredEmployee[] hashtable;
 
-    private StoredEmployee[] hashtable;
+    /**
+     * Marker left behind by remove() in production mode.
+     *
+     * A TOMBSTONE says "something used to live here, keep probing". findKey()
+     * walks past it, and put() is free to reuse the slot. Without it, deleting
+     * the first item of a probe chain would hide every item behind it.
+     */
+    private static final StoredEmployee TOMBSTONE = new StoredEmployee(null, null);
+
+    /** Default capacity for production mode (must be a power of two). */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Largest power-of-two array we will ever allocate. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** Keys hashed and loaded together per stage in getAll()/putAll(). */
+    static final int BATCH_GROUP = 16;
+
+    /** Default load factor for production mode, same as java.util.HashMap. */
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /**
+     * true  = production mode: mixed String.hashCode(), power-of-two capacity,
+     *         automatic resizing and tombstone deletes.
+     * false = learning mode: the original 10-slot, length-based table.
+     */
+    private final boolean resizable;
+
+    /** Turns a key into a 32-bit hash; hashKeys() maps it to a slot. */
+    private final HashFunction hashFunction;
+
+    /** Resize when (size + tombstones) would exceed capacity * loadFactor. */
+    private final float loadFactor;
+
+    /** Number of live employees in the table. */
+    private int size;
+
+    /** Number of TOMBSTONE slots currently in the table. */
+    private int tombstones;
+
+    /** Slot count (live + tombstones) that triggers the next resize. */
+    private int threshold;
 
     /**
      * CONSTRUCTOR - Initialize the Hash Table
@@ -102,6 +152,74 @@ public class SimpleHashtable {
      */
     public SimpleHashtable(){
         hashtable = new StoredEmployee[10];  // Create array of 10 empty slots
+        resizable = false;
+        hashFunction = StandardHashFunction.LENGTH;
+        loadFactor = 1.0f;
+        threshold = hashtable.length;
+    }
+
+    /**
+     * CONSTRUCTOR - Production Mode
+     * =============================
+     *
+     * Creates a hash table that behaves like a real-world open-addressing map:
+     * - HASHING: String.hashCode() is run through a bit mixer (see spread()),
+     *   so "Jones" and "Smith" no longer land on the same slot just because
+     *   they have the same length.
+     * - CAPACITY: always a power of two, so "hash % length" becomes the much
+     *   cheaper "hash & (length - 1)".
+     * - RESIZING: when live items plus tombstones pass capacity * loadFactor,
+     *   the table doubles (or is cleaned in place if it is mostly tombstones).
+     * - DELETES: remove() leaves a TOMBSTONE instead of rehashing the whole
+     *   table, so removals are O(1) on average and findKey() never stops early.
+     *
+     * @param initialCapacity expected number of employees (rounded up to a power of two)
+     * @param loadFactor fraction of slots allowed to be used before resizing, in (0, 1)
+     * @throws IllegalArgumentException if initialCapacity is negative or loadFactor is not in (0, 1)
+     */
+    public SimpleHashtable(int initialCapacity, float loadFactor){
+        this(initialCapacity, loadFactor, StandardHashFunction.STRING_HASH_SPREAD);
+    }
+
+    /**
+     * Production mode with a chosen hash function.
+     *
+     * Only the LOW bits of the hash pick the slot (capacity is a power of
+     * two), so a function with weak low bits - like plain STRING_HASH -
+     * causes long probe runs. HashFunctionBenchmark measures this.
+     *
+     * @param initialCapacity expected number of employees (rounded up to a power of two)
+     * @param loadFactor fraction of slots allowed to be used before resizing, in (0, 1)
+     * @param hashFunction turns each key into a 32-bit hash
+     * @throws IllegalArgumentException if initialCapacity is negative or loadFactor is not in (0, 1)
+     * @throws NullPointerException if hashFunction is null
+     */
+    public SimpleHashtable(int initialCapacity, float loadFactor, HashFunction hashFunction){
+        if(hashFunction == null){
+            throw new NullPointerException("hashFunction");
+        }
+        if(initialCapacity < 0){
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if(!(loadFactor > 0 && loadFactor < 1)){
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.resizable = true;
+        this.loadFactor = loadFactor;
+        this.hashFunction = hashFunction;
+        int capacity = tableSizeFor((int) Math.min(MAXIMUM_CAPACITY, Math.ceil(initialCapacity / (double) loadFactor)));
+        hashtable = new StoredEmployee[capacity];
+        threshold = (int) (capacity * loadFactor);
+    }
+
+    /**
+     * Creates a production-mode hash table with the default capacity (16)
+     * and load factor (0.75).
+     *
+     * @return an empty, automatically resizing hash table
+     */
+    public static SimpleHashtable production(){
+        return new SimpleHashtable(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
     }
 
 
@@ -157,6 +275,11 @@ public class SimpleHashtable {
      * - Worst Case: O(n) - Must probe through entire array (table is nearly full)
      */
     public void put(String key, Employee employee){
+        if(resizable){
+            putResizable(key, employee);
+            return;
+        }
+
         int hashedKey = hashKeys(key);  // Step 1: Calculate the index
         
         if(occupied(hashedKey)){  // Step 2: Is this spot taken?
@@ -188,9 +311,115 @@ public class SimpleHashtable {
         else{
             // SUCCESS! Found an empty spot - store the employee here
             hashtable[hashedKey]=new StoredEmployee(key,employee);
+            size++;
         }
     }
 
+    /**
+     * PUT (production mode) - Insert or Replace
+     * ==========================================
+     *
+     * 1. Grow the table first if this insert would pass the load factor.
+     * 2. Probe from the home slot, remembering the first TOMBSTONE we pass.
+     * 3. If we find the key, replace its employee (no duplicate entries).
+     * 4. If we hit an empty slot, the key is new: store it in the first
+     *    tombstone we saw (recycling space) or in the empty slot itself.
+     *
+     * Because the load factor is always below 1, there is always at least one
+     * empty slot, so the probe loop is guaranteed to terminate.
+     */
+    private void putResizable(String key, Employee employee){
+        if(size + tombstones + 1 > threshold){
+            resize();
+        }
+        putAt(hashKeys(key), key, employee);
+    }
+
+    /**
+     * Production-mode insert/replace that starts probing at a home slot the
+     * caller already computed. There must be room for one more entry.
+     */
+    private void putAt(int hashedKey, String key, Employee employee){
+        int firstTombstone = -1;
+        StoredEmployee slot;
+        while((slot = hashtable[hashedKey]) != null){
+            if(slot == TOMBSTONE){
+                if(firstTombstone == -1){
+                    firstTombstone = hashedKey;
+                }
+            }
+            else if(slot.key.equals(key)){
+                slot.employee = employee;  // Same key: replace in place
+                return;
+            }
+            hashedKey = (hashedKey + 1) & (hashtable.length - 1);
+        }
+
+        if(firstTombstone != -1){
+            hashtable[firstTombstone] = new StoredEmployee(key, employee);
+            tombstones--;
+        }
+        else{
+            hashtable[hashedKey] = new StoredEmployee(key, employee);
+        }
+        size++;
+    }
+
+    /**
+     * PUT ALL - Insert a Batch of Employees
+     * =====================================
+     *
+     * Same result as calling put(keys[i], employees[i]) for every i, in
+     * order (a key that appears twice keeps the LAST employee). In
+     * production mode it is staged like getAll():
+     *
+     * 1. Make room for the whole batch up front - at most one resize, and no
+     *    resize in the middle that would invalidate computed slots.
+     * 2. For each group of BATCH_GROUP keys: hash all of them (no key waits
+     *    for another), then do the actual probes and inserts one by one.
+     *    Unlike getAll() there is no separate load stage - the insert has
+     *    to read its slot anyway, and a load nobody uses is dropped by the
+     *    JIT.
+     *
+     * @param keys the keys, one per employee
+     * @param employees the employees to store
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public void putAll(String[] keys, Employee[] employees){
+        if(keys.length != employees.length){
+            throw new IllegalArgumentException("keys.length " + keys.length
+                    + " != employees.length " + employees.length);
+        }
+        if(!resizable){
+            for(int i = 0; i < keys.length; i++){
+                put(keys[i], employees[i]);
+            }
+            return;
+        }
+
+        while((long) size + tombstones + keys.length > threshold && hashtable.length < MAXIMUM_CAPACITY){
+            resize();
+        }
+        if((long) size + tombstones + keys.length > threshold){
+            // Cannot fit the whole batch up front; let put() resize (or fail) as usual
+            for(int i = 0; i < keys.length; i++){
+                putResizable(keys[i], employees[i]);
+            }
+            return;
+        }
+
+        int[] slots = new int[BATCH_GROUP];
+        for(int start = 0; start < keys.length; start += BATCH_GROUP){
+            int count = Math.min(BATCH_GROUP, keys.length - start);
+            int mask = hashtable.length - 1;
+            for(int i = 0; i < count; i++){
+                slots[i] = hashFunction.hash(keys[start + i]) & mask;
+            }
+            for(int i = 0; i < count; i++){
+                putAt(slots[i], keys[start + i], employees[start + i]);
+            }
+        }
+    }
 
     /**
      * GET - Retrieve an Employee by Key
@@ -243,6 +472,92 @@ public class SimpleHashtable {
         return hashtable[hashedKey].employee;
     }
 
+    /**
+     * GET ALL - Look Up a Batch of Keys
+     * =================================
+     *
+     * Fills out[i] with get(keys[i]) for every i (null when not found).
+     *
+     * WHY A BATCH IS FASTER:
+     * ----------------------
+     * In a big table, every get() is a CACHE MISS: the slot array, the
+     * StoredEmployee in it and its key String all live somewhere else in
+     * memory, and each load waits ~100ns for the one before it. A loop of
+     * get() calls waits for these misses ONE AFTER ANOTHER.
+     *
+     * getAll() works on groups of BATCH_GROUP keys in STAGES:
+     *
+     *   stage 1: hash all keys         → slot numbers
+     *   stage 2: load all home slots   → StoredEmployee references
+     *   stage 3: load all stored keys  → String references
+     *   stage 4: compare; the few keys not at their home slot probe on
+     *
+     * Inside a stage the loads do not depend on each other, so the CPU
+     * issues them together and the misses OVERLAP - the same effect as a
+     * software prefetch, which Java does not offer directly.
+     *
+     * Learning mode (no power-of-two table) simply calls get() per key.
+     *
+     * @param keys the keys to look up
+     * @param out receives the employees; must be at least keys.length long
+     * @return the number of keys found
+     * @throws IllegalArgumentException if out is shorter than keys
+     */
+    public int getAll(String[] keys, Employee[] out){
+        if(out.length < keys.length){
+            throw new IllegalArgumentException("out.length " + out.length
+                    + " < keys.length " + keys.length);
+        }
+        int found = 0;
+        if(!resizable){
+            for(int i = 0; i < keys.length; i++){
+                out[i] = get(keys[i]);
+                if(out[i] != null){
+                    found++;
+                }
+            }
+            return found;
+        }
+
+        StoredEmployee[] table = hashtable;
+        int mask = table.length - 1;
+        int[] slots = new int[BATCH_GROUP];
+        StoredEmployee[] homes = new StoredEmployee[BATCH_GROUP];
+        String[] homeKeys = new String[BATCH_GROUP];
+        for(int start = 0; start < keys.length; start += BATCH_GROUP){
+            int count = Math.min(BATCH_GROUP, keys.length - start);
+            for(int i = 0; i < count; i++){
+                slots[i] = hashFunction.hash(keys[start + i]) & mask;
+            }
+            for(int i = 0; i < count; i++){
+                homes[i] = table[slots[i]];
+            }
+            for(int i = 0; i < count; i++){
+                StoredEmployee home = homes[i];
+                homeKeys[i] = home == null ? null : home.key;  // TOMBSTONE has a null key
+            }
+            for(int i = 0; i < count; i++){
+                String key = keys[start + i];
+                Employee employee;
+                if(homes[i] == null){
+                    employee = null;  // Empty home slot: definitely not in the table
+                }
+                else if(homeKeys[i] != null && homeKeys[i].equals(key)){
+                    employee = homes[i].employee;  // Found at home - the common case
+                }
+                else{
+                    int index = findKey(key);
+                    employee = index == -1 ? null : table[index].employee;
+                }
+                out[start + i] = employee;
+                if(employee != null){
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
     /**
      * REMOVE - Delete an Employee from the Hash Table
      * ================================================
@@ -302,18 +617,31 @@ public class SimpleHashtable {
      * - This is why hash tables with linear probing can be slow for deletions
      * 
      * ALTERNATIVE: Chaining (see ChainedHashtable) avoids this problem!
+     * In production mode the slot is replaced by a TOMBSTONE instead, which
+     * keeps removal O(1) on average.
      */
     public Employee remove(String key){
         int hashedKey  = findKey(key);  // Step 1: Find where the employee is stored
         
-        if(hashtable[hashedKey]==null){
+        if(hashedKey==-1){
             // Employee not found
             return null;
         }
         
         // Step 2: Save the employee to return later
         Employee employee = hashtable[hashedKey].employee;
+        size--;
+
+        if(resizable){
+            // Production mode: leave a TOMBSTONE so probe chains stay intact.
+            // No rehash needed - O(1) instead of O(n)!
+            hashtable[hashedKey] = TOMBSTONE;
+            tombstones++;
+            return employee;
+        }
+
         hashtable[hashedKey] = null;  // Delete the employee
+        size = 0;  // put() below counts the survivors again
 
         // Step 3-5: REHASH the entire table to fix probing chains
         StoredEmployee[] oldhashtable = hashtable;  // Save current table
@@ -389,7 +717,110 @@ public class SimpleHashtable {
      * TIME COMPLEXITY: O(1) - Constant time
      */
     private int hashKeys(String key){
-        return key.length() % hashtable.length;
+        if(resizable){
+            // Production mode: mask (capacity is a power of two)
+            return hashFunction.hash(key) & (hashtable.length - 1);
+        }
+        return Math.floorMod(hashFunction.hash(key), hashtable.length);
+    }
+
+    /**
+     * SPREAD - Mix the Bits of a Hash Code
+     * ====================================
+     *
+     * Masking with (length - 1) only looks at the LOW bits of the hash code.
+     * String.hashCode() keeps a lot of its variety in the high bits, so we run
+     * it through the MurmurHash3 finalizer: every input bit now affects every
+     * output bit, and similar names end up far apart in the table.
+     *
+     * @param h the raw hash code
+     * @return a well-mixed hash code
+     */
+    static int spread(int h){
+        return StandardHashFunction.fmix(h);
+    }
+
+    /**
+     * Returns the smallest power of two that is >= cap (at least 2).
+     */
+    private static int tableSizeFor(int cap){
+        int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(cap, 2) - 1);
+        return n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : n + 1;
+    }
+
+    /**
+     * RESIZE - Grow (or Clean) the Table
+     * ==================================
+     *
+     * If at least half of the used slots are TOMBSTONES, the table is rebuilt
+     * at the same size: that alone frees enough room. Otherwise it doubles.
+     * Either way every live item is re-inserted with its new home slot and
+     * all tombstones disappear.
+     *
+     * TIME COMPLEXITY: O(capacity), but it happens rarely, so put() is still
+     * amortized O(1).
+     */
+    private void resize(){
+        StoredEmployee[] oldhashtable = hashtable;
+        int newCapacity = oldhashtable.length;
+        // Grow if the entries are mostly live - or if there are none: a
+        // table with a threshold of 0 (capacity 0 or 1) must grow to take
+        // its first entry, and must never be filled to the last slot
+        if((tombstones < size || size == 0) && newCapacity < MAXIMUM_CAPACITY){
+            newCapacity = newCapacity << 1;
+        }
+        else if(tombstones == 0){
+            throw new IllegalStateException("Hashtable cannot grow beyond " + MAXIMUM_CAPACITY + " slots");
+        }
+
+        hashtable = new StoredEmployee[newCapacity];
+        threshold = (int) (newCapacity * loadFactor);
+        tombstones = 0;
+        int mask = newCapacity - 1;
+        for(StoredEmployee stored : oldhashtable){
+            if(stored != null && stored != TOMBSTONE){
+                // Keys are unique, so we only need the first empty slot
+                int hashedKey = hashFunction.hash(stored.key) & mask;
+                while(hashtable[hashedKey] != null){
+                    hashedKey = (hashedKey + 1) & mask;
+                }
+                hashtable[hashedKey] = stored;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of employees currently stored.
+     *
+     * @return the number of live entries
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * LONGEST PROBE - How Far the Worst Key Sits From Its Home Slot
+     * ==============================================================
+     *
+     * For every stored key, counts the slots get() has to look at to find it
+     * (1 = found at its home slot). Returns the largest count - a direct
+     * measure of how much the hash function makes keys cluster.
+     *
+     * TIME COMPLEXITY: O(capacity + total probe length)
+     *
+     * @return the longest successful probe sequence, or 0 if the table is empty
+     */
+    public int longestProbe(){
+        int longest = 0;
+        for(int i = 0; i < hashtable.length; i++){
+            StoredEmployee stored = hashtable[i];
+            if(stored != null && stored != TOMBSTONE){
+                int home = hashKeys(stored.key);
+                int probes = (i - home + hashtable.length) % hashtable.length + 1;
+                longest = Math.max(longest, probes);
+            }
+        }
+        return longest;
     }
 
     /**
@@ -452,8 +883,7 @@ public class SimpleHashtable {
         int hashedKey = hashKeys(key);  // Step 1: Calculate starting index
         
         // Step 2: Check if we found it at the first try
-        if(hashtable[hashedKey]!=null &&
-                hashtable[hashedKey].key.equals(key)){
+        if(matches(hashedKey, key)){
             return hashedKey;  // Lucky! Found it immediately
         }
 
@@ -469,17 +899,17 @@ public class SimpleHashtable {
         
         // Keep probing until one of three conditions:
         // 1. We loop back to start (stopIndex)
-        // 2. We find an empty slot (null)
+        // 2. We find an empty slot (null) - a TOMBSTONE does NOT stop us!
         // 3. We find the matching key
         while (hashedKey != stopIndex &&
                 hashtable[hashedKey] != null &&
-                !hashtable[hashedKey].key.equals(key)) {
-            hashedKey = (hashedKey + 1) % hashtable.length;  // Probe to next slot
+                !matches(hashedKey, key)) {
+            // Probe to next slot (a compare is cheaper than % on every step)
+            hashedKey = hashedKey == hashtable.length - 1 ? 0 : hashedKey + 1;
         }
         
         // Check why we stopped:
-        if(hashtable[hashedKey]!= null &&
-                hashtable[hashedKey].key.equals(key)){
+        if(matches(hashedKey, key)){
             // We found the matching key!
             return hashedKey;
         }
@@ -489,6 +919,15 @@ public class SimpleHashtable {
         }
     }
 
+    /**
+     * Returns true if the slot holds a live entry with the given key.
+     * TOMBSTONES never match (their key is null).
+     */
+    private boolean matches(int hashedKey, String key){
+        StoredEmployee stored = hashtable[hashedKey];
+        return stored != null && stored != TOMBSTONE && stored.key.equals(key);
+    }
+
     /**
      * OCCUPIED - Check if a Slot is Occupied
      * =======================================
@@ -537,6 +976,9 @@ public class SimpleHashtable {
             if(hashtable[i]==null){
                 System.out.println("empty");
             }
+            else if(hashtable[i]==TOMBSTONE){
+                System.out.println("position"+i+": deleted");
+            }
             else{
                 System.out.println("position"+i+": "+hashtable[i].employee);
             }
@@ -776,6 +1218,15 @@ public class SimpleHashtable {
  * remove()     | O(n)      | O(n)         | O(n)       | Must rehash entire table
  * hashKeys()   | O(1)      | O(1)         | O(1)       | Simple calculation
  * findKey()    | O(1)      | O(1)         | O(n)       | Depends on probe length
+ *
+ * SIMPLE HASHTABLE (Production Mode - new SimpleHashtable(capacity, loadFactor)):
+ *
+ * Operation    | Best Case | Average Case | Worst Case | Notes
+ * -------------|-----------|--------------|------------|----------------------------
+ * put()        | O(1)      | O(1)*        | O(n)       | *Amortized, includes resize
+ * get()        | O(1)      | O(1)         | O(n)       | Load factor bounds probe length
+ * remove()     | O(1)      | O(1)         | O(n)       | Leaves a TOMBSTONE, no rehash
+ * resize()     | O(n)      | O(n)         | O(n)       | Rare: capacity doubles
  * 
  * SPACE COMPLEXITY: O(n)
  * - Array of size n (actually slightly larger for load factor < 1)
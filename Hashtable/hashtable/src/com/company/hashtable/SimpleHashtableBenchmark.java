@@ -0,0 +1,116 @@
+package com.company.hashtable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ========================================================================
+ * SIMPLE HASHTABLE BENCHMARK - Production Mode vs java.util.HashMap
+ * ========================================================================
+ *
+ * Measures put() and get() throughput of SimpleHashtable in production mode
+ * against java.util.HashMap, for 1K up to 10M keys.
+ *
+ * HOW IT MEASURES:
+ * ----------------
+ * - Every size is run WARMUP_ROUNDS times first so the JIT compiles the hot
+ *   loops, then MEASURED_ROUNDS times; the best round is reported.
+ * - put: start from an EMPTY default-sized table, so resizing is included.
+ * - get: look up every key once (all hits) in a fully loaded table.
+ * - Results are folded into a "sink" value and printed, so the JIT cannot
+ *   throw the work away as dead code.
+ *
+ * HOW TO RUN:
+ * -----------
+ * java -Xmx8g com.company.hashtable.SimpleHashtableBenchmark            (1K .. 10M)
+ * java com.company.hashtable.SimpleHashtableBenchmark 1000 100000       (custom sizes)
+ *
+ * @author Data Structures Learning Project
+ * @version 1.0
+ */
+public class SimpleHashtableBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+
+    private static final String[] LAST_NAMES = {
+            "Jones", "Smith", "Brown", "Wilson", "Doe", "Taylor", "Clark", "Davis", "Miller", "Moore"
+    };
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%-12s %-16s %16s %16s%n", "keys", "implementation", "put ops/sec", "get ops/sec");
+        for (int n : sizes) {
+            String[] keys = new String[n];
+            Employee[] employees = new Employee[n];
+            for (int i = 0; i < n; i++) {
+                String lastName = LAST_NAMES[i % LAST_NAMES.length] + i;
+                keys[i] = lastName;
+                employees[i] = new Employee("First" + i, lastName, i);
+            }
+
+            double[] simple = run(keys, employees, true);
+            System.out.printf("%-12d %-16s %,16.0f %,16.0f%n", n, "SimpleHashtable", simple[0], simple[1]);
+            double[] hashMap = run(keys, employees, false);
+            System.out.printf("%-12d %-16s %,16.0f %,16.0f%n", n, "HashMap", hashMap[0], hashMap[1]);
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * Runs the warmup + measured rounds for one implementation.
+     *
+     * @return {best put ops/sec, best get ops/sec}
+     */
+    private static double[] run(String[] keys, Employee[] employees, boolean simple) {
+        double bestPut = 0;
+        double bestGet = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            SimpleHashtable table = null;
+            Map<String, Employee> map = null;
+            if (simple) {
+                table = SimpleHashtable.production();
+                for (int i = 0; i < keys.length; i++) {
+                    table.put(keys[i], employees[i]);
+                }
+            } else {
+                map = new HashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    map.put(keys[i], employees[i]);
+                }
+            }
+            long putNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long found = 0;
+            if (simple) {
+                for (String key : keys) {
+                    found += table.get(key).getId();
+                }
+            } else {
+                for (String key : keys) {
+                    found += map.get(key).getId();
+                }
+            }
+            long getNanos = System.nanoTime() - start;
+            sink += found;
+
+            if (round >= WARMUP_ROUNDS) {
+                bestPut = Math.max(bestPut, keys.length * 1e9 / putNanos);
+                bestGet = Math.max(bestGet, keys.length * 1e9 / getNanos);
+            }
+        }
+        return new double[]{bestPut, bestGet};
+    }
+}
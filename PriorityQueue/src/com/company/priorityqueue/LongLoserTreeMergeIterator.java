@@ -0,0 +1,165 @@
+package com.company.priorityqueue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * LOSER TREE K-WAY MERGE OF PRIMITIVE longs
+ * =========================================
+ *
+ * LoserTreeMergeIterator for runs of longs (timestamps, transaction ids):
+ * the heads live in a long[] and are compared with <, so merging boxes
+ * nothing and calls no Comparator. Smallest value first.
+ *
+ * Sources are PrimitiveIterator.OfLong, e.g. a reader that decodes longs
+ * from a file; ofArrays wraps in-memory runs with a plain index cursor
+ * (cheaper than Arrays.stream(run).iterator(), which goes through a
+ * Spliterator).
+ *
+ * @see LoserTreeMergeIterator for how the tree works
+ */
+public class LongLoserTreeMergeIterator implements PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong[] sources;
+    private final long[] heads;
+    private final boolean[] exhausted;
+    private final int k;
+
+    /** tree[0] = current winner; tree[1..k-1] = loser stored at each inner node. */
+    private final int[] tree;
+
+    /**
+     * @param sources iterators, each in ascending order
+     */
+    public LongLoserTreeMergeIterator(List<? extends PrimitiveIterator.OfLong> sources) {
+        this.k = sources.size();
+        this.sources = sources.toArray(new PrimitiveIterator.OfLong[0]);
+        heads = new long[k];
+        exhausted = new boolean[k];
+        tree = new int[Math.max(1, k)];
+        for (int i = 0; i < k; i++) {
+            advance(i);
+        }
+        build();
+    }
+
+    /**
+     * @param runs arrays, each sorted ascending
+     */
+    public static LongLoserTreeMergeIterator ofArrays(long[]... runs) {
+        PrimitiveIterator.OfLong[] sources = new PrimitiveIterator.OfLong[runs.length];
+        for (int i = 0; i < runs.length; i++) {
+            sources[i] = new ArrayRun(runs[i]);
+        }
+        return new LongLoserTreeMergeIterator(Arrays.asList(sources));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return k > 0 && !exhausted[tree[0]];
+    }
+
+    /**
+     * Time Complexity: O(log k), about log2(k) compares
+     */
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int winner = tree[0];
+        long value = heads[winner];
+        advance(winner);
+
+        // Replay the winner's path: leaf (k + winner) up to the root
+        for (int node = (winner + k) >> 1; node >= 1; node >>= 1) {
+            int loser = tree[node];
+            if (beats(loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+        return value;
+    }
+
+    /**
+     * Merges everything that is left into {@code out} starting at
+     * {@code offset}, until out is full or the sources run dry.
+     *
+     * @return number of values written
+     */
+    public int drainTo(long[] out, int offset) {
+        int i = offset;
+        while (i < out.length && hasNext()) {
+            out[i++] = nextLong();
+        }
+        return i - offset;
+    }
+
+    private void build() {
+        if (k == 0) {
+            return;
+        }
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node >= 1; node--) {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    private void advance(int source) {
+        if (sources[source].hasNext()) {
+            heads[source] = sources[source].nextLong();
+        } else {
+            heads[source] = Long.MAX_VALUE;
+            exhausted[source] = true;
+        }
+    }
+
+    /** true if source a's head comes before source b's (exhausted = infinity, ties to the lower index). */
+    private boolean beats(int a, int b) {
+        long x = heads[a];
+        long y = heads[b];
+        if (x != y) {
+            return x < y;  // An exhausted head is Long.MAX_VALUE, so it never wins here
+        }
+        return exhausted[a] == exhausted[b] ? a < b : exhausted[b];
+    }
+
+    /** Cursor over one sorted long[]. */
+    private static final class ArrayRun implements PrimitiveIterator.OfLong {
+        private final long[] run;
+        private int next;
+
+        ArrayRun(long[] run) {
+            this.run = run;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < run.length;
+        }
+
+        @Override
+        public long nextLong() {
+            if (next == run.length) {
+                throw new NoSuchElementException();
+            }
+            return run[next++];
+        }
+    }
+}
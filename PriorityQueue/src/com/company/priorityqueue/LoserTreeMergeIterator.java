@@ -0,0 +1,167 @@
+package com.company.priorityqueue;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * LOSER TREE - K-Way Merge of Sorted Runs
+ * =======================================
+ *
+ * The "merge k sorted lists" answer uses a PriorityQueue of list heads:
+ * every element costs a poll() (sift down: ~2 log k compares) plus an add()
+ * (sift up). A LOSER TREE (tournament tree) does the same job with ONE pass
+ * from a leaf to the root: log k compares per element.
+ *
+ * THE TOURNAMENT:
+ * Each source is a player; its current head is its "score" (smaller wins).
+ * Every inner node remembers the LOSER of the match played there, and the
+ * overall winner sits above the root:
+ *
+ *                   winner: src 1 (1)
+ *                          |
+ *                   [src 2 (3)]          ← lost the final
+ *                  /            \
+ *        [src 0 (4)]            [src 3 (6)]   ← lost the semi-finals
+ *         /       \             /       \
+ *     src 0 (4) src 1 (1)   src 2 (3) src 3 (6)
+ *
+ * next(): hand out the winner's head (1), advance source 1 to its next
+ * value (say 5), then REPLAY only source 1's path to the root. At each node
+ * the newcomer plays the stored loser - the only player it can meet there:
+ *
+ *   node [src 0 (4)]: 5 vs 4 → 4 wins, 5 stays as loser, 4 moves up
+ *   node [src 2 (3)]: 4 vs 3 → 3 wins, 4 stays as loser, 3 moves up
+ *   new winner: src 2 (3)
+ *
+ * One compare per level, no swaps among siblings, and the path is fixed
+ * (leaf → root), so the loop is short and predictable.
+ *
+ * An exhausted source scores "infinity": it loses every match, and once the
+ * winner is exhausted every source is.
+ *
+ * Ties go to the source with the lower index, so the merge is STABLE
+ * across sources (equal values come out in source order).
+ *
+ * NO PER-ELEMENT ALLOCATION: the tree is one int[], the heads one Object[]
+ * (a dry source's head is a shared EXHAUSTED marker, not a flag array);
+ * next() only moves indices (the sources themselves may still allocate).
+ *
+ * See LongLoserTreeMergeIterator for primitive long runs and
+ * KWayMergeBenchmark for the comparison with PriorityQueue.
+ *
+ * @param <T> the element type
+ */
+public class LoserTreeMergeIterator<T> implements Iterator<T> {
+
+    /** Head of a source that has run dry: loses every match. */
+    private static final Object EXHAUSTED = new Object();
+
+    private final Iterator<? extends T>[] sources;
+    private final Comparator<? super T> comparator;
+    private final Object[] heads;         // EXHAUSTED once a source runs dry
+    private final int k;
+
+    /** tree[0] = current winner; tree[1..k-1] = loser stored at each inner node. */
+    private final int[] tree;
+
+    /**
+     * @param sources sorted iterators, each in comparator order
+     * @param comparator the order of the runs; null means natural order
+     */
+    @SuppressWarnings("unchecked")
+    public LoserTreeMergeIterator(List<? extends Iterator<? extends T>> sources, Comparator<? super T> comparator) {
+        this.k = sources.size();
+        this.sources = (Iterator<? extends T>[]) sources.toArray(new Iterator<?>[0]);
+        this.comparator = comparator;
+        heads = new Object[k];
+        tree = new int[Math.max(1, k)];
+        for (int i = 0; i < k; i++) {
+            advance(i);
+        }
+        build();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return k > 0 && heads[tree[0]] != EXHAUSTED;
+    }
+
+    /**
+     * Time Complexity: O(log k), about log2(k) compares
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int winner = tree[0];
+        T value = (T) heads[winner];
+        advance(winner);
+        replay(winner);
+        return value;
+    }
+
+    /**
+     * Plays the first round at every inner node, bottom-up. Leaf of source i
+     * is node k + i, so node n's children are 2n and 2n + 1 for any k.
+     */
+    private void build() {
+        if (k == 0) {
+            return;
+        }
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node >= 1; node--) {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    /** Walks from source's leaf to the root, playing each stored loser. */
+    private void replay(int source) {
+        int winner = source;
+        for (int node = (source + k) >> 1; node >= 1; node >>= 1) {
+            int loser = tree[node];
+            if (beats(loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    private void advance(int source) {
+        if (sources[source].hasNext()) {
+            heads[source] = sources[source].next();
+        } else {
+            heads[source] = EXHAUSTED;
+        }
+    }
+
+    /** true if source a's head comes before source b's (exhausted = infinity, ties to the lower index). */
+    @SuppressWarnings("unchecked")
+    private boolean beats(int a, int b) {
+        Object x = heads[a];
+        Object y = heads[b];
+        if (x == EXHAUSTED || y == EXHAUSTED) {
+            return y == EXHAUSTED && (x != EXHAUSTED || a < b);
+        }
+        int c = comparator != null
+                ? comparator.compare((T) x, (T) y)
+                : ((Comparable<? super T>) x).compareTo((T) y);
+        return c < 0 || (c == 0 && a < b);
+    }
+}
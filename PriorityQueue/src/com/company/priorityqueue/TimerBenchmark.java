@@ -0,0 +1,226 @@
+package com.company.priorityqueue;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TIMER BENCHMARK - Timing Wheel vs Heap Schedulers at 1M Pending Timers
+ * ======================================================================
+ *
+ * Payment-timeout workload: PENDING timers (default 1M) with deadlines
+ * 1-60 s away are scheduled, then CHURN operations each cancel one random
+ * pending timer (the payment completed) and schedule a new one (the next
+ * payment). Nothing fires during the run - the point is schedule + cancel.
+ *
+ * - TimingWheel             : O(1) schedule, O(1) cancel, no garbage per timer
+ * - ScheduledThreadPool     : ScheduledThreadPoolExecutor with
+ *                             setRemoveOnCancelPolicy(true) - a heap that
+ *                             tracks each task's index: O(log n) both ways,
+ *                             plus a ScheduledFuture object per timer
+ * - DelayQueue, lazy cancel : cancel only sets a flag (remove() would be
+ *                             O(n)); dead entries stay in the heap until
+ *                             their deadline, so the heap keeps growing
+ * - PriorityQueue remove(o) : the textbook way; remove is an O(n) search,
+ *                             so it only gets CHURN / 1000 operations
+ *
+ * Columns: ns per schedule while filling, ns per churn op (cancel +
+ * schedule), GC collections and GC time during the whole run, and entries
+ * still held at the end (pending + dead).
+ *
+ * Each scheduler runs twice and the second run is reported.
+ *
+ * HOW TO RUN:
+ *   java -Xmx2g com.company.priorityqueue.TimerBenchmark [pending] [churnOps]
+ */
+public class TimerBenchmark {
+
+    private static final Runnable NO_OP = () -> { };
+    private static final long MIN_DELAY_MS = 1_000;
+    private static final long MAX_DELAY_MS = 60_000;
+
+    /** A DelayQueue entry whose cancel only marks it. */
+    private static final class DelayedTimer implements Delayed {
+        final long deadlineNanos;
+        volatile boolean cancelled;
+
+        DelayedTimer(long delayMillis) {
+            deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((DelayedTimer) other).deadlineNanos);
+        }
+    }
+
+    /** Common face of the four schedulers; handles are indices into a table. */
+    private interface Scheduler {
+        void schedule(int id, long delayMillis);
+
+        void cancel(int id);
+
+        long entries();
+    }
+
+    public static void main(String[] args) {
+        int pending = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int churn = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+
+        System.out.printf("%,d pending timers, %,d churn ops (cancel + schedule)%n", pending, churn);
+        System.out.printf("%-26s %14s %14s %8s %10s %12s%n",
+                "scheduler", "schedule ns", "churn ns/op", "GCs", "GC ms", "entries");
+        for (int kind = 0; kind < 4; kind++) {
+            int ops = kind == 3 ? Math.max(1, churn / 1000) : churn;
+            run(kind, pending, ops, false);  // Warmup
+            run(kind, pending, ops, true);
+        }
+    }
+
+    private static void run(int kind, int pending, int ops, boolean print) {
+        Scheduler scheduler = create(kind, pending);
+        Random random = new Random(42);
+        System.gc();
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+
+        long start = System.nanoTime();
+        for (int id = 0; id < pending; id++) {
+            scheduler.schedule(id, delay(random));
+        }
+        long filled = System.nanoTime();
+        for (int op = 0; op < ops; op++) {
+            int id = random.nextInt(pending);   // Its payment completed...
+            scheduler.cancel(id);
+            scheduler.schedule(id, delay(random));  // ...and the next one starts
+        }
+        long end = System.nanoTime();
+
+        if (print) {
+            String[] names = {"TimingWheel", "ScheduledThreadPool", "DelayQueue, lazy cancel", "PriorityQueue remove(o)"};
+            System.out.printf("%-26s %14.1f %14.1f %8d %10d %,12d%n", names[kind],
+                    (filled - start) / (double) pending, (end - filled) / (double) ops,
+                    gcCount() - gcCount, gcMillis() - gcMillis, scheduler.entries());
+        }
+        if (scheduler instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) scheduler).close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static long delay(Random random) {
+        return MIN_DELAY_MS + (long) (random.nextDouble() * (MAX_DELAY_MS - MIN_DELAY_MS));
+    }
+
+    private static Scheduler create(int kind, int pending) {
+        switch (kind) {
+            case 0:
+                return new Scheduler() {
+                    final TimingWheel wheel = new TimingWheel(Runnable::run, 1, TimeUnit.MILLISECONDS);
+                    final long[] handles = new long[pending];
+
+                    public void schedule(int id, long delayMillis) {
+                        handles[id] = wheel.schedule(NO_OP, delayMillis, TimeUnit.MILLISECONDS);
+                    }
+
+                    public void cancel(int id) {
+                        wheel.cancel(handles[id]);
+                    }
+
+                    public long entries() {
+                        return wheel.pending();
+                    }
+                };
+            case 1: {
+                ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+                executor.setRemoveOnCancelPolicy(true);
+                class Pool implements Scheduler, AutoCloseable {
+                    final ScheduledFuture<?>[] futures = new ScheduledFuture<?>[pending];
+
+                    public void schedule(int id, long delayMillis) {
+                        futures[id] = executor.schedule(NO_OP, delayMillis, TimeUnit.MILLISECONDS);
+                    }
+
+                    public void cancel(int id) {
+                        futures[id].cancel(false);
+                    }
+
+                    public long entries() {
+                        return executor.getQueue().size();
+                    }
+
+                    public void close() {
+                        executor.shutdownNow();
+                    }
+                }
+                return new Pool();
+            }
+            case 2:
+                return new Scheduler() {
+                    final DelayQueue<DelayedTimer> queue = new DelayQueue<>();
+                    final DelayedTimer[] timers = new DelayedTimer[pending];
+
+                    public void schedule(int id, long delayMillis) {
+                        timers[id] = new DelayedTimer(delayMillis);
+                        queue.add(timers[id]);
+                    }
+
+                    public void cancel(int id) {
+                        timers[id].cancelled = true;  // Skipped when it reaches the head
+                    }
+
+                    public long entries() {
+                        return queue.size();
+                    }
+                };
+            default:
+                return new Scheduler() {
+                    final PriorityQueue<DelayedTimer> queue = new PriorityQueue<>();
+                    final DelayedTimer[] timers = new DelayedTimer[pending];
+
+                    public void schedule(int id, long delayMillis) {
+                        timers[id] = new DelayedTimer(delayMillis);
+                        queue.add(timers[id]);
+                    }
+
+                    public void cancel(int id) {
+                        queue.remove(timers[id]);
+                    }
+
+                    public long entries() {
+                        return queue.size();
+                    }
+                };
+        }
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+}
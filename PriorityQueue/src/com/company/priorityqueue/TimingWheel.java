@@ -0,0 +1,396 @@
+package com.company.priorityqueue;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HIERARCHICAL TIMING WHEEL - O(1) Schedule and Cancel for Deadlines
+ * ==================================================================
+ *
+ * A priority queue of deadlines (PriorityQueue, DelayQueue,
+ * ScheduledThreadPoolExecutor) pays O(log n) per schedule AND per cancel -
+ * and most payment timeouts ARE cancelled: the payment completes long
+ * before its 30 s timeout. With a million pending timers that is a lot of
+ * sifting for timers that never fire.
+ *
+ * A TIMING WHEEL is a clock face instead: time is cut into TICKS
+ * (e.g. 1 ms), and every slot of the wheel holds a list of the timers due
+ * in that tick. A pointer moves one slot per tick and fires that slot's list.
+ *
+ *          slot:  0    1    2    3   ...  255
+ *                [ ]  [A]  [ ]  [B,C] ... [ ]
+ *                      ▲ now (tick 1): fire A
+ *
+ *   schedule: drop the timer into slot (deadline & 255)   O(1)
+ *   cancel:   unlink it from its slot's list              O(1)
+ *
+ * HIERARCHY - one wheel of 256 slots only covers 256 ticks. Like the
+ * hands of a clock, level 1 has 256 slots of 256 ticks each, level 2 slots
+ * of 65,536 ticks, level 3 of 16.7M ticks: 4 levels cover 2^32 ticks
+ * (49 days at 1 ms). A timer goes into the level of the HIGHEST digit
+ * (base 256) where its deadline differs from the current tick:
+ *
+ *   now      = 0x00_01_02_03
+ *   deadline = 0x00_01_05_10    differs first at digit 1 → level 1, slot 0x05
+ *
+ * When the lower digits of the clock roll over to that slot, the slot is
+ * CASCADED: its timers are re-inserted, now landing in a lower level, and
+ * finally in level 0 where they fire in exactly their tick. Each timer is
+ * moved at most once per level: O(1) amortized.
+ *
+ * NO ALLOCATION PER TIMER: like IndexedHeap, timers live in slot arrays
+ * (deadline, task, list links) and the caller gets a long HANDLE
+ * (generation << 32 | slot), so cancelled timers leave no garbage behind.
+ *
+ * RUNNING TASKS: due tasks are handed to an Executor - pass
+ * Executors.newVirtualThreadPerTaskExecutor() (Java 21+) so each timeout
+ * handler gets its own cheap virtual thread, or Runnable::run to run them on
+ * the ticking thread. The clock is driven either by start() (a daemon
+ * thread that ticks in real time) or by calling advance() yourself.
+ *
+ * Thread-safe: schedule / cancel / advance take one lock for O(1) work;
+ * tasks are executed outside it. A task the executor rejects (say, it was
+ * shut down) does not run; advance() rethrows the rejection once all the
+ * other due tasks were handed off.
+ *
+ * PRECISION: deadlines are measured from System.nanoTime() when the timer
+ * is scheduled, not from the wheel's last tick, and the delay is rounded up
+ * to whole ticks plus one - so a timer never fires early, even when the
+ * clock lags behind. It fires at most about one tick late once the clock
+ * has caught up - fine for timeouts and retries, not for microsecond
+ * timing.
+ */
+public class TimingWheel implements AutoCloseable {
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;   // Slots per level
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;                     // 4 x 8 bits = 2^32 ticks
+    private static final int NONE = -1;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final Executor executor;
+    private final long tickNanos;
+    private final long startNanos;
+
+    /** First timer of each bucket (level * WHEEL_SIZE + slot), or NONE. */
+    private final int[] bucketHeads = new int[LEVELS * WHEEL_SIZE];
+    private long currentTick;
+
+    // Per-timer data, indexed by timer slot (not wheel slot)
+    private long[] deadlines;      // In ticks
+    private Runnable[] tasks;      // null = slot is free
+    private int[] next;            // Doubly linked bucket list; next also links the free list
+    private int[] prev;
+    private int[] buckets;         // Which bucket the timer is in, for O(1) unlink
+    private int[] generations;
+    private int freeHead = NONE;
+    private int slotsUsed;
+    private int pending;
+
+    /** Due tasks copied out under the lock, executed after releasing it. */
+    private Runnable[] due = new Runnable[64];
+    private final Object advanceLock = new Object();
+
+    private Thread ticker;
+    private volatile boolean closed;
+
+    /**
+     * @param executor runs the due tasks
+     * @param tick length of one tick (the precision of the wheel)
+     * @param unit unit of tick
+     * @throws IllegalArgumentException if tick is not positive
+     */
+    public TimingWheel(Executor executor, long tick, TimeUnit unit) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tick);
+        }
+        this.executor = executor;
+        this.tickNanos = unit.toNanos(tick);
+        this.startNanos = System.nanoTime();
+        Arrays.fill(bucketHeads, NONE);
+        deadlines = new long[DEFAULT_CAPACITY];
+        tasks = new Runnable[DEFAULT_CAPACITY];
+        next = new int[DEFAULT_CAPACITY];
+        prev = new int[DEFAULT_CAPACITY];
+        buckets = new int[DEFAULT_CAPACITY];
+        generations = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Schedules a task to run once, {@code delay} from now (rounded up to
+     * whole ticks).
+     *
+     * Time Complexity: O(1), amortized over the occasional grow
+     *
+     * @return a handle for cancel()
+     * @throws NullPointerException if task is null
+     */
+    public synchronized long schedule(Runnable task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new NullPointerException("Task cannot be null");
+        }
+        long nanos = unit.toNanos(Math.max(0, delay));
+        long ticks = (nanos + tickNanos - 1) / tickNanos;
+        long now = (System.nanoTime() - startNanos) / tickNanos;
+        int timer;
+        if (freeHead != NONE) {
+            timer = freeHead;
+            freeHead = next[timer];
+        } else {
+            if (slotsUsed == tasks.length) {
+                grow();
+            }
+            timer = slotsUsed++;
+        }
+        tasks[timer] = task;
+        // From real time, not currentTick: if the clock lags, the next
+        // advance() jumps ahead and would fire a currentTick-based deadline
+        // early. + 1: real time is already part-way through its tick
+        deadlines[timer] = Math.max(currentTick + 1, now + ticks + 1);
+        link(timer);
+        pending++;
+        return ((long) generations[timer] << 32) | timer;
+    }
+
+    /**
+     * Cancels a timer that has not fired yet.
+     *
+     * Time Complexity: O(1)
+     *
+     * @return true if it was pending; false if it already fired, was
+     *         cancelled, or the handle is unknown
+     */
+    public synchronized boolean cancel(long handle) {
+        int timer = (int) handle;
+        if (timer < 0 || timer >= slotsUsed || tasks[timer] == null
+                || generations[timer] != (int) (handle >>> 32)) {
+            return false;
+        }
+        unlink(timer);
+        free(timer);
+        return true;
+    }
+
+    /**
+     * Moves the clock forward to {@code nowNanos} (System.nanoTime()),
+     * firing every timer that became due on the way.
+     *
+     * @return number of tasks handed to the executor
+     * @throws RejectedExecutionException if the executor rejected a due
+     *         task - thrown only after the clock reached nowNanos and every
+     *         other due task was handed off (with Runnable::run a task's
+     *         own exception is passed on the same way)
+     */
+    public int advance(long nowNanos) {
+        long target = (nowNanos - startNanos) / tickNanos;
+        int fired = 0;
+        RuntimeException failure = null;
+        synchronized (advanceLock) {  // One advancing thread at a time: due[] is shared
+            while (true) {
+                int count;
+                synchronized (this) {
+                    if (currentTick >= target) {
+                        break;
+                    }
+                    if (pending == 0) {
+                        currentTick = target;  // Nothing to fire or cascade: jump
+                        break;
+                    }
+                    count = tick();
+                }
+                // Outside the main lock: tasks may schedule or cancel timers themselves
+                failure = handOff(count, failure);
+                fired += count;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return fired;
+    }
+
+    /**
+     * Starts a daemon thread that advances the wheel once per tick.
+     *
+     * @throws IllegalStateException if already started or closed
+     */
+    public synchronized void start() {
+        if (ticker != null || closed) {
+            throw new IllegalStateException("Timing wheel already started or closed");
+        }
+        ticker = new Thread(() -> {
+            long nextTick = System.nanoTime();
+            while (!closed) {
+                nextTick += tickNanos;
+                long sleep = nextTick - System.nanoTime();
+                if (sleep > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(sleep);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                try {
+                    advance(System.nanoTime());
+                } catch (RuntimeException e) {
+                    // A rejected (or, with Runnable::run, failing) task must not stop the clock
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }, "timing-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    /**
+     * Stops the ticking thread. Pending timers never fire.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread t;
+        synchronized (this) {
+            t = ticker;
+        }
+        if (t != null) {
+            t.interrupt();
+        }
+    }
+
+    /**
+     * @return number of timers scheduled and not yet fired or cancelled
+     */
+    public synchronized int pending() {
+        return pending;
+    }
+
+    /**
+     * Advances one tick: cascades the higher levels whose lower digits just
+     * rolled over to zero, then collects level 0's slot for this tick.
+     *
+     * @return number of due tasks copied into due[]
+     */
+    private int tick() {
+        long tick = ++currentTick;
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((tick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                cascade(level * WHEEL_SIZE + (int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+            }
+        }
+        int bucket = (int) (tick & WHEEL_MASK);
+        int count = 0;
+        for (int timer = bucketHeads[bucket]; timer != NONE; ) {
+            int following = next[timer];
+            if (count == due.length) {
+                due = Arrays.copyOf(due, count * 2);
+            }
+            due[count++] = tasks[timer];
+            free(timer);
+            timer = following;
+        }
+        bucketHeads[bucket] = NONE;
+        return count;
+    }
+
+    /**
+     * Hands due[0..count) to the executor. The tasks have already left the
+     * wheel, so one that fails must not take the rest with it.
+     *
+     * @param failure the first failure so far, or null
+     * @return the first failure, with any later ones added as suppressed
+     */
+    private RuntimeException handOff(int count, RuntimeException failure) {
+        try {
+            for (int i = 0; i < count; i++) {
+                Runnable task = due[i];
+                due[i] = null;
+                try {
+                    executor.execute(task);
+                } catch (RuntimeException e) {  // RejectedExecutionException, or the task itself
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        } finally {
+            Arrays.fill(due, 0, count, null);  // Only left over if an Error escaped
+        }
+        return failure;
+    }
+
+    /** Re-inserts every timer of a higher-level bucket; they move down a level (or more). */
+    private void cascade(int bucket) {
+        int timer = bucketHeads[bucket];
+        bucketHeads[bucket] = NONE;
+        while (timer != NONE) {
+            int following = next[timer];
+            link(timer);
+            timer = following;
+        }
+    }
+
+    /** Puts a timer into the bucket for its deadline, at the head of the list. */
+    private void link(int timer) {
+        long deadline = deadlines[timer];
+        int level = (63 - Long.numberOfLeadingZeros(deadline ^ currentTick)) / WHEEL_BITS;
+        int bucket;
+        if (level < LEVELS) {
+            bucket = level * WHEEL_SIZE + (int) ((deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        } else {
+            // Beyond the top wheel (deadline past the next 2^32 boundary): park it
+            // in the NEXT top-level slot, which is cascaded long before the
+            // deadline; it is re-inserted there, and parked again, until it fits
+            int topShift = WHEEL_BITS * (LEVELS - 1);
+            bucket = (LEVELS - 1) * WHEEL_SIZE + (int) (((currentTick >>> topShift) + 1) & WHEEL_MASK);
+        }
+        int head = bucketHeads[bucket];
+        next[timer] = head;
+        prev[timer] = NONE;
+        if (head != NONE) {
+            prev[head] = timer;
+        }
+        bucketHeads[bucket] = timer;
+        buckets[timer] = bucket;
+    }
+
+    private void unlink(int timer) {
+        int before = prev[timer];
+        int after = next[timer];
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            bucketHeads[buckets[timer]] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        }
+    }
+
+    private void free(int timer) {
+        tasks[timer] = null;
+        generations[timer]++;  // Old handles to this slot become invalid
+        next[timer] = freeHead;
+        freeHead = timer;
+        pending--;
+    }
+
+    private void grow() {
+        if (tasks.length == MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Timing wheel cannot hold more than " + MAX_ARRAY_SIZE + " timers");
+        }
+        int capacity = (int) Math.min(MAX_ARRAY_SIZE, tasks.length + (tasks.length >> 1) + 1L);
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        tasks = Arrays.copyOf(tasks, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        buckets = Arrays.copyOf(buckets, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+    }
+}
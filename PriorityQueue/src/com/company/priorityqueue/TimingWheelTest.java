@@ -0,0 +1,117 @@
+package com.company.priorityqueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TIMING WHEEL TEST - Never Early, Nothing Dropped
+ * ================================================
+ *
+ * 1. LAGGING CLOCK: nobody advances the wheel for a while (a ticker thread
+ *    that was descheduled or stuck in a GC pause), then a timer is
+ *    scheduled and the clock catches up in one advance(). The timer must
+ *    not fire before its delay has passed in real time - the catch-up jump
+ *    must not count as time the timer waited.
+ *
+ * 2. REJECTED TASKS: several timers fall due in the same tick on an
+ *    executor that was shut down. advance() must still hand every one of
+ *    them to the executor, then rethrow the rejection.
+ *
+ * 3. FAILING TASK: with Runnable::run, a task that throws must not stop
+ *    the others due in the same tick, nor the wheel afterwards.
+ *
+ * Exits with status 1 on the first failure.
+ *
+ * HOW TO RUN:
+ *   java com.company.priorityqueue.TimingWheelTest
+ */
+public class TimingWheelTest {
+
+    private static final long DELAY_MS = 20;
+
+    public static void main(String[] args) throws InterruptedException {
+        checkLaggingClock();
+        System.out.println("lagging clock: passed");
+        checkRejected();
+        System.out.println("rejected tasks: passed");
+        checkFailingTask();
+        System.out.println("failing task: passed");
+        System.out.println("ALL PASSED");
+    }
+
+    private static void checkLaggingClock() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel(Runnable::run, 1, TimeUnit.MILLISECONDS);
+        long[] firedAt = new long[1];
+        Thread.sleep(5 * DELAY_MS);  // The clock lags: no advance() meanwhile
+
+        long scheduledAt = System.nanoTime();
+        wheel.schedule(() -> firedAt[0] = System.nanoTime(), DELAY_MS, TimeUnit.MILLISECONDS);
+        wheel.advance(System.nanoTime());  // Catches up 5 delays at once
+        check(firedAt[0] == 0, "fired during the catch-up, "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt) + " ms after scheduling");
+
+        while (firedAt[0] == 0) {
+            Thread.sleep(1);
+            wheel.advance(System.nanoTime());
+        }
+        long waited = firedAt[0] - scheduledAt;
+        check(waited >= TimeUnit.MILLISECONDS.toNanos(DELAY_MS), "fired early, after "
+                + TimeUnit.NANOSECONDS.toMicros(waited) + " us");
+        check(wheel.pending() == 0, "pending after firing");
+    }
+
+    private static void checkRejected() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<Runnable> offered = new ArrayList<>();
+        TimingWheel wheel = new TimingWheel(task -> {
+            offered.add(task);
+            executor.execute(task);
+        }, 1, TimeUnit.MILLISECONDS);
+        executor.shutdown();
+        for (int i = 0; i < 5; i++) {
+            wheel.schedule(() -> { }, 0, TimeUnit.MILLISECONDS);
+        }
+        Thread.sleep(5);
+        try {
+            wheel.advance(System.nanoTime());
+            check(false, "rejection swallowed");
+        } catch (RejectedExecutionException expected) {
+            check(expected.getSuppressed().length == 4, expected.getSuppressed().length + " more rejections");
+        }
+        check(offered.size() == 5, "only " + offered.size() + " of 5 due tasks handed to the executor");
+        check(wheel.pending() == 0, "due tasks still pending");
+    }
+
+    private static void checkFailingTask() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel(Runnable::run, 1, TimeUnit.MILLISECONDS);
+        int[] ran = new int[1];
+        wheel.schedule(() -> ran[0]++, 0, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> {
+            throw new IllegalStateException("payment timeout handler failed");
+        }, 0, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> ran[0]++, 0, TimeUnit.MILLISECONDS);
+        Thread.sleep(5);
+        try {
+            wheel.advance(System.nanoTime());
+            check(false, "task failure swallowed");
+        } catch (IllegalStateException expected) {
+            // Passed on after the other tasks ran
+        }
+        check(ran[0] == 2, ran[0] + " of 2 healthy tasks ran");
+        wheel.schedule(() -> ran[0]++, 0, TimeUnit.MILLISECONDS);
+        Thread.sleep(5);
+        wheel.advance(System.nanoTime());
+        check(ran[0] == 3, "wheel stopped after a failing task");
+    }
+
+    private static void check(boolean condition, String what) {
+        if (!condition) {
+            System.out.println("FAILED: " + what);
+            System.exit(1);
+        }
+    }
+}
@@ -176,8 +176,6 @@ package com.company.mergesort;
 
 public class Main {
 
-    public static void main(String[] args) {
-        int[] intArray = { 20, 35, -15, 7, 55, 1, -22 };
     public static void main(String[] args) {
         int[] intArray = { 20, 35, -15, 7, 55, 1, -22 };
 
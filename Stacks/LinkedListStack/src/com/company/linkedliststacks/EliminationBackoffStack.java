@@ -0,0 +1,247 @@
+package com.company.linkedliststacks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * ============================================================================
+ * ELIMINATION BACKOFF STACK - A Lock-Free Stack for Many Threads
+ * ============================================================================
+ *
+ * LinkedStack is not thread-safe, and putting synchronized around every
+ * push/pop makes all threads queue up for one lock.
+ *
+ * TREIBER STACK (lock-free): the stack is a chain of nodes and the only
+ * shared variable is 'top'. A push builds its node, points it at the top it
+ * saw, and swaps it in with compareAndSet (CAS) - which fails if another
+ * thread changed 'top' in between. Then it simply tries again:
+ *
+ *   push(C):   top → [B] → [A]        C.next = B
+ *              CAS(top: B → C)        succeeds only if top is still B
+ *              top → [C] → [B] → [A]
+ *
+ * Nobody ever waits for a lock holder, so a slow or descheduled thread
+ * cannot block the others. (No ABA problem either: a node is never reused
+ * while anyone can still see it - the garbage collector makes sure.)
+ *
+ * But under heavy load every thread is fighting over that one 'top'
+ * variable, and most CAS attempts fail.
+ *
+ * ELIMINATION: a push followed by a pop leaves the stack unchanged - so a
+ * push and a pop that meet can skip the stack entirely. A thread whose CAS
+ * failed BACKS OFF into an array of exchange slots instead of retrying
+ * straight away:
+ *
+ *   - a push puts its node into a random free slot and waits a moment
+ *   - a pop looks at a random slot and takes any node it finds there
+ *
+ *        push(X) ──CAS failed──→ slots: [ ][X][ ][ ] ←── pop ──CAS failed
+ *                                          └── pop returns X, stack untouched
+ *
+ *   If nobody takes X in time, the push withdraws it and goes back to the
+ *   stack. The busier the stack, the more pairs meet in the slots - so
+ *   throughput can GROW with the thread count instead of collapsing.
+ *
+ * pop() returns null when the stack is empty (the object pool case:
+ * "nothing pooled, create a new one"), so null items are not allowed.
+ *
+ * Based on Treiber (1986) and Hendler, Shavit & Yerushalmi, "A Scalable
+ * Lock-free Stack Algorithm" (2004), simplified: only pushes wait in the
+ * slots. See EliminationStackStressTest and EliminationStackBenchmark.
+ * ============================================================================
+ */
+
+public class EliminationBackoffStack<T> {
+
+    private static final int DEFAULT_SLOTS = 16;
+
+    /** How long a push waits in a slot for a pop, in checks of the slot. */
+    private static final int PUSH_WAIT_SPINS = 128;
+
+    /** How often a pop checks its slot for an offer before retrying the stack. */
+    private static final int POP_WAIT_SPINS = 32;
+
+    private static final class Node<T> {
+        final T item;
+        Node<T> next;   // Written before the node is published by a CAS
+
+        Node(T item) {
+            this.item = item;
+        }
+    }
+
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+
+    // Pending push offers; null = free slot
+    private final AtomicReferenceArray<Node<T>> slots;
+
+    private final LongAdder eliminated = new LongAdder();
+
+    private final int pushWaitSpins;
+    private final int popWaitSpins;
+
+    public EliminationBackoffStack() {
+        this(DEFAULT_SLOTS);
+    }
+
+    /**
+     * @param slots size of the elimination array: about half the number of
+     *              threads that use the stack at once; 0 gives a plain
+     *              Treiber stack
+     * @throws IllegalArgumentException if slots is negative
+     */
+    public EliminationBackoffStack(int slots) {
+        this(slots, PUSH_WAIT_SPINS, POP_WAIT_SPINS);
+    }
+
+    /**
+     * For EliminationStackStressTest: with one slot and a push that waits
+     * (nearly) forever, a handoff no longer depends on two threads
+     * happening to collide.
+     */
+    EliminationBackoffStack(int slots, int pushWaitSpins, int popWaitSpins) {
+        if (slots < 0) {
+            throw new IllegalArgumentException("Slots must not be negative: " + slots);
+        }
+        this.slots = new AtomicReferenceArray<>(slots);
+        this.pushWaitSpins = pushWaitSpins;
+        this.popWaitSpins = popWaitSpins;
+    }
+
+    /**
+     * Adds item on top.
+     *
+     * TIME COMPLEXITY: O(1) if uncontended; lock-free otherwise
+     *
+     * @throws NullPointerException if item is null
+     */
+    public void push(T item) {
+        if (item == null) {
+            throw new NullPointerException("Null items are not allowed");
+        }
+        Node<T> node = new Node<>(item);
+        while (true) {
+            Node<T> current = top.get();
+            node.next = current;
+            if (top.compareAndSet(current, node)) {
+                return;
+            }
+            // Contention: try to hand the node straight to a pop instead
+            if (offer(node)) {
+                node.next = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the top item.
+     *
+     * TIME COMPLEXITY: O(1) if uncontended; lock-free otherwise
+     *
+     * @return the top item, or null if the stack is empty
+     */
+    public T pop() {
+        while (true) {
+            Node<T> current = top.get();
+            if (current == null) {
+                return null;
+            }
+            if (top.compareAndSet(current, current.next)) {
+                return current.item;
+            }
+            // Contention: try to take a waiting push's node instead
+            Node<T> offered = take();
+            if (offered != null) {
+                return offered.item;
+            }
+        }
+    }
+
+    /**
+     * @return the top item without removing it, or null if the stack is empty
+     */
+    public T peek() {
+        Node<T> current = top.get();
+        return current == null ? null : current.item;
+    }
+
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * @return how many push/pop pairs met in the elimination array so far
+     */
+    public long eliminations() {
+        return eliminated.sum();
+    }
+
+    /**
+     * Only the elimination half of push(): offers item in a slot, never
+     * touches the stack.
+     *
+     * @return true if a pop took it, false if it was withdrawn (or the
+     *         slot was busy) - then the item is in neither place
+     */
+    boolean eliminatePush(T item) {
+        return offer(new Node<>(item));
+    }
+
+    /**
+     * Only the elimination half of pop(): takes an offered item from a
+     * slot, never touches the stack.
+     *
+     * @return the item, or null if none was offered in time
+     */
+    T eliminatePop() {
+        Node<T> offered = take();
+        return offered == null ? null : offered.item;
+    }
+
+    /**
+     * Puts node into a random slot and waits a moment for a pop to take it.
+     *
+     * @return true if a pop took it, false if it was withdrawn again
+     */
+    private boolean offer(Node<T> node) {
+        int length = slots.length();
+        if (length == 0) {
+            return false;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(length);
+        if (!slots.compareAndSet(slot, null, node)) {
+            return false;  // Slot busy: back to the stack
+        }
+        for (int spin = 0; spin < pushWaitSpins; spin++) {
+            if (slots.get(slot) != node) {
+                return true;  // Taken - only a pop removes someone else's node
+            }
+        }
+        // Withdraw; if that fails a pop took it just now
+        return !slots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Watches a random slot for a moment and takes the node offered there.
+     *
+     * @return the node, or null if none was offered in time
+     */
+    private Node<T> take() {
+        int length = slots.length();
+        if (length == 0) {
+            return null;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(length);
+        for (int spin = 0; spin < popWaitSpins; spin++) {
+            Node<T> offered = slots.get(slot);
+            if (offered != null && slots.compareAndSet(slot, offered, null)) {
+                eliminated.increment();
+                return offered;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,196 @@
+package com.company.linkedliststacks;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * ============================================================================
+ * ELIMINATION STACK BENCHMARK - A Shared Object Pool, 1 to 64 Threads
+ * ============================================================================
+ *
+ * Every thread loops over the object pool pattern:
+ *
+ *   Employee e = pool.pop();            // reuse a pooled object...
+ *   if (e == null) e = new Employee(...);   // ...or make one
+ *   ... use e ...
+ *   pool.push(e);                       // give it back
+ *
+ * plus, in the "mixed" workload, pushes and pops at random (50/50) - the
+ * pool keeps about the same size either way.
+ *
+ * Pools:
+ * - EliminationBackoffStack       : lock-free, 16 elimination slots
+ * - Treiber (no elimination)      : the same stack with 0 slots
+ * - synchronized LinkedStack      : one lock around every push/pop, what
+ *                                   we do today
+ * - ConcurrentLinkedDeque         : the JDK's lock-free deque, as a stack
+ *
+ * Results in million push+pop operations per second over all threads.
+ * With several cores, the lock and the single 'top' CAS stop scaling
+ * early; elimination keeps growing as more pairs meet in the slots. With
+ * fewer cores than threads, threads mostly take turns and rarely collide.
+ *
+ * Each pool gets one warmup run, then one timed run per thread count.
+ *
+ * HOW TO RUN:
+ *   java com.company.linkedliststacks.EliminationStackBenchmark [millisPerRun]
+ * ============================================================================
+ */
+
+public class EliminationStackBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    private static final String[] NAMES = {"EliminationBackoff", "Treiber", "synchronized LinkedStack",
+            "ConcurrentLinkedDeque"};
+    private static final int PREFILL = 64;
+
+    private static volatile boolean running;
+    private static volatile long sink;
+
+    /** The pools behind one face; pop returns null when empty. */
+    private interface Pool {
+        Employee pop();
+
+        void push(Employee employee);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int millis = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        System.out.printf("object pool, million ops/s, %d cores%n", Runtime.getRuntime().availableProcessors());
+        for (boolean mixed : new boolean[] {false, true}) {
+            System.out.printf("%n%s workload%n%-8s", mixed ? "mixed 50/50" : "pop-then-push", "threads");
+            for (String name : NAMES) {
+                System.out.printf(" %24s", name);
+            }
+            System.out.println();
+            double[][] results = new double[NAMES.length][THREADS.length];
+            for (int p = 0; p < NAMES.length; p++) {
+                Pool pool = create(p);
+                run(pool, mixed, 4, millis / 2);  // Warmup
+                for (int t = 0; t < THREADS.length; t++) {
+                    results[p][t] = run(pool, mixed, THREADS[t], millis);
+                }
+            }
+            for (int t = 0; t < THREADS.length; t++) {
+                System.out.printf("%-8d", THREADS[t]);
+                for (int p = 0; p < NAMES.length; p++) {
+                    System.out.printf(" %24.2f", results[p][t]);
+                }
+                System.out.println();
+            }
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * @param pool index into NAMES
+     */
+    private static Pool create(int pool) {
+        Pool created;
+        if (pool == 0 || pool == 1) {
+            EliminationBackoffStack<Employee> stack = new EliminationBackoffStack<>(pool == 0 ? 16 : 0);
+            created = new Pool() {
+                public Employee pop() {
+                    return stack.pop();
+                }
+
+                public void push(Employee employee) {
+                    stack.push(employee);
+                }
+            };
+        } else if (pool == 2) {
+            LinkedStack stack = new LinkedStack();
+            created = new Pool() {
+                public synchronized Employee pop() {
+                    return stack.isEmpty() ? null : stack.pop();
+                }
+
+                public synchronized void push(Employee employee) {
+                    stack.push(employee);
+                }
+            };
+        } else {
+            ConcurrentLinkedDeque<Employee> deque = new ConcurrentLinkedDeque<>();
+            created = new Pool() {
+                public Employee pop() {
+                    return deque.pollFirst();
+                }
+
+                public void push(Employee employee) {
+                    deque.addFirst(employee);
+                }
+            };
+        }
+        for (int i = 0; i < PREFILL; i++) {
+            created.push(new Employee("pooled", "pooled", i));
+        }
+        return created;
+    }
+
+    /**
+     * @return million operations (push or pop) per second over all threads
+     */
+    private static double run(Pool pool, boolean mixed, int threads, int millis) throws InterruptedException {
+        long[] counts = new long[threads];
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long ops = 0;
+                long checksum = 0;
+                int held = 0;   // Mixed: objects popped but not yet pushed back
+                Employee[] hand = new Employee[PREFILL];
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (running) {
+                    for (int i = 0; i < 100; i++) {  // Check the flag every 100 rounds
+                        if (!mixed) {
+                            Employee employee = pool.pop();
+                            if (employee == null) {
+                                employee = new Employee("new", "new", id);
+                            }
+                            checksum += employee.hashCode();
+                            pool.push(employee);
+                        } else if (held < hand.length && (held == 0 || random.nextBoolean())) {
+                            Employee employee = pool.pop();
+                            hand[held] = employee != null ? employee : new Employee("new", "new", id);
+                            checksum += hand[held++].hashCode();
+                        } else {
+                            pool.push(hand[--held]);
+                        }
+                    }
+                    ops += mixed ? 100 : 200;
+                }
+                while (held > 0) {
+                    pool.push(hand[--held]);  // Give everything back for the next run
+                }
+                counts[id] = ops;
+                sink = checksum;
+            });
+            workers[t].start();
+        }
+        ready.await();
+        running = true;
+        long start = System.nanoTime();
+        go.countDown();
+        Thread.sleep(millis);
+        running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total / seconds / 1e6;
+    }
+}
@@ -0,0 +1,192 @@
+package com.company.linkedliststacks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/*
+ * ============================================================================
+ * ELIMINATION STACK STRESS TEST - Nothing Lost, Nothing Twice
+ * ============================================================================
+ *
+ * 1. LIFO: one thread, the usual stack order - also after pop on empty.
+ *
+ * 2. HANDOFF: one slot, no contention needed. A push waits in the slot
+ *    until a pop takes it, so the pair must be eliminated (count > 0) -
+ *    whatever the number of cores. Then a pusher whose offers time out
+ *    quickly races a popper over the slot: every value must end up either
+ *    taken or withdrawn (and then pushed onto the stack), never both.
+ *
+ * 3. CONCURRENT: T threads (default 2, 8, 32, 64) each push their own
+ *    distinct values (thread t pushes t*M .. t*M+M-1) and pop at random in
+ *    between. A small elimination array makes contended pairs meet in the
+ *    same slots (how many did is printed - with few cores threads rarely
+ *    collide, and few do). At the end the stack is drained. Every value
+ *    must have been popped EXACTLY ONCE: a lost value means a push
+ *    vanished, a value seen twice means two pops got the same node.
+ *
+ * 4. SLOT HANDOFF: the same, but threads only pop while the stack is not
+ *    empty. It stays near empty, every thread fights over the same few
+ *    nodes, and pushes waiting in the slots are taken, withdrawn and
+ *    retried all the time.
+ *
+ * Exits with status 1 on the first failure.
+ *
+ * HOW TO RUN:
+ *   java com.company.linkedliststacks.EliminationStackStressTest [valuesPerThread]
+ * ============================================================================
+ */
+
+public class EliminationStackStressTest {
+
+    private static final int[] THREADS = {2, 8, 32, 64};
+
+    public static void main(String[] args) throws InterruptedException {
+        int perThread = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        checkLifo();
+        System.out.println("LIFO order: passed");
+
+        long raced = checkHandoff(perThread);
+        System.out.printf("handoff: passed, %,d of %,d raced offers taken%n", raced, perThread);
+
+        for (int threads : THREADS) {
+            for (boolean drainEagerly : new boolean[] {false, true}) {
+                EliminationBackoffStack<Integer> stack = new EliminationBackoffStack<>(Math.max(1, threads / 4));
+                int values = Math.max(1_000, perThread / threads * 8);
+                checkExactlyOnce(stack, threads, values, drainEagerly);
+                System.out.printf("%2d threads, %s: %,d values each, %,d eliminated - passed%n", threads,
+                        drainEagerly ? "slot handoff" : "mixed       ", values, stack.eliminations());
+            }
+        }
+        System.out.println("ALL PASSED");
+    }
+
+    private static void checkLifo() {
+        EliminationBackoffStack<String> stack = new EliminationBackoffStack<>();
+        check(stack.pop() == null && stack.peek() == null && stack.isEmpty(), "empty stack");
+        stack.push("one");
+        stack.push("two");
+        stack.push("three");
+        check("three".equals(stack.peek()), "peek");
+        check("three".equals(stack.pop()) && "two".equals(stack.pop()), "pop order");
+        stack.push("four");
+        check("four".equals(stack.pop()) && "one".equals(stack.pop()), "pop after push");
+        check(stack.pop() == null && stack.isEmpty(), "drained");
+        try {
+            stack.push(null);
+            check(false, "null push accepted");
+        } catch (NullPointerException expected) {
+            // Null means "empty" for pop, so it cannot be an item
+        }
+    }
+
+    /**
+     * @return how many offers of the withdraw race were taken
+     */
+    private static long checkHandoff(int values) throws InterruptedException {
+        EliminationBackoffStack<Integer> stack = new EliminationBackoffStack<>(1, Integer.MAX_VALUE, 1);
+        boolean[] taken = new boolean[1];
+        Thread pusher = new Thread(() -> taken[0] = stack.eliminatePush(42));
+        pusher.start();
+        Integer value;
+        while ((value = stack.eliminatePop()) == null) {
+            Thread.yield();  // The push waits until we take it
+        }
+        pusher.join();
+        check(value == 42 && taken[0], "handoff: popped " + value + ", push saw taken = " + taken[0]);
+        check(stack.eliminations() == 1 && stack.isEmpty(), "handoff: " + stack.eliminations() + " eliminations");
+
+        // Withdraw vs take: short waits on both sides, so both outcomes happen
+        EliminationBackoffStack<Integer> race = new EliminationBackoffStack<>(1, 64, 64);
+        AtomicIntegerArray seen = new AtomicIntegerArray(values);
+        AtomicBoolean done = new AtomicBoolean();
+        Thread offers = new Thread(() -> {
+            for (int i = 0; i < values; i++) {
+                if (!race.eliminatePush(i)) {
+                    race.push(i);  // Withdrawn: it must not have been taken too
+                }
+            }
+        });
+        Thread takes = new Thread(() -> {
+            while (!done.get()) {
+                Integer item = race.eliminatePop();
+                if (item != null) {
+                    seen.incrementAndGet(item);
+                }
+            }
+        });
+        offers.start();
+        takes.start();
+        offers.join();
+        done.set(true);
+        takes.join();
+        long eliminated = race.eliminations();
+        while ((value = race.pop()) != null) {
+            seen.incrementAndGet(value);
+        }
+        for (int i = 0; i < values; i++) {
+            check(seen.get(i) == 1, "race: value " + i + " seen " + seen.get(i) + " times");
+        }
+        return eliminated;
+    }
+
+    /**
+     * @param drainEagerly true: pop whenever the stack is not empty (keeps it
+     *                     near empty); false: 50% push / 50% pop
+     */
+    private static void checkExactlyOnce(EliminationBackoffStack<Integer> stack, int threads, int values,
+                                         boolean drainEagerly) throws InterruptedException {
+        AtomicIntegerArray seen = new AtomicIntegerArray(threads * values);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        Throwable[] failure = new Throwable[1];
+        for (int t = 0; t < threads; t++) {
+            final int base = t * values;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                int pushed = 0;
+                while (pushed < values) {
+                    boolean pop = drainEagerly ? !stack.isEmpty() && random.nextBoolean() : random.nextBoolean();
+                    if (pop) {
+                        Integer value = stack.pop();
+                        if (value != null) {
+                            seen.incrementAndGet(value);
+                        }
+                    } else {
+                        stack.push(base + pushed++);
+                    }
+                }
+            });
+            workers[t].setUncaughtExceptionHandler((thread, e) -> failure[0] = e);
+            workers[t].start();
+        }
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        check(failure[0] == null, "worker failed: " + failure[0]);
+
+        Integer value;
+        while ((value = stack.pop()) != null) {
+            seen.incrementAndGet(value);
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            int count = seen.get(i);
+            check(count == 1, "value " + i + " popped " + count + " times");
+        }
+    }
+
+    private static void check(boolean condition, String what) {
+        if (!condition) {
+            System.out.println("FAILED: " + what);
+            System.exit(1);
+        }
+    }
+}
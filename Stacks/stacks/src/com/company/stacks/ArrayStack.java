@@ -1,6 +1,10 @@
 package com.company.stacks;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.EmptyStackException;
+import java.util.List;
 
 /*
  * ============================================================================
@@ -74,11 +78,20 @@ import java.util.EmptyStackException;
  * peek()  : O(1) - Just looking at top element
  * isEmpty(): O(1) - Simple comparison
  * size()  : O(1) - We track this with 'top' variable
+ * pushAll(): O(k) for k items - at most one resize
+ * popN()  : O(n) for n items
  * 
  * ============================================================================
  * SPACE COMPLEXITY: O(n) where n is the number of elements
  * ============================================================================
  * 
+ * GENERIC: ArrayStack<T> holds any type - ArrayStack<Employee>,
+ * ArrayStack<String>, ... For int and long values use IntStack and
+ * LongStack: no Integer/Long box per item.
+ * 
+ * OPTIONAL SHRINKING: new ArrayStack<>(capacity, true) also halves the
+ * array when it gets sparse, so memory follows the size in both directions.
+ * 
  * ============================================================================
  * COMMON USE CASES IN REAL PROGRAMMING:
  * ============================================================================
@@ -131,15 +144,22 @@ import java.util.EmptyStackException;
  * ============================================================================
  */
 
-public class ArrayStack {
+public class ArrayStack<T> {
+
+    /** Smallest array a stack starts with, and shrinks down to. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Some VMs reserve header words in an array. */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
 
     /*
      * INSTANCE VARIABLES:
      * These are the building blocks of our stack!
      */
     
-    // The array that holds our Employee objects (like a column of plates)
-    private Employee[] stack;
+    // The array that holds our items (like a column of plates).
+    // Java cannot create a T[], so it is an Object[] - only T's ever go in.
+    private Object[] stack;
     
     /*
      * 'top' is SUPER IMPORTANT! It serves two purposes:
@@ -153,40 +173,70 @@ public class ArrayStack {
      */
     private int top;
 
+    // Shrinking: give memory back after a big burst (see shrinkIfSparse)
+    private final boolean shrink;
+    private final int minCapacity;
+
+    /**
+     * CONSTRUCTOR - Creates a new empty stack with room for 16 items
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
     /**
      * CONSTRUCTOR - Creates a new empty stack
      * 
-     * @param capacity - How many employees the stack can hold initially
+     * @param capacity - How many items the stack can hold initially
      * 
      * IMPORTANT: The stack can grow if needed! If we run out of space,
      * the push() method will automatically make the array bigger.
      * 
-     * EXAMPLE: ArrayStack stack = new ArrayStack(10);
+     * EXAMPLE: ArrayStack<Employee> stack = new ArrayStack<>(10);
      * This creates a stack that can hold 10 employees to start.
      */
     public ArrayStack (int capacity){
-        stack = new Employee[capacity];
+        this(capacity, false);
+    }
+
+    /**
+     * CONSTRUCTOR - Creates a new empty stack that can also SHRINK
+     * 
+     * @param capacity - How many items the stack can hold initially
+     * @param shrink - true: halve the array whenever it is only a quarter
+     *                 full (never below capacity). A DFS that once went a
+     *                 million levels deep then stops holding on to a
+     *                 million-slot array.
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public ArrayStack(int capacity, boolean shrink) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        stack = new Object[capacity];
+        this.shrink = shrink;
+        this.minCapacity = Math.max(capacity, DEFAULT_CAPACITY);
         // top starts at 0 because the stack is empty
         // (Java automatically initializes int to 0, but it's good to understand why!)
     }
 
     /**
-     * PUSH - Add a new employee to the TOP of the stack
+     * PUSH - Add a new item to the TOP of the stack
      * 
      * THINK OF IT LIKE: Placing a new plate on top of a stack of plates
      * 
      * STEP-BY-STEP PROCESS:
      * 1. Check if the array is full (top == stack.length)
-     * 2. If full, make a bigger array (double the size)
-     * 3. Copy all items to the new bigger array
-     * 4. Place the new employee at position 'top'
-     * 5. Increment 'top' to point to next available spot
+     * 2. If full, make a bigger array (double the size) - see grow()
+     * 3. Place the new item at position 'top'
+     * 4. Increment 'top' to point to next available spot
      * 
-     * @param employee - The employee object to add to the stack
+     * @param item - The item to add to the stack
      * 
      * TIME COMPLEXITY:
      * - Usually O(1) - constant time, super fast!
      * - O(n) when resizing is needed - must copy all n items to new array
+     * - O(1) AMORTIZED: doubling means n pushes copy fewer than 2n items in total
      * 
      * EXAMPLE:
      * Before: [Jane, John] (top = 2)
@@ -196,56 +246,57 @@ public class ArrayStack {
      * REAL-WORLD ANALOGY:
      * Like adding a new task to your to-do list on top!
      */
-    public void push(Employee employee){
+    public void push(T item){
 
         // Check if array is full (like checking if plate stack will topple)
         if(top == stack.length){
-            /*
-             * RESIZING THE ARRAY:
-             * We need more space! Let's make a bigger stack.
-             * 
-             * Why double the size?
-             * - If we only added 1 spot each time, we'd resize constantly!
-             * - Doubling reduces how often we need to resize
-             * - This is called "amortized constant time"
-             */
-            Employee[] newArray = new Employee[2*stack.length];
-            
-            // Copy all employees from old array to new array
-            // Like carefully moving all plates to a bigger stack!
-            System.arraycopy(stack, 0 , newArray, 0 , stack.length);
-            
-            // Now use the bigger array as our stack
-            stack = newArray;
-        } // Resizing is O(n) because we copy n elements
+            grow(top + 1);
+        }
         
         /*
-         * Add the employee and move 'top' up:
+         * Add the item and move 'top' up:
          * - stack[top++] does TWO things:
-         *   1. Puts employee at position 'top'
+         *   1. Puts item at position 'top'
          *   2. Increases 'top' by 1 (using ++)
          * 
          * This is like placing a plate and marking the new height!
          */
-        stack[top++] = employee;
+        stack[top++] = item;
     }
 
     /**
-     * POP - Remove and return the TOP employee from the stack
+     * PUSHALL - Push every item, in iteration order (the last one ends on top)
+     * 
+     * Grows the array at most ONCE and copies the items in one block,
+     * instead of checking for space item by item.
+     * 
+     * TIME COMPLEXITY: O(k) for k items
+     */
+    public void pushAll(Collection<? extends T> items) {
+        Object[] added = items.toArray();
+        if (added.length > stack.length - top) {
+            grow(top + added.length);
+        }
+        System.arraycopy(added, 0, stack, top, added.length);
+        top += added.length;
+    }
+
+    /**
+     * POP - Remove and return the TOP item from the stack
      * 
      * THINK OF IT LIKE: Taking the top plate off a stack
      * 
      * STEP-BY-STEP PROCESS:
      * 1. Check if stack is empty (can't take plate from empty stack!)
      * 2. Decrease 'top' by 1 (using --top)
-     * 3. Get the employee at that position
-     * 4. Set that position to null (clean up - good practice!)
-     * 5. Return the employee we removed
+     * 3. Get the item at that position
+     * 4. Set that position to null (clean up - done here, not by the caller!)
+     * 5. Return the item we removed
      * 
-     * @return The employee that was on top of the stack
+     * @return The item that was on top of the stack
      * @throws EmptyStackException if stack is empty
      * 
-     * TIME COMPLEXITY: O(1) - Always constant time! Super fast!
+     * TIME COMPLEXITY: O(1) - Always constant time! (amortized when shrinking)
      * 
      * EXAMPLE:
      * Before: [Jane, John, Mary] (top = 3)
@@ -253,14 +304,14 @@ public class ArrayStack {
      * After:  [Jane, John, null] (top = 2)
      * 
      * WHY SET TO NULL?
-     * - Helps Java's garbage collector free up memory
+     * - Otherwise the array still points at Mary - a "loitering" reference
+     * - Java's garbage collector can't free her while anything points at her
      * - Prevents memory leaks in large applications
-     * - Good programming practice!
      * 
      * REAL-WORLD ANALOGY:
      * Like clicking "Undo" - you remove the last action you did!
      */
-    public Employee pop(){
+    public T pop(){
         // Safety check: Can't pop from an empty stack!
         // Like checking if there are any plates before trying to take one
         if(isEmpty()){
@@ -281,23 +332,51 @@ public class ArrayStack {
          * - --top makes it 2, then uses stack[2]
          * - This gets us the last item we pushed!
          */
-        Employee employee = stack[--top];
+        T item = elementAt(--top);
         
         // Clean up: Remove the reference to help garbage collector
         stack[top] = null;
         
-        return employee;
+        shrinkIfSparse();
+        return item;
     }
 
     /**
-     * PEEK - Look at the TOP employee WITHOUT removing it
+     * POPN - Remove the top n items at once
+     * 
+     * @return the removed items in pop order (the old top first)
+     * @throws IllegalArgumentException if n is negative
+     * @throws EmptyStackException if the stack holds fewer than n items
+     *         (nothing is removed then)
+     * 
+     * TIME COMPLEXITY: O(n)
+     */
+    public List<T> popN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        if (n > top) {
+            throw new EmptyStackException();
+        }
+        List<T> popped = new ArrayList<>(n);
+        for (int i = top - 1; i >= top - n; i--) {
+            popped.add(elementAt(i));
+        }
+        Arrays.fill(stack, top - n, top, null);  // No loitering references
+        top -= n;
+        shrinkIfSparse();
+        return popped;
+    }
+
+    /**
+     * PEEK - Look at the TOP item WITHOUT removing it
      * 
      * THINK OF IT LIKE: Looking at the top plate without picking it up
      * 
      * This is useful when you want to see what's on top but aren't ready
      * to remove it yet!
      * 
-     * @return The employee on top of the stack
+     * @return The item on top of the stack
      * @throws EmptyStackException if stack is empty
      * 
      * TIME COMPLEXITY: O(1) - Instant! Just looking at one position
@@ -310,7 +389,7 @@ public class ArrayStack {
      * REAL-WORLD ANALOGY:
      * Like previewing your next undo without actually undoing it!
      */
-    public Employee peek(){
+    public T peek(){
         // Safety check: Can't peek at empty stack!
         if(isEmpty()){
             throw new EmptyStackException();
@@ -322,13 +401,13 @@ public class ArrayStack {
          * Because 'top' points to the NEXT empty spot,
          * so the actual top item is one position before that!
          */
-        return stack[top-1];
+        return elementAt(top-1);
     }
 
     /**
-     * SIZE - Get the number of employees in the stack
+     * SIZE - Get the number of items in the stack
      * 
-     * @return Number of employees currently in stack
+     * @return Number of items currently in stack
      * 
      * TIME COMPLEXITY: O(1) - We always know the size!
      * 
@@ -344,7 +423,7 @@ public class ArrayStack {
     }
 
     /**
-     * ISEMPTY - Check if the stack has any employees
+     * ISEMPTY - Check if the stack has any items
      * 
      * @return true if stack is empty, false if it has items
      * 
@@ -360,7 +439,7 @@ public class ArrayStack {
      *     // Process employee
      * }
      * 
-     * This processes all employees one by one!
+     * This processes all items one by one!
      */
     public boolean isEmpty(){
         // If top is 0, we have no items in the stack
@@ -375,7 +454,19 @@ public class ArrayStack {
     }
 
     /**
-     * PRINTSTACK - Display all employees in the stack
+     * CLEAR - Remove every item (and with shrinking, go back to the
+     * starting capacity)
+     * 
+     * TIME COMPLEXITY: O(n) - every slot is cleared for the garbage collector
+     */
+    public void clear() {
+        Arrays.fill(stack, 0, top, null);
+        top = 0;
+        shrinkIfSparse();
+    }
+
+    /**
+     * PRINTSTACK - Display all items in the stack
      * 
      * IMPORTANT: Prints from TOP to BOTTOM (newest to oldest)
      * 
@@ -385,8 +476,8 @@ public class ArrayStack {
      * 
      * WHY COUNT DOWN (i--)?
      * - We want to show the stack from top to bottom
-     * - Top employee was added most recently
-     * - Bottom employee was added first
+     * - Top item was added most recently
+     * - Bottom item was added first
      * 
      * EXAMPLE OUTPUT:
      * Employee{firstName='Mary', lastName='Smith', id=3}   <- Top (added last)
@@ -401,4 +492,42 @@ public class ArrayStack {
             System.out.println(stack[i]);
         }
     }
+
+    /*
+     * RESIZING THE ARRAY:
+     * We need more space! Let's make a bigger stack.
+     * 
+     * Why double the size?
+     * - If we only added 1 spot each time, we'd resize constantly!
+     * - Doubling reduces how often we need to resize
+     * - This is called "amortized constant time"
+     * 
+     * Arrays.copyOf makes the bigger array AND copies all items into it
+     * (the manual new-array-plus-System.arraycopy, in one call).
+     */
+    private void grow(int needed) {
+        if (needed < 0 || needed > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Stack cannot hold " + Integer.toUnsignedString(needed) + " items");
+        }
+        int doubled = (int) Math.min((long) stack.length * 2, MAX_CAPACITY);
+        stack = Arrays.copyOf(stack, Math.max(Math.max(doubled, needed), DEFAULT_CAPACITY));
+    }
+
+    /*
+     * SHRINKING (only if asked for in the constructor):
+     * Halve the array once it is only a QUARTER full. Not at half full:
+     * then a push right after a shrink would grow it straight back, and
+     * push/pop at the boundary would copy the whole stack every time.
+     * Between a quarter and full, nothing is ever copied.
+     */
+    private void shrinkIfSparse() {
+        while (shrink && stack.length > minCapacity && top <= stack.length / 4) {
+            stack = Arrays.copyOf(stack, Math.max(stack.length / 2, minCapacity));
+        }
+    }
+
+    @SuppressWarnings("unchecked")  // Only T's are ever stored
+    private T elementAt(int index) {
+        return (T) stack[index];
+    }
 }
@@ -0,0 +1,159 @@
+package com.company.stacks;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/*
+ * ============================================================================
+ * INT STACK - ArrayStack for Plain int Values
+ * ============================================================================
+ *
+ * ArrayStack<Integer> stores a reference to an Integer object per item:
+ *
+ *   ArrayStack<Integer>:  [ref][ref][ref] ... → Integer(7), Integer(42), ...
+ *                         4-8 bytes per slot + a 16-byte object per value
+ *   IntStack:             [ 7 ][ 42][ 3 ] ...
+ *                         4 bytes per slot, nothing else
+ *
+ * So an expression evaluator's operand stack or a DFS stack of vertex
+ * numbers should use IntStack: no allocation per push, no pointer to
+ * follow per pop, and nothing for the garbage collector to clean up.
+ *
+ * Same behaviour as ArrayStack: the array DOUBLES when full (amortized
+ * O(1) push), optionally HALVES when only a quarter full, and pushAll /
+ * popN move whole blocks with one array copy. No nulling out on pop -
+ * an int can't keep an object alive. For long values see LongStack.
+ * ============================================================================
+ */
+
+public class IntStack {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] stack;
+    private int top;            // Next free slot = number of items
+
+    private final boolean shrink;
+    private final int minCapacity;
+
+    public IntStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    public IntStack(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * @param shrink true: halve the array whenever it is only a quarter full
+     *               (never below capacity)
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public IntStack(int capacity, boolean shrink) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        stack = new int[capacity];
+        this.shrink = shrink;
+        this.minCapacity = Math.max(capacity, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * TIME COMPLEXITY: O(1) amortized
+     */
+    public void push(int value) {
+        if (top == stack.length) {
+            grow(top + 1);
+        }
+        stack[top++] = value;
+    }
+
+    /**
+     * Pushes the values in order: the last one ends on top.
+     *
+     * TIME COMPLEXITY: O(k) for k values - at most one resize
+     */
+    public void pushAll(int... values) {
+        if (values.length > stack.length - top) {
+            grow(top + values.length);
+        }
+        System.arraycopy(values, 0, stack, top, values.length);
+        top += values.length;
+    }
+
+    /**
+     * @throws EmptyStackException if the stack is empty
+     */
+    public int pop() {
+        if (top == 0) {
+            throw new EmptyStackException();
+        }
+        int value = stack[--top];
+        shrinkIfSparse();
+        return value;
+    }
+
+    /**
+     * Removes the top n values.
+     *
+     * @return the values in pop order (the old top first)
+     * @throws IllegalArgumentException if n is negative
+     * @throws EmptyStackException if the stack holds fewer than n values
+     *         (nothing is removed then)
+     */
+    public int[] popN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        if (n > top) {
+            throw new EmptyStackException();
+        }
+        int[] popped = new int[n];
+        for (int i = 0; i < n; i++) {
+            popped[i] = stack[top - 1 - i];
+        }
+        top -= n;
+        shrinkIfSparse();
+        return popped;
+    }
+
+    /**
+     * @throws EmptyStackException if the stack is empty
+     */
+    public int peek() {
+        if (top == 0) {
+            throw new EmptyStackException();
+        }
+        return stack[top - 1];
+    }
+
+    public int size() {
+        return top;
+    }
+
+    public boolean isEmpty() {
+        return top == 0;
+    }
+
+    public void clear() {
+        top = 0;
+        shrinkIfSparse();
+    }
+
+    /** Doubles the array, or more if needed. */
+    private void grow(int needed) {
+        if (needed < 0 || needed > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Stack cannot hold " + Integer.toUnsignedString(needed) + " values");
+        }
+        int doubled = (int) Math.min((long) stack.length * 2, MAX_CAPACITY);
+        stack = Arrays.copyOf(stack, Math.max(Math.max(doubled, needed), DEFAULT_CAPACITY));
+    }
+
+    /** Halves the array at a quarter full - see ArrayStack for why not at half. */
+    private void shrinkIfSparse() {
+        while (shrink && stack.length > minCapacity && top <= stack.length / 4) {
+            stack = Arrays.copyOf(stack, Math.max(stack.length / 2, minCapacity));
+        }
+    }
+}
@@ -30,7 +30,7 @@ public class Main {
          * 
          * Think of this as getting an empty plate holder!
          */
-        ArrayStack stack = new ArrayStack(10);
+        ArrayStack<Employee> stack = new ArrayStack<>(10);
 
         /*
          * STEP 2: PUSH EMPLOYEES ONTO THE STACK
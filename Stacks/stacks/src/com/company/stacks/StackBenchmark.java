@@ -0,0 +1,204 @@
+package com.company.stacks;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * ============================================================================
+ * STACK BENCHMARK - Array Stacks vs ArrayDeque vs a Linked Stack
+ * ============================================================================
+ *
+ * Three workloads, each run on every stack:
+ *
+ * - burst  : push 1M values, then pop them all (one deep DFS)
+ * - wander : random runs of 1-64 pushes, then as many pops - the stack
+ *            stays shallow and goes up and down (an expression evaluator)
+ * - blocks : push and pop in blocks of 64; ArrayStack and IntStack use
+ *            pushAll/popN, the others push and pop one by one
+ *
+ * Stacks:
+ * - IntStack              : int[] slots, no boxing
+ * - ArrayStack<Integer>   : this package, growing only
+ * - ArrayStack shrinking  : new ArrayStack<>(16, true)
+ * - ArrayDeque<Integer>   : the JDK's array stack
+ * - LinkedList<Integer>   : what LinkedStack (com.company.linkedliststacks)
+ *                           does inside; LinkedStack itself only takes
+ *                           Employee and lives in another module
+ *
+ * The object stacks get pre-boxed Integers, so boxing is not measured -
+ * in real code IntStack also saves an allocation per push.
+ *
+ * Results in million operations (push or pop) per second, best of
+ * ROUNDS runs (the first rounds double as JIT warmup).
+ *
+ * HOW TO RUN:
+ *   java com.company.stacks.StackBenchmark [n]
+ * ============================================================================
+ */
+
+public class StackBenchmark {
+
+    private static final int ROUNDS = 7;
+    private static final int BLOCK = 64;
+    private static final String[] NAMES = {"IntStack", "ArrayStack<Integer>", "ArrayStack shrinking",
+            "ArrayDeque<Integer>", "LinkedList<Integer>"};
+    private static final String[] WORKLOADS = {"burst", "wander", "blocks"};
+
+    private static long sink;
+
+    /** All stacks behind one face; the bulk methods fall back to loops. */
+    private interface Stack {
+        void push(int index);
+
+        int pop();
+
+        void pushBlock(int from);
+
+        int popBlock();
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Integer[] boxed = new Integer[n];
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+            values[i] = i;
+        }
+        Random random = new Random(42);
+        int[] runs = new int[n / 32];
+        for (int i = 0; i < runs.length; i++) {
+            runs[i] = 1 + random.nextInt(64);
+        }
+
+        System.out.printf("%,d values, million ops/s (best of %d)%n", n, ROUNDS);
+        System.out.printf("%-22s %10s %10s %10s%n", "stack", WORKLOADS[0], WORKLOADS[1], WORKLOADS[2]);
+        for (int s = 0; s < NAMES.length; s++) {
+            double[] best = new double[WORKLOADS.length];
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int w = 0; w < WORKLOADS.length; w++) {
+                    Stack stack = create(s, values, boxed);  // Fresh, so growing is measured too
+                    best[w] = Math.max(best[w], run(w, stack, n, runs));
+                }
+            }
+            System.out.printf("%-22s %10.1f %10.1f %10.1f%n", NAMES[s], best[0], best[1], best[2]);
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * @return million operations per second
+     */
+    private static double run(int workload, Stack stack, int n, int[] runs) {
+        long checksum = 0;
+        long ops = 0;
+        long start = System.nanoTime();
+        if (workload == 0) {
+            for (int i = 0; i < n; i++) {
+                stack.push(i);
+            }
+            for (int i = 0; i < n; i++) {
+                checksum += stack.pop();
+            }
+            ops = 2L * n;
+        } else if (workload == 1) {
+            int next = 0;
+            for (int run : runs) {
+                for (int i = 0; i < run; i++) {
+                    stack.push(next++ % n);
+                }
+                for (int i = 0; i < run; i++) {
+                    checksum += stack.pop();
+                }
+                ops += 2L * run;
+            }
+        } else {
+            int blocks = n / BLOCK;
+            for (int b = 0; b < blocks; b++) {
+                stack.pushBlock(b * BLOCK);
+            }
+            for (int b = 0; b < blocks; b++) {
+                checksum += stack.popBlock();
+            }
+            ops = 2L * blocks * BLOCK;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        sink += checksum;
+        return ops / seconds / 1e6;
+    }
+
+    /**
+     * @param structure index into NAMES
+     */
+    private static Stack create(int structure, int[] values, Integer[] boxed) {
+        if (structure == 0) {
+            IntStack stack = new IntStack();
+            return new Stack() {
+                public void push(int index) {
+                    stack.push(values[index]);
+                }
+
+                public int pop() {
+                    return stack.pop();
+                }
+
+                public void pushBlock(int from) {
+                    stack.pushAll(Arrays.copyOfRange(values, from, from + BLOCK));
+                }
+
+                public int popBlock() {
+                    return stack.popN(BLOCK)[0];
+                }
+            };
+        }
+        if (structure == 1 || structure == 2) {
+            ArrayStack<Integer> stack = new ArrayStack<>(16, structure == 2);
+            return new Stack() {
+                public void push(int index) {
+                    stack.push(boxed[index]);
+                }
+
+                public int pop() {
+                    return stack.pop();
+                }
+
+                public void pushBlock(int from) {
+                    stack.pushAll(Arrays.asList(boxed).subList(from, from + BLOCK));
+                }
+
+                public int popBlock() {
+                    List<Integer> popped = stack.popN(BLOCK);
+                    return popped.get(0);
+                }
+            };
+        }
+        Deque<Integer> deque = structure == 3 ? new ArrayDeque<>() : new LinkedList<>();
+        return new Stack() {
+            public void push(int index) {
+                deque.push(boxed[index]);
+            }
+
+            public int pop() {
+                return deque.pop();
+            }
+
+            public void pushBlock(int from) {
+                for (int i = from; i < from + BLOCK; i++) {
+                    deque.push(boxed[i]);
+                }
+            }
+
+            public int popBlock() {
+                int first = deque.pop();
+                for (int i = 1; i < BLOCK; i++) {
+                    deque.pop();
+                }
+                return first;
+            }
+        };
+    }
+}
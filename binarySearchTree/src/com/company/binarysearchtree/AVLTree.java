@@ -0,0 +1,391 @@
+package com.company.binarysearchtree;
+
+import java.util.NoSuchElementException;
+
+/**
+ * AVL TREE - A Binary Search Tree That Stays Balanced
+ * ===================================================
+ *
+ * Tree is a plain BST: inserting 1, 2, 3, ... (sorted IDs - our normal
+ * case) builds a straight line, every operation becomes O(n), and the
+ * recursive TreeNode.insert overflows the stack after a few thousand keys.
+ *
+ *   Tree, insert 1..5:      AVLTree, insert 1..5:
+ *     [1]                        [2]
+ *       \                       /   \
+ *       [2]                   [1]   [4]
+ *         \                         /  \
+ *         [3]  ...                [3]  [5]
+ *
+ * AVL RULE: at every node the heights of the left and right subtrees
+ * differ by at most 1. That keeps the height below 1.44 log2(n), so
+ * 1 billion keys are at most ~43 levels deep.
+ *
+ * After an insert or delete, the nodes on the path back to the root are
+ * checked; a node that is off by 2 is fixed with one or two ROTATIONS:
+ *
+ *   left-left case:            rotateRight(z)
+ *         [z]                       [y]
+ *         /                        /   \
+ *       [y]          →           [x]   [z]
+ *       /
+ *     [x]
+ *
+ *   left-right case: rotateLeft(y) first turns it into left-left.
+ *
+ * ITERATIVE: insert and delete walk down remembering the path in an
+ * array, then walk back up it rebalancing - no recursion, so no stack
+ * overflow whatever the insert order.
+ *
+ * ORDER STATISTICS: every node also stores the SIZE of its subtree, so
+ *
+ *   rank(value)  - how many keys are smaller          O(log n)
+ *   select(k)    - the k-th smallest key (0-based)    O(log n)
+ *
+ * e.g. "what percentile is this transaction ID" or "the 1000th smallest"
+ * without walking the tree.
+ *
+ * BULK LOAD: fromSorted(array) builds a perfectly balanced tree in O(n) by
+ * making the middle element the root, recursively - much cheaper than n
+ * inserts of O(log n) each with rotations.
+ *
+ * Duplicates are ignored, like Tree. See AVLTreeBenchmark for sorted,
+ * random and adversarial insert orders against TreeMap.
+ */
+public class AVLTree {
+
+    /** AVL height stays below 1.44 log2(n + 2); 2^31 keys fit in 45 levels. */
+    private static final int MAX_HEIGHT = 48;
+
+    private static final class Node {
+        int key;
+        Node left;
+        Node right;
+        int height = 1;   // Leaf = 1, empty subtree = 0
+        int size = 1;     // Nodes in this subtree
+
+        Node(int key) {
+            this.key = key;
+        }
+    }
+
+    private Node root;
+
+    // Path from the root recorded by insert/delete, reused across calls
+    private final Node[] path = new Node[MAX_HEIGHT];
+    private final boolean[] wentLeft = new boolean[MAX_HEIGHT];
+
+    /**
+     * Builds a balanced tree from sorted keys.
+     *
+     * Time Complexity: O(n)
+     *
+     * @param sorted keys in strictly ascending order
+     * @throws IllegalArgumentException if the keys are not strictly ascending
+     */
+    public static AVLTree fromSorted(int[] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] >= sorted[i]) {
+                throw new IllegalArgumentException("Keys must be strictly ascending at index " + i);
+            }
+        }
+        AVLTree tree = new AVLTree();
+        tree.root = build(sorted, 0, sorted.length - 1);
+        return tree;
+    }
+
+    /** Middle element as root, halves as subtrees; recursion depth is only log2(n). */
+    private static Node build(int[] sorted, int from, int to) {
+        if (from > to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node node = new Node(sorted[middle]);
+        node.left = build(sorted, from, middle - 1);
+        node.right = build(sorted, middle + 1, to);
+        update(node);
+        return node;
+    }
+
+    /**
+     * Adds a key.
+     *
+     * Time Complexity: O(log n)
+     *
+     * @return true if added, false if it was already present
+     */
+    public boolean insert(int value) {
+        int depth = 0;
+        Node node = root;
+        while (node != null) {
+            if (value == node.key) {
+                clearPath(depth);
+                return false;
+            }
+            path[depth] = node;
+            wentLeft[depth] = value < node.key;
+            node = wentLeft[depth++] ? node.left : node.right;
+        }
+        root = rebalancePath(depth, new Node(value));
+        return true;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * Time Complexity: O(log n)
+     *
+     * @return true if removed, false if it was not present
+     */
+    public boolean delete(int value) {
+        int depth = 0;
+        Node node = root;
+        while (node != null && node.key != value) {
+            path[depth] = node;
+            wentLeft[depth] = value < node.key;
+            node = wentLeft[depth++] ? node.left : node.right;
+        }
+        if (node == null) {
+            clearPath(depth);
+            return false;
+        }
+        Node replacement;
+        if (node.left == null || node.right == null) {
+            replacement = node.left != null ? node.left : node.right;
+        } else {
+            // Two children: take over the successor's key and unlink the
+            // successor instead - it has no left child
+            path[depth] = node;
+            wentLeft[depth++] = false;
+            Node successor = node.right;
+            while (successor.left != null) {
+                path[depth] = successor;
+                wentLeft[depth++] = true;
+                successor = successor.left;
+            }
+            node.key = successor.key;
+            replacement = successor.right;
+        }
+        root = rebalancePath(depth, replacement);
+        return true;
+    }
+
+    /**
+     * Walks back up the recorded path: hangs child under path[depth - 1],
+     * rebalances that node, and so on up to the root.
+     *
+     * @return the new root
+     */
+    private Node rebalancePath(int depth, Node child) {
+        for (int i = depth - 1; i >= 0; i--) {
+            Node parent = path[i];
+            path[i] = null;  // Don't keep removed nodes reachable
+            if (wentLeft[i]) {
+                parent.left = child;
+            } else {
+                parent.right = child;
+            }
+            child = rebalance(parent);
+        }
+        return child;
+    }
+
+    private void clearPath(int depth) {
+        for (int i = 0; i < depth; i++) {
+            path[i] = null;
+        }
+    }
+
+    /**
+     * Time Complexity: O(log n)
+     */
+    public boolean contains(int value) {
+        Node node = root;
+        while (node != null) {
+            if (value == node.key) {
+                return true;
+            }
+            node = value < node.key ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Number of keys smaller than value (value itself need not be present).
+     *
+     * Time Complexity: O(log n)
+     */
+    public int rank(int value) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            if (value < node.key) {
+                node = node.left;
+            } else if (value > node.key) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * The k-th smallest key, counting from 0: select(rank(x)) == x for
+     * every key x.
+     *
+     * Time Complexity: O(log n)
+     *
+     * @throws IndexOutOfBoundsException if k is not in [0, size())
+     */
+    public int select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("k: " + k + ", size: " + size());
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.key;
+            }
+        }
+    }
+
+    /**
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public int min() {
+        if (root == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        Node node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.key;
+    }
+
+    /**
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public int max() {
+        if (root == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        Node node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * @return number of levels (0 for an empty tree)
+     */
+    public int height() {
+        return height(root);
+    }
+
+    /**
+     * @return the keys in ascending order
+     */
+    public int[] toArray() {
+        int[] keys = new int[size()];
+        Node[] stack = new Node[MAX_HEIGHT];
+        int top = 0;
+        int count = 0;
+        Node node = root;
+        while (node != null || top > 0) {
+            while (node != null) {
+                stack[top++] = node;
+                node = node.left;
+            }
+            node = stack[--top];
+            keys[count++] = node.key;
+            node = node.right;
+        }
+        return keys;
+    }
+
+    // ========================================================================
+    // BALANCING
+    // ========================================================================
+
+    /**
+     * Restores the AVL rule at node, whose subtrees are already balanced
+     * and differ in height by at most 2.
+     *
+     * @return the root of the (possibly rotated) subtree
+     */
+    private static Node rebalance(Node node) {
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);  // Left-right case
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);  // Right-left case
+            }
+            return rotateLeft(node);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     *       [z]             [y]
+     *       /  \           /   \
+     *     [y]   C   →     A    [z]
+     *     /  \                 /  \
+     *    A    B               B    C
+     */
+    private static Node rotateRight(Node z) {
+        Node y = z.left;
+        z.left = y.right;
+        y.right = z;
+        update(z);
+        update(y);
+        return y;
+    }
+
+    /** Mirror image of rotateRight. */
+    private static Node rotateLeft(Node z) {
+        Node y = z.right;
+        z.right = y.left;
+        y.left = z;
+        update(z);
+        update(y);
+        return y;
+    }
+
+    /** Recomputes height and size from the children. */
+    private static void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,220 @@
+package com.company.binarysearchtree;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * AVL TREE BENCHMARK - Insert Orders vs TreeMap
+ * =============================================
+ *
+ * N keys (default 1M) are inserted in four orders, then looked up and
+ * deleted in random order:
+ *
+ * - sorted   : ascending IDs - our normal case, and the worst case for Tree
+ * - reversed : descending
+ * - zigzag   : smallest, largest, 2nd smallest, 2nd largest, ... - every
+ *              insert lands at the edge of an inner subtree, forcing
+ *              double rotations
+ * - random   : shuffled
+ *
+ * Compared: AVLTree against TreeMap<Integer, Boolean> (a red-black tree;
+ * keys are boxed up front so boxing is not measured). The unbalanced Tree
+ * only runs the random order - any sorted-ish order overflows its
+ * recursive insert. Last, fromSorted is timed against n
+ * inserts, and rank/select are timed on the bulk-loaded tree.
+ *
+ * Columns in ns per operation; height is the number of levels.
+ *
+ * HOW TO RUN:
+ *   java com.company.binarysearchtree.AVLTreeBenchmark [n]
+ */
+public class AVLTreeBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+    private static final String[] ORDERS = {"sorted", "reversed", "zigzag", "random"};
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int[] probes = shuffled(n, 7);
+
+        System.out.printf("%,d keys, ns per operation%n", n);
+        System.out.printf("%-10s %-10s %12s %12s %12s %8s%n", "order", "structure", "insert", "lookup", "delete", "height");
+        for (int order = 0; order < ORDERS.length; order++) {
+            int[] keys = keys(n, order);
+            for (int structure = 0; structure < 3; structure++) {
+                if (structure == 2 && order != 3) {
+                    continue;  // Tree: random order only
+                }
+                double[] best = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+                int height = 0;
+                for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                    double[] times = new double[3];
+                    height = run(structure, keys, probes, times);
+                    if (round >= WARMUP_ROUNDS) {
+                        for (int i = 0; i < 3; i++) {
+                            best[i] = Math.min(best[i], times[i]);
+                        }
+                    }
+                }
+                String name = structure == 0 ? "AVLTree" : structure == 1 ? "TreeMap" : "Tree";
+                System.out.printf("%-10s %-10s %12.1f %12.1f %12.1f %8s%n", ORDERS[order], name,
+                        best[0] / n, best[1] / n, best[2] / n,
+                        structure == 0 ? String.valueOf(height) : "-");
+            }
+        }
+
+        int[] sorted = keys(n, 0);
+        double bulk = Double.MAX_VALUE;
+        double inserts = Double.MAX_VALUE;
+        double rank = Double.MAX_VALUE;
+        double select = Double.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            AVLTree tree = AVLTree.fromSorted(sorted);
+            long loaded = System.nanoTime();
+            AVLTree inserted = new AVLTree();
+            for (int key : sorted) {
+                inserted.insert(key);
+            }
+            long built = System.nanoTime();
+            long checksum = 0;
+            for (int probe : probes) {
+                checksum += tree.rank(probe * 2 + 1);  // Keys are even, probes fall in between
+            }
+            long ranked = System.nanoTime();
+            for (int probe : probes) {
+                checksum += tree.select(probe);
+            }
+            long selected = System.nanoTime();
+            sink += checksum + inserted.size();
+            if (round >= WARMUP_ROUNDS) {
+                bulk = Math.min(bulk, loaded - start);
+                inserts = Math.min(inserts, built - loaded);
+                rank = Math.min(rank, ranked - built);
+                select = Math.min(select, selected - ranked);
+            }
+        }
+        System.out.printf("%nfromSorted %.1f ns/key vs %.1f ns/insert; rank %.1f ns, select %.1f ns%n",
+                bulk / n, inserts / n, rank / n, select / n);
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * Inserts all keys, looks up every probe, deletes in probe order.
+     *
+     * @param structure 0 = AVLTree, 1 = TreeMap, 2 = Tree
+     * @param times out: nanoseconds for insert, lookup, delete
+     * @return height after the inserts (AVLTree only)
+     */
+    private static int run(int structure, int[] keys, int[] probes, double[] times) {
+        long checksum = 0;
+        int height = 0;
+        long start = System.nanoTime();
+        long inserted;
+        long looked;
+        if (structure == 0) {
+            AVLTree tree = new AVLTree();
+            for (int key : keys) {
+                tree.insert(key);
+            }
+            inserted = System.nanoTime();
+            for (int probe : probes) {
+                checksum += tree.contains(probe * 2) ? 1 : 0;
+            }
+            looked = System.nanoTime();
+            height = tree.height();
+            for (int probe : probes) {
+                tree.delete(probe * 2);
+            }
+            checksum += tree.size();
+        } else if (structure == 1) {
+            Integer[] boxedKeys = box(keys, false);
+            Integer[] boxedProbes = box(probes, true);
+            start = System.nanoTime();
+            TreeMap<Integer, Boolean> map = new TreeMap<>();
+            for (Integer key : boxedKeys) {
+                map.put(key, Boolean.TRUE);
+            }
+            inserted = System.nanoTime();
+            for (Integer probe : boxedProbes) {
+                checksum += map.containsKey(probe) ? 1 : 0;
+            }
+            looked = System.nanoTime();
+            for (Integer probe : boxedProbes) {
+                map.remove(probe);
+            }
+            checksum += map.size();
+        } else {
+            Tree tree = new Tree();
+            for (int key : keys) {
+                tree.insert(key);
+            }
+            inserted = System.nanoTime();
+            for (int probe : probes) {
+                checksum += tree.get(probe * 2) != null ? 1 : 0;
+            }
+            looked = System.nanoTime();
+            for (int probe : probes) {
+                tree.delete(probe * 2);
+            }
+            checksum += tree.get(0) != null ? 1 : 0;
+        }
+        long end = System.nanoTime();
+        times[0] = inserted - start;
+        times[1] = looked - inserted;
+        times[2] = end - looked;
+        sink += checksum;
+        return height;
+    }
+
+    /** n even keys 0, 2, 4, ... in the given order. */
+    private static int[] keys(int n, int order) {
+        int[] keys = new int[n];
+        if (order == 3) {
+            int[] positions = shuffled(n, 42);
+            for (int i = 0; i < n; i++) {
+                keys[i] = positions[i] * 2;
+            }
+            return keys;
+        }
+        for (int i = 0; i < n; i++) {
+            int position;
+            if (order == 0) {
+                position = i;
+            } else if (order == 1) {
+                position = n - 1 - i;
+            } else {
+                position = (i & 1) == 0 ? i / 2 : n - 1 - i / 2;
+            }
+            keys[i] = position * 2;
+        }
+        return keys;
+    }
+
+    /** 0 .. n - 1 in random order. */
+    private static int[] shuffled(int n, long seed) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static Integer[] box(int[] values, boolean probes) {
+        Integer[] boxed = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = probes ? values[i] * 2 : values[i];
+        }
+        return boxed;
+    }
+}
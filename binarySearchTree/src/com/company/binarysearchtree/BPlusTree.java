@@ -0,0 +1,458 @@
+package com.company.binarysearchtree;
+
+import java.util.Arrays;
+
+/**
+ * B+ TREE - A Cache-Friendly Ordered Index of int Keys
+ * ====================================================
+ *
+ * Tree spends one object per key: header, int, two pointers - and a lookup
+ * of 10M keys visits ~25 of them scattered over the heap, each one
+ * probably a cache miss. A B+ tree packs MANY keys into one node:
+ *
+ *                        [ 40 | 80 ]                    ← inner: separators
+ *                      /      |      \
+ *       [ 5 10 20 30 ] → [ 40 50 60 ] → [ 80 90 95 ]    ← leaves: keys + values,
+ *                                                          linked left to right
+ *
+ * - Nodes are wide (64 keys by default) and hold plain int[] arrays, so a
+ *   node is searched with a binary search over contiguous memory
+ * - The tree is very shallow: 10M keys fit in 4 levels, i.e. ~4 cache
+ *   misses per lookup instead of ~25
+ * - All keys and values live in the LEAVES; inner nodes only route.
+ *   Separator keys[i] of an inner node is the smallest key in children[i + 1]
+ * - Leaves are LINKED, so a range scan finds the first key once and then
+ *   just walks along the leaves - no climbing back up the tree
+ *
+ * SPLITS: a full node splits into two half-full ones and pushes a separator
+ * into its parent (which may split too; a split root grows the tree by one
+ * level). Exception: appending past the last key (ascending IDs, our normal
+ * case) leaves the full node full and starts a new one, so sequential
+ * inserts fill nodes 100% instead of 50%.
+ *
+ * DELETES do not merge underfull nodes (like many database B-trees): the
+ * space is reused by later inserts, and fromSorted rebuilds a compact tree.
+ *
+ * BULK LOAD: fromSorted fills the leaves left to right and builds each
+ * inner level on top - O(n), every node full.
+ *
+ * Maps int keys to int values (e.g. transaction ID → row number).
+ * Not thread-safe. See BPlusTreeBenchmark for lookups/sec and bytes per key
+ * against Tree and TreeMap.
+ */
+public class BPlusTree {
+
+    private static final int DEFAULT_NODE_SIZE = 64;
+    private static final int MAX_HEIGHT = 32;
+
+    /** A leaf (values != null) or an inner node (children != null). */
+    private static final class Node {
+        final int[] keys;
+        final int[] values;       // Leaf: values[i] belongs to keys[i]
+        final Node[] children;    // Inner: count + 1 children
+        int count;                // Keys in use
+        Node next;                // Leaf: the leaf to the right
+
+        Node(int nodeSize, boolean leaf) {
+            keys = new int[nodeSize];
+            values = leaf ? new int[nodeSize] : null;
+            children = leaf ? null : new Node[nodeSize + 1];
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    /** Receives the entries of a range scan, in ascending key order. */
+    public interface EntryVisitor {
+        void visit(int key, int value);
+    }
+
+    private final int nodeSize;
+    private Node root;
+    private int size;
+    private int height = 1;
+
+    // Path from the root recorded by put, reused across calls
+    private final Node[] path = new Node[MAX_HEIGHT];
+    private final int[] pathIndex = new int[MAX_HEIGHT];
+
+    // Scratch space for a split: one node's contents plus the new entry
+    private final int[] splitKeys;
+    private final int[] splitValues;
+    private final Node[] splitChildren;
+
+    public BPlusTree() {
+        this(DEFAULT_NODE_SIZE);
+    }
+
+    /**
+     * @param nodeSize keys per node (at least 3)
+     * @throws IllegalArgumentException if nodeSize is below 3
+     */
+    public BPlusTree(int nodeSize) {
+        if (nodeSize < 3) {
+            throw new IllegalArgumentException("Node size must be at least 3: " + nodeSize);
+        }
+        this.nodeSize = nodeSize;
+        root = new Node(nodeSize, true);
+        splitKeys = new int[nodeSize + 1];
+        splitValues = new int[nodeSize + 1];
+        splitChildren = new Node[nodeSize + 2];
+    }
+
+    /**
+     * Builds a tree with every node full from sorted keys.
+     *
+     * Time Complexity: O(n)
+     *
+     * @param keys strictly ascending
+     * @param values values[i] is stored with keys[i]
+     * @throws IllegalArgumentException if the keys are not strictly ascending
+     *         or the arrays differ in length
+     */
+    public static BPlusTree fromSorted(int[] keys, int[] values) {
+        return fromSorted(keys, values, DEFAULT_NODE_SIZE);
+    }
+
+    /**
+     * @see #fromSorted(int[], int[])
+     */
+    public static BPlusTree fromSorted(int[] keys, int[] values, int nodeSize) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Got " + keys.length + " keys but " + values.length + " values");
+        }
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] >= keys[i]) {
+                throw new IllegalArgumentException("Keys must be strictly ascending at index " + i);
+            }
+        }
+        BPlusTree tree = new BPlusTree(nodeSize);
+        int n = keys.length;
+        if (n == 0) {
+            return tree;
+        }
+
+        // Leaves: spread n keys evenly over the fewest leaves that hold them
+        int leafCount = (n + nodeSize - 1) / nodeSize;
+        Node[] level = new Node[leafCount];
+        int[] firstKeys = new int[leafCount];   // Smallest key under each node
+        Node previous = null;
+        for (int j = 0; j < leafCount; j++) {
+            int from = (int) ((long) n * j / leafCount);
+            int to = (int) ((long) n * (j + 1) / leafCount);
+            Node leaf = new Node(nodeSize, true);
+            System.arraycopy(keys, from, leaf.keys, 0, to - from);
+            System.arraycopy(values, from, leaf.values, 0, to - from);
+            leaf.count = to - from;
+            if (previous != null) {
+                previous.next = leaf;
+            }
+            previous = leaf;
+            level[j] = leaf;
+            firstKeys[j] = keys[from];
+        }
+
+        // Inner levels: up to nodeSize + 1 children each, until one node is left
+        int height = 1;
+        while (level.length > 1) {
+            int parentCount = (level.length + nodeSize) / (nodeSize + 1);
+            Node[] parents = new Node[parentCount];
+            int[] parentFirstKeys = new int[parentCount];
+            for (int j = 0; j < parentCount; j++) {
+                int from = (int) ((long) level.length * j / parentCount);
+                int to = (int) ((long) level.length * (j + 1) / parentCount);
+                Node parent = new Node(nodeSize, false);
+                System.arraycopy(level, from, parent.children, 0, to - from);
+                for (int c = from + 1; c < to; c++) {
+                    parent.keys[c - from - 1] = firstKeys[c];
+                }
+                parent.count = to - from - 1;
+                parents[j] = parent;
+                parentFirstKeys[j] = firstKeys[from];
+            }
+            level = parents;
+            firstKeys = parentFirstKeys;
+            height++;
+        }
+        tree.root = level[0];
+        tree.size = n;
+        tree.height = height;
+        return tree;
+    }
+
+    /**
+     * Time Complexity: O(log n) - height levels, a binary search in each
+     *
+     * @return the value stored with key, or defaultValue if key is absent
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        Node leaf = findLeaf(key);
+        int i = lowerBound(leaf.keys, leaf.count, key);
+        return i < leaf.count && leaf.keys[i] == key ? leaf.values[i] : defaultValue;
+    }
+
+    /**
+     * Time Complexity: O(log n)
+     */
+    public boolean containsKey(int key) {
+        Node leaf = findLeaf(key);
+        int i = lowerBound(leaf.keys, leaf.count, key);
+        return i < leaf.count && leaf.keys[i] == key;
+    }
+
+    /**
+     * Adds key → value, or replaces the value if key is present.
+     *
+     * Time Complexity: O(log n); a split costs O(node size) extra
+     *
+     * @return true if key was new
+     */
+    public boolean put(int key, int value) {
+        int depth = 0;
+        boolean rightmost = true;  // On the path to the last leaf?
+        Node node = root;
+        while (!node.isLeaf()) {
+            int i = upperBound(node.keys, node.count, key);
+            rightmost &= i == node.count;
+            path[depth] = node;
+            pathIndex[depth++] = i;
+            node = node.children[i];
+        }
+        int i = lowerBound(node.keys, node.count, key);
+        if (i < node.count && node.keys[i] == key) {
+            node.values[i] = value;
+            clearPath(depth);
+            return false;
+        }
+        size++;
+        if (node.count < nodeSize) {
+            insertIntoLeaf(node, i, key, value);
+            clearPath(depth);
+            return true;
+        }
+
+        // Leaf is full: split it and push the separator up
+        boolean append = rightmost && i == node.count;
+        Node right = splitLeaf(node, i, key, value, append);
+        int separator = right.keys[0];
+        while (depth > 0) {
+            Node parent = path[--depth];
+            int childIndex = pathIndex[depth];
+            path[depth] = null;
+            if (parent.count < nodeSize) {
+                insertIntoInner(parent, childIndex, separator, right);
+                clearPath(depth);
+                return true;
+            }
+            Node newRight = splitInner(parent, childIndex, separator, right, append);
+            separator = splitKeys[parent.count];  // The middle key moves up
+            right = newRight;
+        }
+
+        // The root itself split: grow by one level
+        Node newRoot = new Node(nodeSize, false);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = right;
+        newRoot.count = 1;
+        root = newRoot;
+        height++;
+        return true;
+    }
+
+    /**
+     * Removes key. Underfull leaves are not merged.
+     *
+     * Time Complexity: O(log n)
+     *
+     * @return true if key was present
+     */
+    public boolean remove(int key) {
+        Node leaf = findLeaf(key);
+        int i = lowerBound(leaf.keys, leaf.count, key);
+        if (i == leaf.count || leaf.keys[i] != key) {
+            return false;
+        }
+        int moved = leaf.count - i - 1;
+        System.arraycopy(leaf.keys, i + 1, leaf.keys, i, moved);
+        System.arraycopy(leaf.values, i + 1, leaf.values, i, moved);
+        leaf.count--;
+        size--;
+        return true;
+    }
+
+    /**
+     * Visits every entry with from <= key <= to, in ascending key order:
+     * one descent to the first leaf, then a walk along the leaf links.
+     *
+     * Time Complexity: O(log n + k) for k entries in the range
+     *
+     * @return number of entries visited
+     */
+    public int rangeScan(int from, int to, EntryVisitor visitor) {
+        if (from > to) {
+            return 0;
+        }
+        Node leaf = findLeaf(from);
+        int i = lowerBound(leaf.keys, leaf.count, from);
+        int visited = 0;
+        while (leaf != null) {
+            int[] keys = leaf.keys;
+            for (; i < leaf.count; i++) {
+                if (keys[i] > to) {
+                    return visited;
+                }
+                visitor.visit(keys[i], leaf.values[i]);
+                visited++;
+            }
+            leaf = leaf.next;
+            i = 0;
+        }
+        return visited;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of levels, leaves included (1 for a tree that is one leaf)
+     */
+    public int height() {
+        return height;
+    }
+
+    // ========================================================================
+    // NODE OPERATIONS
+    // ========================================================================
+
+    private Node findLeaf(int key) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[upperBound(node.keys, node.count, key)];
+        }
+        return node;
+    }
+
+    private static void insertIntoLeaf(Node leaf, int i, int key, int value) {
+        int moved = leaf.count - i;
+        System.arraycopy(leaf.keys, i, leaf.keys, i + 1, moved);
+        System.arraycopy(leaf.values, i, leaf.values, i + 1, moved);
+        leaf.keys[i] = key;
+        leaf.values[i] = value;
+        leaf.count++;
+    }
+
+    /** Puts separator at keys[childIndex] and child right of it. */
+    private static void insertIntoInner(Node inner, int childIndex, int separator, Node child) {
+        int moved = inner.count - childIndex;
+        System.arraycopy(inner.keys, childIndex, inner.keys, childIndex + 1, moved);
+        System.arraycopy(inner.children, childIndex + 1, inner.children, childIndex + 2, moved);
+        inner.keys[childIndex] = separator;
+        inner.children[childIndex + 1] = child;
+        inner.count++;
+    }
+
+    /**
+     * Splits a full leaf that the new entry goes into at position i.
+     *
+     * @param append keep the leaf full and start the new one with just the entry
+     * @return the new right leaf, linked in after leaf
+     */
+    private Node splitLeaf(Node leaf, int i, int key, int value, boolean append) {
+        int total = nodeSize + 1;
+        System.arraycopy(leaf.keys, 0, splitKeys, 0, i);
+        System.arraycopy(leaf.values, 0, splitValues, 0, i);
+        splitKeys[i] = key;
+        splitValues[i] = value;
+        System.arraycopy(leaf.keys, i, splitKeys, i + 1, nodeSize - i);
+        System.arraycopy(leaf.values, i, splitValues, i + 1, nodeSize - i);
+
+        int leftCount = append ? nodeSize : total / 2;
+        Node right = new Node(nodeSize, true);
+        System.arraycopy(splitKeys, 0, leaf.keys, 0, leftCount);
+        System.arraycopy(splitValues, 0, leaf.values, 0, leftCount);
+        System.arraycopy(splitKeys, leftCount, right.keys, 0, total - leftCount);
+        System.arraycopy(splitValues, leftCount, right.values, 0, total - leftCount);
+        leaf.count = leftCount;
+        right.count = total - leftCount;
+        right.next = leaf.next;
+        leaf.next = right;
+        return right;
+    }
+
+    /**
+     * Splits a full inner node that separator / child go into at childIndex.
+     * The middle key is left in splitKeys[inner.count] for the caller to
+     * push up; it stays in neither half.
+     *
+     * @param append keep the node full and start the new one with just the child
+     * @return the new right node
+     */
+    private Node splitInner(Node inner, int childIndex, int separator, Node child, boolean append) {
+        System.arraycopy(inner.keys, 0, splitKeys, 0, childIndex);
+        splitKeys[childIndex] = separator;
+        System.arraycopy(inner.keys, childIndex, splitKeys, childIndex + 1, nodeSize - childIndex);
+        System.arraycopy(inner.children, 0, splitChildren, 0, childIndex + 1);
+        splitChildren[childIndex + 1] = child;
+        System.arraycopy(inner.children, childIndex + 1, splitChildren, childIndex + 2, nodeSize - childIndex);
+
+        // nodeSize + 1 keys: leftCount stay, one moves up, the rest go right
+        int leftCount = append ? nodeSize : nodeSize / 2;
+        int rightCount = nodeSize - leftCount;
+        Node right = new Node(nodeSize, false);
+        System.arraycopy(splitKeys, 0, inner.keys, 0, leftCount);
+        System.arraycopy(splitChildren, 0, inner.children, 0, leftCount + 1);
+        System.arraycopy(splitKeys, leftCount + 1, right.keys, 0, rightCount);
+        System.arraycopy(splitChildren, leftCount + 1, right.children, 0, rightCount + 1);
+        for (int c = leftCount + 1; c <= nodeSize; c++) {
+            inner.children[c] = null;
+        }
+        Arrays.fill(splitChildren, null);
+        inner.count = leftCount;
+        right.count = rightCount;
+        return right;
+    }
+
+    private void clearPath(int depth) {
+        for (int i = 0; i < depth; i++) {
+            path[i] = null;
+        }
+    }
+
+    /** First index in keys[0..count) with keys[index] >= key. */
+    private static int lowerBound(int[] keys, int count, int key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /** First index in keys[0..count) with keys[index] > key: the child to descend into. */
+    private static int upperBound(int[] keys, int count, int key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
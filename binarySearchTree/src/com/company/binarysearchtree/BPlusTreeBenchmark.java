@@ -0,0 +1,180 @@
+package com.company.binarysearchtree;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * B+ TREE BENCHMARK - Lookups and Memory at 10M Keys
+ * ==================================================
+ *
+ * N distinct random keys (default 10M transaction IDs) are indexed by:
+ *
+ * - Tree                  : the unbalanced BST, one TreeNode per key
+ *                           (keys only - it stores no values)
+ * - TreeMap               : TreeMap<Integer, Integer>, an Entry plus two
+ *                           boxed Integers per key
+ * - BPlusTree put         : random-order inserts, so nodes are ~70% full
+ * - BPlusTree fromSorted  : bulk-loaded, every node full
+ *
+ * Reported: build time, heap bytes per key (used heap after a GC, before
+ * vs after building), million random lookups per second (all hits), and
+ * million entries per second for range scans of ~1000 keys (Tree has no
+ * range scan).
+ *
+ * Everything first runs once on 100K keys to warm up the JIT; lookups
+ * report the best measured round. Bytes per key are approximate - they
+ * come from Runtime, not an object-layout tool.
+ *
+ * HOW TO RUN:
+ *   java -Xmx3g com.company.binarysearchtree.BPlusTreeBenchmark [n]
+ */
+public class BPlusTreeBenchmark {
+
+    private static final int LOOKUP_ROUNDS = 3;
+    private static final int RANGE_LENGTH = 1000;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        run(Math.min(n, 100_000), false);  // Warmup
+        run(n, true);
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static void run(int n, boolean print) {
+        // Distinct keys: a random permutation of 0, 3, 6, ... (gaps leave room for misses)
+        Random random = new Random(42);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i * 3;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+        int[] probes = new int[n];
+        for (int i = 0; i < n; i++) {
+            probes[i] = keys[random.nextInt(n)];
+        }
+        int[] rangeStarts = new int[Math.max(1, n / RANGE_LENGTH)];
+        for (int i = 0; i < rangeStarts.length; i++) {
+            rangeStarts[i] = random.nextInt(n) * 3;
+        }
+
+        if (print) {
+            System.out.printf("%,d keys%n", n);
+            System.out.printf("%-22s %10s %12s %14s %14s%n", "index", "build ms", "bytes/key", "M lookups/s", "M scanned/s");
+        }
+        for (int structure = 0; structure < 4; structure++) {
+            measure(structure, keys, probes, rangeStarts, print);
+        }
+    }
+
+    /**
+     * @param structure 0 = Tree, 1 = TreeMap, 2 = BPlusTree put, 3 = BPlusTree fromSorted
+     */
+    private static void measure(int structure, int[] keys, int[] probes, int[] rangeStarts, boolean print) {
+        int n = keys.length;
+        int[] sorted = null;
+        Integer[] boxedProbes = null;
+        if (structure == 1) {
+            boxedProbes = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                boxedProbes[i] = probes[i];
+            }
+        } else if (structure == 3) {
+            sorted = new int[n];
+            for (int i = 0; i < n; i++) {
+                sorted[i] = i * 3;  // keys, sorted
+            }
+        }
+
+        long before = usedMemory();
+        long start = System.nanoTime();
+        Tree tree = null;
+        TreeMap<Integer, Integer> map = null;
+        BPlusTree bPlusTree = null;
+        if (structure == 0) {
+            tree = new Tree();
+            for (int key : keys) {
+                tree.insert(key);
+            }
+        } else if (structure == 1) {
+            map = new TreeMap<>();
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        } else if (structure == 2) {
+            bPlusTree = new BPlusTree();
+            for (int key : keys) {
+                bPlusTree.put(key, key);
+            }
+        } else {
+            bPlusTree = BPlusTree.fromSorted(sorted, sorted);
+        }
+        double buildMillis = (System.nanoTime() - start) / 1e6;
+        double bytesPerKey = (usedMemory() - before) / (double) n;
+        if (sorted != null) {
+            sink += sorted.length;  // Keep the input alive: it is part of "before", not of the index
+        }
+
+        double lookups = 0;
+        for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+            long checksum = 0;
+            long begin = System.nanoTime();
+            if (structure == 0) {
+                for (int probe : probes) {
+                    checksum += tree.get(probe).getData();
+                }
+            } else if (structure == 1) {
+                for (Integer probe : boxedProbes) {
+                    checksum += map.get(probe);
+                }
+            } else {
+                for (int probe : probes) {
+                    checksum += bPlusTree.getOrDefault(probe, 0);
+                }
+            }
+            lookups = Math.max(lookups, n / ((System.nanoTime() - begin) / 1e9) / 1e6);
+            sink += checksum;
+        }
+
+        double scanned = Double.NaN;
+        if (structure != 0) {
+            long[] checksum = new long[1];
+            long count = 0;
+            long begin = System.nanoTime();
+            for (int from : rangeStarts) {
+                int to = from + RANGE_LENGTH * 3 - 1;
+                if (structure == 1) {
+                    for (Map.Entry<Integer, Integer> entry : map.subMap(from, true, to, true).entrySet()) {
+                        checksum[0] += entry.getValue();
+                        count++;
+                    }
+                } else {
+                    count += bPlusTree.rangeScan(from, to, (key, value) -> checksum[0] += value);
+                }
+            }
+            scanned = count / ((System.nanoTime() - begin) / 1e9) / 1e6;
+            sink += checksum[0];
+        }
+
+        if (print) {
+            String[] names = {"Tree", "TreeMap", "BPlusTree put", "BPlusTree fromSorted"};
+            System.out.printf("%-22s %10.0f %12.1f %14.1f %14s%n", names[structure], buildMillis, bytesPerKey,
+                    lookups, Double.isNaN(scanned) ? "-" : String.format("%.1f", scanned));
+        }
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
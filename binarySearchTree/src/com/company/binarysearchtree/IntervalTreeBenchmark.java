@@ -0,0 +1,163 @@
+package com.company.binarysearchtree;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * INTERVAL TREE BENCHMARK - Overlap Queries Over Millions of Holds
+ * ================================================================
+ *
+ * N intervals (default 4M) spread over 30 days, in seconds: 99% short
+ * authorizations (1 second to 10 minutes), 1% holds (1 to 7 days). Each
+ * has a distinct id.
+ *
+ * Build:
+ * - IntervalTree insert      : N inserts in random order
+ * - IntervalTree fromSorted  : sort once, then bulk load
+ *
+ * Queries for windows of 1 minute, 1 hour and 1 day at random positions:
+ * - linear scan              : today's approach - check every interval in
+ *                              three parallel arrays
+ * - IntervalTree overlapping : the augmented tree
+ *
+ * Reported: build time, queries per second, and the average number of
+ * overlapping intervals per query (both methods must agree). The linear
+ * scan gets fewer queries since each one reads all N intervals. A tree
+ * query costs about log n plus the overlaps it reports, so the gap narrows
+ * as windows widen and answers grow.
+ *
+ * Everything first runs once on 100K intervals to warm up the JIT.
+ *
+ * HOW TO RUN:
+ *   java -Xmx3g com.company.binarysearchtree.IntervalTreeBenchmark [n]
+ */
+public class IntervalTreeBenchmark {
+
+    private static final long DAY = 86_400;
+    private static final long SPAN = 30 * DAY;
+    private static final long[] WINDOWS = {60, 3_600, DAY};
+    private static final String[] WINDOW_NAMES = {"1 minute", "1 hour", "1 day"};
+    private static final int TREE_QUERIES = 5_000;
+    private static final int SCAN_QUERIES = 50;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        run(Math.min(n, 100_000), false);  // Warmup
+        run(n, true);
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static void run(int n, boolean print) {
+        Random random = new Random(42);
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = (long) (random.nextDouble() * SPAN);
+            long duration = random.nextInt(100) == 0
+                    ? DAY + (long) (random.nextDouble() * 6 * DAY)
+                    : 1 + random.nextInt(600);
+            ends[i] = starts[i] + duration;
+            ids[i] = i;
+        }
+
+        long begin = System.nanoTime();
+        IntervalTree inserted = new IntervalTree();
+        for (int i = 0; i < n; i++) {
+            inserted.insert(starts[i], ends[i], ids[i]);
+        }
+        double insertMillis = (System.nanoTime() - begin) / 1e6;
+
+        begin = System.nanoTime();
+        IntervalTree bulk = bulkLoad(starts, ends, ids);
+        double bulkMillis = (System.nanoTime() - begin) / 1e6;
+
+        if (print) {
+            System.out.printf("%,d intervals over 30 days%n", n);
+            System.out.printf("build: insert %.0f ms (height %d), fromSorted %.0f ms (height %d)%n",
+                    insertMillis, inserted.height(), bulkMillis, bulk.height());
+            System.out.printf("%-10s %16s %20s %14s%n", "window", "scan queries/s", "tree queries/s", "avg overlaps");
+        }
+        for (int w = 0; w < WINDOWS.length; w++) {
+            long[] from = new long[TREE_QUERIES];
+            for (int q = 0; q < TREE_QUERIES; q++) {
+                from[q] = (long) (random.nextDouble() * SPAN);
+            }
+            long window = WINDOWS[w];
+
+            long scanned = 0;
+            begin = System.nanoTime();
+            for (int q = 0; q < SCAN_QUERIES; q++) {
+                scanned += linearScan(starts, ends, from[q], from[q] + window);
+            }
+            double scanRate = SCAN_QUERIES / ((System.nanoTime() - begin) / 1e9);
+
+            long[] checksum = new long[1];
+            long found = 0;
+            long foundFirst = 0;
+            begin = System.nanoTime();
+            for (int q = 0; q < TREE_QUERIES; q++) {
+                int count = bulk.overlapping(from[q], from[q] + window, (start, end, id) -> checksum[0] += id);
+                found += count;
+                if (q < SCAN_QUERIES) {
+                    foundFirst += count;
+                }
+            }
+            double treeRate = TREE_QUERIES / ((System.nanoTime() - begin) / 1e9);
+            if (foundFirst != scanned) {
+                throw new IllegalStateException("Tree found " + foundFirst + " overlaps, scan " + scanned);
+            }
+            sink += checksum[0];
+
+            if (print) {
+                System.out.printf("%-10s %16.1f %20.0f %14.1f%n", WINDOW_NAMES[w], scanRate, treeRate,
+                        found / (double) TREE_QUERIES);
+            }
+        }
+        sink += inserted.size();
+    }
+
+    /** Sorts the intervals by (start, end, id) and bulk loads them. */
+    private static IntervalTree bulkLoad(long[] starts, long[] ends, int[] ids) {
+        int n = starts.length;
+        // Ids are 0..n-1 here, so sort (start, id) packed into one long -
+        // start < 2^32 seconds, id < 2^31 - and look the end up by id
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = starts[i] << 31 | ids[i];
+        }
+        Arrays.sort(packed);
+        long[] sortedStarts = new long[n];
+        long[] sortedEnds = new long[n];
+        int[] sortedIds = new int[n];
+        for (int i = 0; i < n; i++) {
+            sortedStarts[i] = packed[i] >>> 31;
+            sortedIds[i] = (int) (packed[i] & Integer.MAX_VALUE);
+            sortedEnds[i] = ends[sortedIds[i]];
+        }
+        // Equal starts must be ordered by end before id
+        for (int i = 1; i < n; i++) {
+            for (int j = i; j > 0 && sortedStarts[j - 1] == sortedStarts[j] && sortedEnds[j - 1] > sortedEnds[j]; j--) {
+                long end = sortedEnds[j];
+                sortedEnds[j] = sortedEnds[j - 1];
+                sortedEnds[j - 1] = end;
+                int id = sortedIds[j];
+                sortedIds[j] = sortedIds[j - 1];
+                sortedIds[j - 1] = id;
+            }
+        }
+        return IntervalTree.fromSorted(sortedStarts, sortedEnds, sortedIds);
+    }
+
+    private static int linearScan(long[] starts, long[] ends, long from, long to) {
+        int count = 0;
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] <= to && ends[i] >= from) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
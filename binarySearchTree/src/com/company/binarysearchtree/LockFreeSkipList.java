@@ -0,0 +1,602 @@
+package com.company.binarysearchtree;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * LOCK-FREE SKIP LIST - A Concurrent Ordered Index of int Keys
+ * ============================================================
+ *
+ * Tree's insert/get/delete/min/max cannot be called from two threads at
+ * once, and one lock around it lets only one thread work at a time. This
+ * is the same ordered index for many threads: no locks at all, every
+ * update is a compare-and-set (CAS) on one pointer, and readers never
+ * write.
+ *
+ * A SKIP LIST is a sorted linked list plus "express lanes": every node is
+ * in the base list, about 1 in 4 also gets an index entry on level 1,
+ * 1 in 16 on level 2, and so on. A search runs along the top lane until
+ * the next key is too big, drops one level, and repeats: O(log n) expected.
+ *
+ *   level 2:  head ───────────────────────────→ 50
+ *   level 1:  head ──────────→ 20 ────────────→ 50 ──────→ 80
+ *   base:     head → 10 → 15 → 20 → 30 → 40 → 50 → 60 → 80 → 90
+ *
+ * Unlike a balanced tree there are no rotations - one insert touches only
+ * its own neighbours, which is what makes a lock-free version practical.
+ *
+ * HOW UPDATES STAY CORRECT WITHOUT LOCKS (the ConcurrentSkipListMap scheme):
+ *
+ * - insert: find the predecessor b of the key in the base list, then
+ *   CAS b.next from its successor to the new node. If another thread got
+ *   there first the CAS fails and we search again. Index levels are added
+ *   afterwards; they are only hints.
+ *
+ * - delete, in three steps - each can be finished by ANY thread that trips
+ *   over a half-deleted node, so nobody ever waits for anybody:
+ *     1. CAS the node's value to null       ← the delete happens here
+ *     2. append a MARKER node after it      ← now no insert can CAS in
+ *                                             behind the dead node
+ *     3. CAS the predecessor's next past node and marker
+ *   Index entries of deleted nodes are unlinked lazily by later searches.
+ *
+ *   b → n → f   ⇒   b → n(null) → marker → f   ⇒   b → f
+ *
+ * Keys are primitive ints: no boxing and no Comparator call per step,
+ * which ConcurrentSkipListMap<Integer, V> pays. Values may not be null
+ * (a null value means "deleted"). Methods that look at more than one key
+ * (rangeScan, size) are weakly consistent, like the JDK's concurrent
+ * collections: they see every entry present for the whole call, and may or
+ * may not see concurrent updates.
+ *
+ * See SkipListBenchmark for a 90% read / 10% write mix against
+ * ConcurrentSkipListMap.
+ *
+ * @param <V> the value stored with each key
+ */
+public class LockFreeSkipList<V> {
+
+    /** Value of the head's base node. */
+    private static final Object BASE_HEADER = new Object();
+
+    /** An ordered key-value pair, a snapshot returned by min/max/floor/ceiling. */
+    public static final class Entry<V> {
+        private final int key;
+        private final V value;
+
+        Entry(int key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public int getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /** Receives the entries of a range scan, in ascending key order. */
+    public interface EntryVisitor<V> {
+        void visit(int key, V value);
+    }
+
+    /**
+     * Base-level node. value == null: deleted; value == this: a MARKER
+     * (placed after a deleted node to block inserts behind it).
+     */
+    private static final class Node {
+        private static final AtomicReferenceFieldUpdater<Node, Object> VALUE =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "value");
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        final int key;
+        volatile Object value;
+        volatile Node next;
+
+        Node(int key, Object value, Node next) {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        /** Creates a marker in front of next. */
+        Node(Node next) {
+            this.key = 0;
+            this.value = this;
+            this.next = next;
+        }
+
+        boolean casValue(Object expected, Object update) {
+            return VALUE.compareAndSet(this, expected, update);
+        }
+
+        boolean casNext(Node expected, Node update) {
+            return NEXT.compareAndSet(this, expected, update);
+        }
+
+        /**
+         * Steps 2 and 3 of a delete, for this node (already value == null)
+         * between b and f: whichever is not done yet.
+         */
+        void helpDelete(Node b, Node f) {
+            if (f == next && this == b.next) {
+                if (f == null || f.value != f) {
+                    casNext(f, new Node(f));     // Step 2: append a marker
+                } else {
+                    b.casNext(this, f.next);     // Step 3: unlink node and marker
+                }
+            }
+        }
+
+        /** The value, or null if this is deleted, a marker or the head. */
+        Object validValue() {
+            Object v = value;
+            return v == this || v == BASE_HEADER ? null : v;
+        }
+    }
+
+    /** An express-lane entry: points down to the level below and right along its level. */
+    private static class Index {
+        private static final AtomicReferenceFieldUpdater<Index, Index> RIGHT =
+                AtomicReferenceFieldUpdater.newUpdater(Index.class, Index.class, "right");
+
+        final Node node;
+        final Index down;
+        volatile Index right;
+
+        Index(Node node, Index down, Index right) {
+            this.node = node;
+            this.down = down;
+            this.right = right;
+        }
+
+        /** Inserts newSucc between this and succ, unless this index's node was deleted. */
+        boolean link(Index succ, Index newSucc) {
+            newSucc.right = succ;
+            return node.value != null && RIGHT.compareAndSet(this, succ, newSucc);
+        }
+
+        /** Removes succ (whose node was deleted), unless this index's node was deleted too. */
+        boolean unlink(Index succ) {
+            return node.value != null && RIGHT.compareAndSet(this, succ, succ.right);
+        }
+    }
+
+    /** Leftmost index of each level; all share the base list's head node. */
+    private static final class HeadIndex extends Index {
+        final int level;
+
+        HeadIndex(Node node, Index down, Index right, int level) {
+            super(node, down, right);
+            this.level = level;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")  // newUpdater takes a Class, which cannot name LockFreeSkipList<?>
+    private static final AtomicReferenceFieldUpdater<LockFreeSkipList, HeadIndex> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeSkipList.class, HeadIndex.class, "head");
+
+    private volatile HeadIndex head = new HeadIndex(new Node(0, BASE_HEADER, null), null, null, 1);
+
+    /**
+     * Adds key → value, or replaces the value if key is present.
+     *
+     * Time Complexity: O(log n) expected
+     *
+     * @return the previous value, or null if key was new
+     * @throws NullPointerException if value is null
+     */
+    public V insert(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Value cannot be null");
+        }
+        Node z;
+        outer:
+        while (true) {
+            for (Node b = findPredecessor(key), n = b.next; ; ) {
+                if (n != null) {
+                    Node f = n.next;
+                    if (n != b.next) {
+                        break;  // Inconsistent read: start over
+                    }
+                    Object v = n.value;
+                    if (v == null) {
+                        n.helpDelete(b, f);
+                        break;
+                    }
+                    if (b.value == null || v == n) {
+                        break;  // b is being deleted
+                    }
+                    if (key > n.key) {
+                        b = n;
+                        n = f;
+                        continue;
+                    }
+                    if (key == n.key) {
+                        if (n.casValue(v, value)) {
+                            @SuppressWarnings("unchecked")
+                            V previous = (V) v;
+                            return previous;
+                        }
+                        break;  // Lost a race with another update: start over
+                    }
+                }
+                z = new Node(key, value, n);
+                if (!b.casNext(n, z)) {
+                    break;
+                }
+                break outer;
+            }
+        }
+        addIndex(z);
+        return null;
+    }
+
+    /**
+     * Time Complexity: O(log n) expected
+     *
+     * @return the value stored with key, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        Node n = findNode(key);
+        return n == null ? null : (V) n.validValue();
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Removes key.
+     *
+     * Time Complexity: O(log n) expected
+     *
+     * @return the removed value, or null if key was not present
+     */
+    public V delete(int key) {
+        outer:
+        while (true) {
+            for (Node b = findPredecessor(key), n = b.next; ; ) {
+                if (n == null) {
+                    break outer;
+                }
+                Node f = n.next;
+                if (n != b.next) {
+                    break;
+                }
+                Object v = n.value;
+                if (v == null) {
+                    n.helpDelete(b, f);
+                    break;
+                }
+                if (b.value == null || v == n) {
+                    break;
+                }
+                if (key < n.key) {
+                    break outer;
+                }
+                if (key > n.key) {
+                    b = n;
+                    n = f;
+                    continue;
+                }
+                if (!n.casValue(v, null)) {
+                    break;  // Someone else changed or deleted it: start over
+                }
+                if (!n.casNext(f, new Node(f)) || !b.casNext(n, f)) {
+                    findNode(key);  // Let a search finish steps 2 and 3
+                } else {
+                    findPredecessor(key);  // Unlinks the index entries
+                }
+                @SuppressWarnings("unchecked")
+                V removed = (V) v;
+                return removed;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the entry with the smallest key, or null if empty
+     */
+    public Entry<V> min() {
+        return near(Integer.MIN_VALUE, false, true);
+    }
+
+    /**
+     * @return the entry with the largest key, or null if empty
+     */
+    public Entry<V> max() {
+        return near(Integer.MAX_VALUE, true, true);
+    }
+
+    /**
+     * @return the entry with the largest key <= key, or null
+     */
+    public Entry<V> floor(int key) {
+        return near(key, true, true);
+    }
+
+    /**
+     * @return the entry with the smallest key >= key, or null
+     */
+    public Entry<V> ceiling(int key) {
+        return near(key, false, true);
+    }
+
+    /**
+     * Visits the entries with from <= key <= to in ascending key order.
+     * Weakly consistent.
+     *
+     * Time Complexity: O(log n + k) expected, for k entries in the range
+     *
+     * @return number of entries visited
+     */
+    @SuppressWarnings("unchecked")
+    public int rangeScan(int from, int to, EntryVisitor<? super V> visitor) {
+        if (from > to) {
+            return 0;
+        }
+        int visited = 0;
+        for (Node n = findNear(from, false, true); n != null; n = n.next) {
+            Object v = n.value;
+            if (v == n) {
+                continue;  // A marker: its key means nothing
+            }
+            if (n.key > to) {
+                break;
+            }
+            if (v != null) {
+                visitor.visit(n.key, (V) v);
+                visited++;
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Counts the entries - O(n), and weakly consistent: under concurrent
+     * updates the result may already be stale.
+     */
+    public int size() {
+        int count = 0;
+        for (Node n = head.node.next; n != null; n = n.next) {
+            if (n.validValue() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return min() == null;
+    }
+
+    // ========================================================================
+    // SEARCHING
+    // ========================================================================
+
+    /**
+     * Walks the express lanes down to the base node that comes before key,
+     * unlinking index entries of deleted nodes on the way.
+     *
+     * @return a base node with a smaller key (or the head)
+     */
+    private Node findPredecessor(int key) {
+        while (true) {
+            for (Index q = head, r = q.right; ; ) {
+                if (r != null) {
+                    Node n = r.node;
+                    if (n.value == null) {
+                        if (!q.unlink(r)) {
+                            break;  // q itself was deleted: start over
+                        }
+                        r = q.right;
+                        continue;
+                    }
+                    if (key > n.key) {
+                        q = r;
+                        r = r.right;
+                        continue;
+                    }
+                }
+                Index d = q.down;
+                if (d == null) {
+                    return q.node;
+                }
+                q = d;
+                r = d.right;
+            }
+        }
+    }
+
+    /**
+     * @return the live node holding key, or null; helps deletes it passes
+     */
+    private Node findNode(int key) {
+        outer:
+        while (true) {
+            for (Node b = findPredecessor(key), n = b.next; ; ) {
+                if (n == null) {
+                    break outer;
+                }
+                Node f = n.next;
+                if (n != b.next) {
+                    break;
+                }
+                Object v = n.value;
+                if (v == null) {
+                    n.helpDelete(b, f);
+                    break;
+                }
+                if (b.value == null || v == n) {
+                    break;
+                }
+                if (key == n.key) {
+                    return n;
+                }
+                if (key < n.key) {
+                    break outer;
+                }
+                b = n;
+                n = f;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param below true: largest key < (or <= with equal) key;
+     *              false: smallest key > (or >= with equal) key
+     * @return that node, or null
+     */
+    private Node findNear(int key, boolean below, boolean equal) {
+        while (true) {
+            for (Node b = findPredecessor(key), n = b.next; ; ) {
+                if (n == null) {
+                    return !below || b.value == BASE_HEADER ? null : b;
+                }
+                Node f = n.next;
+                if (n != b.next) {
+                    break;
+                }
+                Object v = n.value;
+                if (v == null) {
+                    n.helpDelete(b, f);
+                    break;
+                }
+                if (b.value == null || v == n) {
+                    break;
+                }
+                if ((key == n.key && equal) || (key < n.key && !below)) {
+                    return n;
+                }
+                if (key <= n.key && below) {
+                    return b.value == BASE_HEADER ? null : b;
+                }
+                b = n;
+                n = f;
+            }
+        }
+    }
+
+    /** findNear as an entry snapshot; retries if the node dies before its value is read. */
+    @SuppressWarnings("unchecked")
+    private Entry<V> near(int key, boolean below, boolean equal) {
+        while (true) {
+            Node n = findNear(key, below, equal);
+            if (n == null) {
+                return null;
+            }
+            Object v = n.validValue();
+            if (v != null) {
+                return new Entry<>(n.key, (V) v);
+            }
+        }
+    }
+
+    // ========================================================================
+    // INDEX LEVELS
+    // ========================================================================
+
+    /**
+     * Gives a freshly inserted node a tower of index entries: none with
+     * probability 3/4, then each further level with probability 1/2.
+     */
+    private void addIndex(Node z) {
+        int random = ThreadLocalRandom.current().nextInt();
+        if ((random & 0x80000001) != 0) {
+            return;  // Highest and lowest bit: index only 1 node in 4
+        }
+        int level = 1;
+        while (((random >>>= 1) & 1) != 0) {
+            level++;
+        }
+        int key = z.key;
+        Index index = null;
+        HeadIndex h = head;
+        int max = h.level;
+        if (level <= max) {
+            for (int i = 1; i <= level; i++) {
+                index = new Index(z, index, null);
+            }
+        } else {
+            // Taller than the list: grow the head by one level
+            level = max + 1;
+            Index[] indexes = new Index[level + 1];
+            for (int i = 1; i <= level; i++) {
+                indexes[i] = index = new Index(z, index, null);
+            }
+            while (true) {
+                h = head;
+                int oldLevel = h.level;
+                if (level <= oldLevel) {
+                    break;  // Another thread grew it
+                }
+                HeadIndex newHead = h;
+                Node base = h.node;
+                for (int j = oldLevel + 1; j <= level; j++) {
+                    newHead = new HeadIndex(base, newHead, indexes[j], j);
+                }
+                if (HEAD.compareAndSet(this, h, newHead)) {
+                    h = newHead;
+                    index = indexes[level = oldLevel];  // The new top level is already linked
+                    break;
+                }
+            }
+        }
+
+        // Link the tower in, top level first
+        splice:
+        for (int insertionLevel = level; ; ) {
+            int j = h.level;
+            for (Index q = h, r = q.right, t = index; ; ) {
+                if (q == null || t == null) {
+                    break splice;
+                }
+                if (r != null) {
+                    Node n = r.node;
+                    if (n.value == null) {
+                        if (!q.unlink(r)) {
+                            break;
+                        }
+                        r = q.right;
+                        continue;
+                    }
+                    if (key > n.key) {
+                        q = r;
+                        r = r.right;
+                        continue;
+                    }
+                }
+                if (j == insertionLevel) {
+                    if (!q.link(r, t)) {
+                        break;  // Restart this level
+                    }
+                    if (t.node.value == null) {
+                        findNode(key);  // Deleted meanwhile: clean up and stop
+                        break splice;
+                    }
+                    if (--insertionLevel == 0) {
+                        break splice;
+                    }
+                }
+                if (--j >= insertionLevel && j < level) {
+                    t = t.down;
+                }
+                q = q.down;
+                r = q.right;
+            }
+        }
+    }
+}
@@ -576,6 +576,9 @@ public class Main {
  *    
  *    TIME: O(1) average per next() call
  *    SPACE: O(h) for the stack
+ *    
+ *    RUNNABLE VERSION: TreeTraversals.inorder(root) (a PrimitiveIterator.OfInt,
+ *    also used by Tree.iterator() and Tree.stream())
  * 
  * ============================================================================
  * 
@@ -0,0 +1,324 @@
+package com.company.binarysearchtree;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * PERSISTENT TREE - An Immutable BST Where Every Version Stays Valid
+ * ==================================================================
+ *
+ * Tree changes its nodes in place, so a reader walking it while a writer
+ * inserts may see half an update - readers need a lock or a full copy.
+ *
+ * A PERSISTENT tree never changes a node. insert and delete return a NEW
+ * tree and leave the old one untouched. Only the nodes on the path from
+ * the root to the change are copied (PATH COPYING); everything else is
+ * shared between the old and the new version:
+ *
+ *   old root → [25]                 [25]' ← new root after insert(28)
+ *             /    \               /    \
+ *          [20]    [30]   shared  /    [30]'
+ *          /  \    /  \   ←──────┘     /   \
+ *       [15] [22][27] [35]          [27]'  [35]  ← shared
+ *                                      \
+ *                                      [28]
+ *
+ * An insert copies ~log2(n) nodes (20 for a million keys), and whoever
+ * still holds the old root keeps a consistent SNAPSHOT for free: it can
+ * never change. Old versions are garbage collected once nobody holds them.
+ *
+ * Balanced like AVLTree (rotations also build new nodes instead of moving
+ * old ones), so the height stays below 1.44 log2(n) for any insert order
+ * and the recursive insert/delete stay shallow. Each node also stores its
+ * subtree size: size() is O(1) and rank() O(log n).
+ *
+ * All methods are thread-safe because nothing ever changes. To share a
+ * CURRENT version between threads, see SnapshotTree (an atomic root).
+ */
+public final class PersistentTree {
+
+    /** AVL height stays below 1.44 log2(n + 2); 2^31 keys fit in 45 levels. */
+    private static final int MAX_HEIGHT = 48;
+
+    private static final PersistentTree EMPTY = new PersistentTree(null);
+
+    private static final class Node {
+        final int key;
+        final Node left;
+        final Node right;
+        final int height;
+        final int size;
+
+        Node(int key, Node left, Node right) {
+            this.key = key;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private final Node root;
+
+    private PersistentTree(Node root) {
+        this.root = root;
+    }
+
+    public static PersistentTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a balanced tree from sorted keys.
+     *
+     * Time Complexity: O(n)
+     *
+     * @param sorted keys in strictly ascending order
+     * @throws IllegalArgumentException if the keys are not strictly ascending
+     */
+    public static PersistentTree fromSorted(int[] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] >= sorted[i]) {
+                throw new IllegalArgumentException("Keys must be strictly ascending at index " + i);
+            }
+        }
+        return sorted.length == 0 ? EMPTY : new PersistentTree(build(sorted, 0, sorted.length - 1));
+    }
+
+    private static Node build(int[] sorted, int from, int to) {
+        if (from > to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node(sorted[middle], build(sorted, from, middle - 1), build(sorted, middle + 1, to));
+    }
+
+    /**
+     * Time Complexity: O(log n) - copies the path to the new node
+     *
+     * @return a tree that also contains value; this tree if it already did
+     */
+    public PersistentTree insert(int value) {
+        Node newRoot = insert(root, value);
+        return newRoot == root ? this : new PersistentTree(newRoot);
+    }
+
+    /**
+     * Time Complexity: O(log n)
+     *
+     * @return a tree without value; this tree if it did not contain it
+     */
+    public PersistentTree delete(int value) {
+        Node newRoot = delete(root, value);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? EMPTY : new PersistentTree(newRoot);
+    }
+
+    /**
+     * Time Complexity: O(log n)
+     */
+    public boolean contains(int value) {
+        Node node = root;
+        while (node != null) {
+            if (value == node.key) {
+                return true;
+            }
+            node = value < node.key ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public int min() {
+        if (root == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        Node node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.key;
+    }
+
+    /**
+     * @throws NoSuchElementException if the tree is empty
+     */
+    public int max() {
+        if (root == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        Node node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    /**
+     * Number of keys smaller than value.
+     *
+     * Time Complexity: O(log n)
+     */
+    public int rank(int value) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            if (value < node.key) {
+                node = node.left;
+            } else if (value > node.key) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return rank;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * @return the keys in ascending order
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final Node[] stack = new Node[MAX_HEIGHT];
+            private int top = pushLeft(root, 0);
+
+            private int pushLeft(Node node, int top) {
+                while (node != null) {
+                    stack[top++] = node;
+                    node = node.left;
+                }
+                return top;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return top > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (top == 0) {
+                    throw new NoSuchElementException();
+                }
+                Node node = stack[--top];
+                top = pushLeft(node.right, top);
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Calls action with every key in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        PrimitiveIterator.OfInt keys = iterator();
+        while (keys.hasNext()) {
+            action.accept(keys.nextInt());
+        }
+    }
+
+    // ========================================================================
+    // PATH COPYING
+    // ========================================================================
+
+    /** @return the new subtree, or node itself if value was already there */
+    private static Node insert(Node node, int value) {
+        if (node == null) {
+            return new Node(value, null, null);
+        }
+        if (value < node.key) {
+            Node left = insert(node.left, value);
+            return left == node.left ? node : balance(node.key, left, node.right);
+        }
+        if (value > node.key) {
+            Node right = insert(node.right, value);
+            return right == node.right ? node : balance(node.key, node.left, right);
+        }
+        return node;
+    }
+
+    /** @return the new subtree, or node itself if value was not there */
+    private static Node delete(Node node, int value) {
+        if (node == null) {
+            return null;
+        }
+        if (value < node.key) {
+            Node left = delete(node.left, value);
+            return left == node.left ? node : balance(node.key, left, node.right);
+        }
+        if (value > node.key) {
+            Node right = delete(node.right, value);
+            return right == node.right ? node : balance(node.key, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        // Two children: the successor (smallest key on the right) takes this place
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, node.left, deleteMin(node.right));
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, deleteMin(node.left), node.right);
+    }
+
+    /**
+     * Builds the node (key, left, right), rotating if the subtree heights
+     * differ by 2. Rotations create new nodes; left and right are shared.
+     */
+    private static Node balance(int key, Node left, Node right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) >= height(left.right)) {
+                // Left-left: rotate right
+                return new Node(left.key, left.left, new Node(key, left.right, right));
+            }
+            // Left-right: left.right becomes the root of this subtree
+            Node middle = left.right;
+            return new Node(middle.key,
+                    new Node(left.key, left.left, middle.left),
+                    new Node(key, middle.right, right));
+        }
+        if (difference < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(right.key, new Node(key, left, right.left), right.right);
+            }
+            Node middle = right.left;
+            return new Node(middle.key,
+                    new Node(key, left, middle.left),
+                    new Node(right.key, middle.right, right.right));
+        }
+        return new Node(key, left, right);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,193 @@
+package com.company.binarysearchtree;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SKIP LIST BENCHMARK - 90% Reads / 10% Writes, 1 to 64 Threads
+ * ==============================================================
+ *
+ * The index is prefilled with N keys (default 1M) out of a key space of
+ * 2N. Every thread then loops for DURATION: 90% get, 5% insert,
+ * 5% delete of uniformly random keys (so the size stays about the same).
+ *
+ * - LockFreeSkipList        : this package, primitive int keys
+ * - ConcurrentSkipListMap   : the JDK's, Integer keys (pre-boxed, so
+ *                             boxing is not measured)
+ * - synchronized AVLTree    : one lock around a balanced tree - what
+ *                             "make Tree thread-safe" looks like
+ *
+ * Results in million operations per second, all threads together. With
+ * enough cores the two skip lists scale with the thread count and the
+ * locked tree does not; beyond the core count, threads only take turns.
+ *
+ * Each structure gets one warmup pass, then one timed run per thread
+ * count.
+ *
+ * HOW TO RUN:
+ *   java com.company.binarysearchtree.SkipListBenchmark [n] [millisPerRun]
+ */
+public class SkipListBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    private static final Integer VALUE = 1;
+
+    private static volatile boolean running;
+    private static volatile long sink;
+
+    /** The three structures behind one face. */
+    private interface Index {
+        boolean get(int key);
+
+        void insert(int key);
+
+        void delete(int key);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int millis = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        Integer[] boxed = new Integer[2 * n];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = i;
+        }
+
+        System.out.printf("%,d keys, 90%% get / 5%% insert / 5%% delete, %d cores%n",
+                n, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-8s %20s %24s %24s%n", "threads",
+                "LockFreeSkipList", "ConcurrentSkipListMap", "synchronized AVLTree");
+        double[][] results = new double[3][THREADS.length];
+        for (int structure = 0; structure < 3; structure++) {
+            Index index = create(structure, n, boxed);
+            run(index, 2 * n, 1, millis);  // Warmup
+            for (int t = 0; t < THREADS.length; t++) {
+                results[structure][t] = run(index, 2 * n, THREADS[t], millis);
+            }
+        }
+        for (int t = 0; t < THREADS.length; t++) {
+            System.out.printf("%-8d %20.2f %24.2f %24.2f%n", THREADS[t],
+                    results[0][t], results[1][t], results[2][t]);
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * @param structure 0 = LockFreeSkipList, 1 = ConcurrentSkipListMap, 2 = synchronized AVLTree
+     * @return a structure holding every even key below 2n
+     */
+    private static Index create(int structure, int n, Integer[] boxed) {
+        if (structure == 0) {
+            LockFreeSkipList<Integer> list = new LockFreeSkipList<>();
+            for (int i = 0; i < n; i++) {
+                list.insert(2 * i, VALUE);
+            }
+            return new Index() {
+                public boolean get(int key) {
+                    return list.get(key) != null;
+                }
+
+                public void insert(int key) {
+                    list.insert(key, VALUE);
+                }
+
+                public void delete(int key) {
+                    list.delete(key);
+                }
+            };
+        }
+        if (structure == 1) {
+            ConcurrentSkipListMap<Integer, Integer> map = new ConcurrentSkipListMap<>();
+            for (int i = 0; i < n; i++) {
+                map.put(boxed[2 * i], VALUE);
+            }
+            return new Index() {
+                public boolean get(int key) {
+                    return map.get(boxed[key]) != null;
+                }
+
+                public void insert(int key) {
+                    map.put(boxed[key], VALUE);
+                }
+
+                public void delete(int key) {
+                    map.remove(boxed[key]);
+                }
+            };
+        }
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = 2 * i;
+        }
+        AVLTree tree = AVLTree.fromSorted(keys);
+        return new Index() {
+            public synchronized boolean get(int key) {
+                return tree.contains(key);
+            }
+
+            public synchronized void insert(int key) {
+                tree.insert(key);
+            }
+
+            public synchronized void delete(int key) {
+                tree.delete(key);
+            }
+        };
+    }
+
+    /**
+     * @return million operations per second over all threads
+     */
+    private static double run(Index index, int keySpace, int threads, int millis) throws InterruptedException {
+        long[] counts = new long[threads];
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long ops = 0;
+                long hits = 0;
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (running) {
+                    for (int i = 0; i < 100; i++) {  // Check the flag every 100 operations
+                        int key = random.nextInt(keySpace);
+                        int dice = random.nextInt(100);
+                        if (dice < 90) {
+                            hits += index.get(key) ? 1 : 0;
+                        } else if (dice < 95) {
+                            index.insert(key);
+                        } else {
+                            index.delete(key);
+                        }
+                    }
+                    ops += 100;
+                }
+                counts[id] = ops;
+                sink = hits;  // Keeps the gets from being optimized away
+            });
+            workers[t].start();
+        }
+        ready.await();
+        running = true;
+        long start = System.nanoTime();
+        go.countDown();
+        Thread.sleep(millis);
+        running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total / seconds / 1e6;
+    }
+}
@@ -0,0 +1,229 @@
+package com.company.binarysearchtree;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SNAPSHOT BENCHMARK - Reporting Readers Next to a Busy Writer
+ * ============================================================
+ *
+ * The index is prefilled with N keys (default 1M, random order) out of a
+ * key space of 2N. One writer thread loops 50% insert / 50% delete of
+ * random keys while R reader threads (1, 2, 4, 8) run reports. Every
+ * report first takes a consistent view of the index, then either
+ *
+ * - scan  : sums every key of the view, or
+ * - probe : looks up 1000 random keys in the view.
+ *
+ * Two ways to get the view:
+ *
+ * - SnapshotTree        : snapshot() - one volatile read, nothing copied
+ * - Tree copy-on-read   : lock, copy the keys out (stream().toArray()),
+ *                         unlock, report on the sorted copy (binary
+ *                         search for probes). The writer takes the same
+ *                         lock, so it stalls during every copy.
+ *
+ * Reported: reports per second (all readers together) and thousand writes
+ * per second. Copy-on-read pays O(n) per report even when the report
+ * itself touches 1000 keys; the snapshot pays nothing and never blocks the
+ * writer. With fewer cores than threads, threads also take turns.
+ *
+ * Each strategy gets one warmup run, then one timed run per setting.
+ *
+ * HOW TO RUN:
+ *   java -Xmx2g com.company.binarysearchtree.SnapshotBenchmark [n] [millisPerRun]
+ */
+public class SnapshotBenchmark {
+
+    private static final int[] READERS = {1, 2, 4, 8};
+    private static final int PROBES = 1000;
+
+    private static volatile boolean running;
+    private static volatile long sink;
+
+    /** Both strategies behind one face. */
+    private interface Index {
+        void insert(int key);
+
+        void delete(int key);
+
+        /** Takes a view, then sums all keys (scan) or counts PROBES random hits. */
+        long report(boolean scan, ThreadLocalRandom random, int keySpace);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int millis = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = 2 * i;
+        }
+        Random random = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+
+        System.out.printf("%,d keys, 1 writer (50%% insert / 50%% delete), %d cores%n",
+                n, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-7s %-8s %18s %16s %22s %16s%n", "report", "readers",
+                "snapshot reports/s", "K writes/s", "copy-on-read reports/s", "K writes/s");
+        for (boolean scan : new boolean[] {true, false}) {
+            double[][] results = new double[2][];
+            for (int strategy = 0; strategy < 2; strategy++) {
+                Index index = create(strategy, keys);
+                run(index, scan, 2 * n, 1, millis / 2);  // Warmup
+                results[strategy] = new double[READERS.length * 2];
+                for (int r = 0; r < READERS.length; r++) {
+                    double[] result = run(index, scan, 2 * n, READERS[r], millis);
+                    results[strategy][2 * r] = result[0];
+                    results[strategy][2 * r + 1] = result[1];
+                }
+            }
+            for (int r = 0; r < READERS.length; r++) {
+                System.out.printf("%-7s %-8d %18.1f %16.1f %22.1f %16.1f%n", scan ? "scan" : "probe", READERS[r],
+                        results[0][2 * r], results[0][2 * r + 1], results[1][2 * r], results[1][2 * r + 1]);
+            }
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * @param strategy 0 = SnapshotTree, 1 = Tree with copy-on-read
+     */
+    private static Index create(int strategy, int[] keys) {
+        if (strategy == 0) {
+            int[] sorted = keys.clone();
+            Arrays.sort(sorted);
+            SnapshotTree tree = new SnapshotTree(PersistentTree.fromSorted(sorted));
+            return new Index() {
+                public void insert(int key) {
+                    tree.insert(key);
+                }
+
+                public void delete(int key) {
+                    tree.delete(key);
+                }
+
+                public long report(boolean scan, ThreadLocalRandom random, int keySpace) {
+                    PersistentTree view = tree.snapshot();
+                    long result = 0;
+                    if (scan) {
+                        PrimitiveIterator.OfInt values = view.iterator();
+                        while (values.hasNext()) {
+                            result += values.nextInt();
+                        }
+                    } else {
+                        for (int i = 0; i < PROBES; i++) {
+                            result += view.contains(random.nextInt(keySpace)) ? 1 : 0;
+                        }
+                    }
+                    return result;
+                }
+            };
+        }
+        Tree tree = new Tree();
+        for (int key : keys) {
+            tree.insert(key);  // Random order keeps the unbalanced tree shallow
+        }
+        Object lock = new Object();
+        return new Index() {
+            public void insert(int key) {
+                synchronized (lock) {
+                    tree.insert(key);
+                }
+            }
+
+            public void delete(int key) {
+                synchronized (lock) {
+                    tree.delete(key);
+                }
+            }
+
+            public long report(boolean scan, ThreadLocalRandom random, int keySpace) {
+                int[] view;
+                synchronized (lock) {
+                    view = tree.stream().toArray();
+                }
+                long result = 0;
+                if (scan) {
+                    for (int value : view) {
+                        result += value;
+                    }
+                } else {
+                    for (int i = 0; i < PROBES; i++) {
+                        result += Arrays.binarySearch(view, random.nextInt(keySpace)) >= 0 ? 1 : 0;
+                    }
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * @return {reports per second over all readers, thousand writes per second}
+     */
+    private static double[] run(Index index, boolean scan, int keySpace, int readers, int millis)
+            throws InterruptedException {
+        long[] counts = new long[readers + 1];
+        CountDownLatch ready = new CountDownLatch(readers + 1);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[readers + 1];
+        for (int t = 0; t <= readers; t++) {
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long ops = 0;
+                long checksum = 0;
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (id == 0) {
+                    // Writer: check the flag every 100 writes
+                    while (running) {
+                        for (int i = 0; i < 100; i++) {
+                            int key = random.nextInt(keySpace);
+                            if (random.nextBoolean()) {
+                                index.insert(key);
+                            } else {
+                                index.delete(key);
+                            }
+                        }
+                        ops += 100;
+                    }
+                } else {
+                    while (running) {
+                        checksum += index.report(scan, random, keySpace);
+                        ops++;
+                    }
+                }
+                counts[id] = ops;
+                sink = checksum;  // Keeps the reports from being optimized away
+            });
+            workers[t].start();
+        }
+        ready.await();
+        running = true;
+        long start = System.nanoTime();
+        go.countDown();
+        Thread.sleep(millis);
+        running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long reports = 0;
+        for (int t = 1; t <= readers; t++) {
+            reports += counts[t];
+        }
+        return new double[] {reports / seconds, counts[0] / seconds / 1e3};
+    }
+}
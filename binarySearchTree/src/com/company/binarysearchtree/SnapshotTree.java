@@ -0,0 +1,93 @@
+package com.company.binarysearchtree;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SNAPSHOT TREE - One Current PersistentTree, Shared Between Threads
+ * ==================================================================
+ *
+ * Holds the current version of a PersistentTree in an AtomicReference.
+ *
+ *   READERS call snapshot() - one volatile read, no lock, no copy - and
+ *   keep a version that never changes, however long the report runs:
+ *
+ *       PersistentTree view = index.snapshot();
+ *       view.forEach(...);        // consistent, writers are not blocked
+ *
+ *   WRITERS build the next version from the current one by path copying
+ *   and publish it with compareAndSet. If another writer published first,
+ *   the CAS fails and the update is retried on the newer version, so no
+ *   update is lost and writers never block each other:
+ *
+ *       current ──insert(42)──→ next
+ *          │                      │
+ *          └── CAS(root: current → next) ── failed? reload and retry
+ *
+ * A retry only redoes the O(log n) path copy. Under heavy write contention
+ * writers waste that work; a lock around the writers (readers still free)
+ * would then be cheaper.
+ */
+public class SnapshotTree {
+
+    private final AtomicReference<PersistentTree> root;
+
+    public SnapshotTree() {
+        this(PersistentTree.empty());
+    }
+
+    public SnapshotTree(PersistentTree initial) {
+        root = new AtomicReference<>(initial);
+    }
+
+    /**
+     * The current version. It stays valid and unchanged forever.
+     *
+     * Time Complexity: O(1)
+     */
+    public PersistentTree snapshot() {
+        return root.get();
+    }
+
+    /**
+     * @return true if value was added, false if it was already there
+     */
+    public boolean insert(int value) {
+        while (true) {
+            PersistentTree current = root.get();
+            PersistentTree next = current.insert(value);
+            if (next == current) {
+                return false;
+            }
+            if (root.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return true if value was removed, false if it was not there
+     */
+    public boolean delete(int value) {
+        while (true) {
+            PersistentTree current = root.get();
+            PersistentTree next = current.delete(value);
+            if (next == current) {
+                return false;
+            }
+            if (root.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Looks value up in the current version.
+     */
+    public boolean contains(int value) {
+        return root.get().contains(value);
+    }
+
+    public int size() {
+        return root.get().size();
+    }
+}
@@ -1,5 +1,9 @@
 package com.company.binarysearchtree;
 
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * 🌲 BINARY SEARCH TREE (BST) - A Smart Data Structure for Organizing Data
  * ===========================================================================
@@ -188,12 +192,11 @@ public class Tree {
      * Result: Values printed from smallest to largest
      * 
      * TIME COMPLEXITY: O(n) - visits every node once
-     * SPACE COMPLEXITY: O(h) - recursion depth
+     * SPACE COMPLEXITY: O(h) - an explicit stack, so deep trees can't
+     *   overflow the call stack (see TreeTraversals)
      */
     public void InorderTraversal() {
-        if (root!=null) {
-            root.InorderTraversal();
-        }
+        print(TreeTraversals.inorder(root));
     }
     
     /**
@@ -206,9 +209,7 @@ public class Tree {
      * SPACE COMPLEXITY: O(h)
      */
     public void PreOrderTraversal() {
-        if (root!=null) {
-            root.PreOrderTraveral();
-        }
+        print(TreeTraversals.preorder(root));
     }
 
     /**
@@ -221,11 +222,35 @@ public class Tree {
      * SPACE COMPLEXITY: O(h)
      */
     public void PostOrderTraversal() {
-        if (root!=null) {
-            root.PostOrderTraveral();
+        print(TreeTraversals.postorder(root));
+    }
+
+    private static void print(PrimitiveIterator.OfInt values) {
+        while (values.hasNext()) {
+            System.out.print(values.nextInt()+",");
         }
     }
 
+    /**
+     * 🔁 ITERATOR - The values in sorted order, one at a time
+     *
+     * Lazy and iterative (no recursion), so it works for any depth.
+     * Don't modify the tree while iterating.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return TreeTraversals.inorder(root);
+    }
+
+    /**
+     * 🌊 STREAM - The values in sorted order as an IntStream
+     *
+     * intTree.stream().parallel() splits the tree into subtrees, one per
+     * worker thread.
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeTraversals.inorderSpliterator(root), false);
+    }
+
     /**
      * 🔽 MIN METHOD - Find the smallest value in the tree
      * 
@@ -384,7 +409,7 @@ public class Tree {
         }
 
         // Value is larger → search RIGHT subtree
-        if (value > subTreeroot.getData()) {
+        else if (value > subTreeroot.getData()) {
             subTreeroot.setRightChild(delete(subTreeroot.getRightChild(), value));
         }
         
@@ -506,9 +531,10 @@ public class Tree {
  * 
  * NOT IDEAL FOR:
  * ❌ Random access by index (use array instead)
- * ❌ Data arrives in sorted order (use balanced tree instead)
- * ❌ Memory-constrained environments (extra pointers use space)
+ * ❌ Data arrives in sorted order (use a balanced tree instead - see AVLTree)
+ * ❌ Memory-constrained environments (extra pointers use space - see BPlusTree)
  * ❌ Simple FIFO/LIFO operations (use queue/stack instead)
+ * ❌ Readers and writers at the same time (nodes change in place - see SnapshotTree)
  * 
  * REAL-WORLD APPLICATIONS:
  * 🗂️ Database indexing (B-Trees are specialized BSTs)
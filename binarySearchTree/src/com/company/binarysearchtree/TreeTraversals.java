@@ -0,0 +1,371 @@
+package com.company.binarysearchtree;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * ITERATIVE TRAVERSALS - Tree Walks Without Recursion (or Without a Stack)
+ * ========================================================================
+ *
+ * TreeNode.InorderTraversal() and friends recurse once per level: a tree
+ * built from sorted IDs is one long path, and a few thousand levels
+ * overflow the call stack. They also only PRINT - nothing else can consume
+ * the values.
+ *
+ * Here every traversal is a loop over an explicit stack (a TreeNode[] that
+ * grows on the heap, so depth is limited by memory, not by -Xss) and hands
+ * the values out one by one:
+ *
+ *   inorder / preorder / postorder   PrimitiveIterator.OfInt, lazy - the
+ *                                    BSTIterator sketched in Main, without
+ *                                    java.util.Stack or boxing
+ *   inorderSpliterator               Spliterator.OfInt, so a tree can feed
+ *                                    an IntStream, also a parallel one
+ *   morrisInorder / morrisPreorder   O(1) extra space, see below
+ *
+ * BALANCED SPLITS: the inorder stack of a fresh spliterator holds the root
+ * and its chain of left children. trySplit hands off everything above the
+ * root - the whole left subtree - and keeps the root plus its right
+ * subtree: about half each in a balanced tree. A spliterator left with one
+ * node n splits at n's right child r: the prefix emits n and r's left
+ * subtree (it stops at r's value, a FENCE), the rest is r plus r's right
+ * subtree.
+ *
+ * MORRIS TRAVERSAL - no stack at all: before going left, the current node
+ * is remembered in the right pointer of its in-order predecessor (the
+ * rightmost node of its left subtree, whose right pointer is null). On
+ * returning along that thread the pointer is set back to null:
+ *
+ *       [20]                      [20]
+ *      /    \       thread       /  ▲ \
+ *    [10]   [30]     ───→      [10]  │ [30]
+ *       \                         \  │
+ *       [15]                      [15]   15.right = 20 while in the left subtree
+ *
+ * The tree is modified DURING the walk, so Morris is offered as a complete
+ * forEach, not as an iterator: an iterator abandoned half-way would leave
+ * the threads in place. If the action throws, the walk finishes restoring
+ * the tree before the exception is rethrown.
+ *
+ * The tree must not be modified while a traversal is running.
+ */
+public class TreeTraversals {
+
+    private static final int INITIAL_STACK = 16;
+
+    private TreeTraversals() {
+    }
+
+    /**
+     * Values in ascending order (Left → Node → Right).
+     *
+     * Time Complexity: O(1) amortized per value; O(h) extra space
+     */
+    public static PrimitiveIterator.OfInt inorder(TreeNode root) {
+        return new InorderSpliterator(root);
+    }
+
+    /**
+     * Node → Left → Right.
+     *
+     * Time Complexity: O(1) per value; O(h) extra space
+     */
+    public static PrimitiveIterator.OfInt preorder(TreeNode root) {
+        return new PreorderIterator(root);
+    }
+
+    /**
+     * Left → Right → Node.
+     *
+     * Time Complexity: O(1) amortized per value; O(h) extra space
+     */
+    public static PrimitiveIterator.OfInt postorder(TreeNode root) {
+        return new PostorderIterator(root);
+    }
+
+    /**
+     * Values in ascending order, splittable for parallel streams:
+     * {@code StreamSupport.intStream(inorderSpliterator(root), true)}.
+     */
+    public static Spliterator.OfInt inorderSpliterator(TreeNode root) {
+        return new InorderSpliterator(root);
+    }
+
+    /**
+     * Calls action with every value in ascending order, using O(1) extra
+     * space. The tree is temporarily rewired and restored by the end.
+     *
+     * Time Complexity: O(n) - every edge is walked at most three times
+     */
+    public static void morrisInorder(TreeNode root, IntConsumer action) {
+        morris(root, action, false);
+    }
+
+    /**
+     * Calls action with every value in preorder (Node → Left → Right),
+     * using O(1) extra space.
+     *
+     * Time Complexity: O(n)
+     */
+    public static void morrisPreorder(TreeNode root, IntConsumer action) {
+        morris(root, action, true);
+    }
+
+    private static void morris(TreeNode root, IntConsumer action, boolean preorder) {
+        RuntimeException failure = null;
+        TreeNode current = root;
+        while (current != null) {
+            TreeNode left = current.getLeftChild();
+            if (left == null) {
+                failure = visit(action, current.getData(), failure);
+                current = current.getRightChild();
+                continue;
+            }
+            TreeNode predecessor = left;
+            while (predecessor.getRightChild() != null && predecessor.getRightChild() != current) {
+                predecessor = predecessor.getRightChild();
+            }
+            if (predecessor.getRightChild() == null) {
+                // First time here: thread the way back, then go left
+                if (preorder) {
+                    failure = visit(action, current.getData(), failure);
+                }
+                predecessor.setRightChild(current);
+                current = left;
+            } else {
+                // Back along the thread: the left subtree is done
+                predecessor.setRightChild(null);
+                if (!preorder) {
+                    failure = visit(action, current.getData(), failure);
+                }
+                current = current.getRightChild();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /** Runs the action unless it already failed; the walk goes on either way to undo the threads. */
+    private static RuntimeException visit(IntConsumer action, int value, RuntimeException failure) {
+        if (failure != null) {
+            return failure;
+        }
+        try {
+            action.accept(value);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    /** A growable stack of nodes. */
+    private abstract static class NodeStack {
+        TreeNode[] stack;
+        int top;
+
+        NodeStack(int capacity) {
+            stack = new TreeNode[capacity];
+        }
+
+        void push(TreeNode node) {
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, top * 2);
+            }
+            stack[top++] = node;
+        }
+
+        TreeNode pop() {
+            TreeNode node = stack[--top];
+            stack[top] = null;
+            return node;
+        }
+    }
+
+    /**
+     * In-order iterator and spliterator. The stack holds the pending nodes,
+     * next one on top; each is followed by its right subtree. Values at or
+     * above the fence belong to another spliterator.
+     */
+    private static final class InorderSpliterator extends NodeStack
+            implements PrimitiveIterator.OfInt, Spliterator.OfInt {
+        private final boolean fenced;
+        private final int fence;
+        private long estimate;
+
+        InorderSpliterator(TreeNode root) {
+            super(INITIAL_STACK);
+            fenced = false;
+            fence = 0;
+            estimate = Long.MAX_VALUE;  // Tree does not track its size
+            pushLeft(root);
+        }
+
+        private InorderSpliterator(TreeNode[] stack, int top, int fence, long estimate) {
+            super(Math.max(INITIAL_STACK, top));
+            System.arraycopy(stack, 0, this.stack, 0, top);
+            this.top = top;
+            this.fenced = true;
+            this.fence = fence;
+            this.estimate = estimate;
+        }
+
+        private void pushLeft(TreeNode node) {
+            while (node != null) {
+                push(node);
+                node = node.getLeftChild();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0 && (!fenced || stack[top - 1].getData() < fence);
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TreeNode node = pop();
+            pushLeft(node.getRightChild());
+            return node.getData();
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (!hasNext()) {
+                return false;
+            }
+            action.accept(nextInt());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (hasNext()) {
+                action.accept(nextInt());
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Integer> action) {
+            Spliterator.OfInt.super.forEachRemaining(action);  // Both interfaces have a default
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (!hasNext()) {
+                return null;
+            }
+            TreeNode bottom = stack[0];  // Last pending node: it and its right subtree come last
+            InorderSpliterator prefix;
+            if (top > 1) {
+                // Prefix: every pending node above bottom (with their right subtrees)
+                prefix = new InorderSpliterator(Arrays.copyOfRange(stack, 1, top), top - 1,
+                        bottom.getData(), estimate >>> 1);
+                Arrays.fill(stack, 1, top, null);
+                top = 1;
+            } else {
+                // One node n left: prefix = n + left subtree of r = n.right; keep r on
+                TreeNode right = bottom.getRightChild();
+                if (right == null || (fenced && right.getData() >= fence)) {
+                    return null;
+                }
+                prefix = new InorderSpliterator(new TreeNode[] {bottom}, 1, right.getData(), estimate >>> 1);
+                stack[0] = right;
+            }
+            estimate >>>= 1;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | NONNULL;
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return null;  // Natural order
+        }
+    }
+
+    private static final class PreorderIterator extends NodeStack implements PrimitiveIterator.OfInt {
+        PreorderIterator(TreeNode root) {
+            super(INITIAL_STACK);
+            if (root != null) {
+                push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (top == 0) {
+                throw new NoSuchElementException();
+            }
+            TreeNode node = pop();
+            if (node.getRightChild() != null) {
+                push(node.getRightChild());  // Pushed first, visited after the left subtree
+            }
+            if (node.getLeftChild() != null) {
+                push(node.getLeftChild());
+            }
+            return node.getData();
+        }
+    }
+
+    /**
+     * The stack holds a path from the root; its top is always the next node
+     * to visit. Whenever a left child is visited, its parent's right subtree
+     * is descended into next, so it comes before the parent.
+     */
+    private static final class PostorderIterator extends NodeStack implements PrimitiveIterator.OfInt {
+        PostorderIterator(TreeNode root) {
+            super(INITIAL_STACK);
+            descend(root);
+        }
+
+        /** Pushes node and keeps going left - or right where there is no left. */
+        private void descend(TreeNode node) {
+            while (node != null) {
+                push(node);
+                node = node.getLeftChild() != null ? node.getLeftChild() : node.getRightChild();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (top == 0) {
+                throw new NoSuchElementException();
+            }
+            TreeNode node = pop();
+            if (top > 0) {
+                TreeNode parent = stack[top - 1];
+                if (parent.getLeftChild() == node && parent.getRightChild() != null) {
+                    descend(parent.getRightChild());  // Left subtree done: the right one comes before parent
+                }
+            }
+            return node.getData();
+        }
+    }
+}
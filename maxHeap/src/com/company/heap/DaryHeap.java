@@ -0,0 +1,243 @@
+package com.company.heap;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * D-ARY HEAP (GENERIC, GROWABLE)
+ * ==============================
+ *
+ * The Heap class is a BINARY max heap of ints with a fixed capacity. This
+ * one keeps the same array idea but removes three limits:
+ *
+ * 1. ANY TYPE: elements are ordered by a Comparator (or their natural order).
+ *    The element that comes FIRST in that order is on top - like
+ *    java.util.PriorityQueue. For a max heap pass Comparator.reverseOrder().
+ *
+ * 2. GROWS ON DEMAND: no capacity to pick up front, no "Heap is full".
+ *
+ * 3. D CHILDREN PER NODE (the "arity"): with d = 4 or 8 the tree is much
+ *    flatter, so a value moves through fewer levels.
+ *
+ * INDEX RELATIONSHIPS (d children per node):
+ * Parent of node at index i: (i-1)/d
+ * Children of node at index i: d*i+1 ... d*i+d
+ *
+ *   d = 2:              d = 4:
+ *         0                     0
+ *       /   \            /   /     \    \
+ *      1     2          1   2       3    4
+ *     / \   / \        /|\\
+ *    3  4  5   6      5 6 7 8 ...
+ *
+ * WHY A WIDER HEAP CAN BE FASTER:
+ * - Height is log_d(n) instead of log_2(n): 4-ary = half the levels
+ * - The d children of a node sit NEXT TO EACH OTHER in the array, so
+ *   finding the best child reads one or two cache lines. Fewer levels means
+ *   fewer cache misses - what dominates once the heap outgrows the cache.
+ * - The price: pop() compares d children per level instead of 2.
+ *   push() only compares with the parent, so it gets strictly cheaper.
+ *
+ * TIME COMPLEXITY:
+ * - push: O(log_d n)
+ * - pop: O(d log_d n)
+ * - peek: O(1)
+ *
+ * See LongDaryHeap / DoubleDaryHeap for primitive versions without boxing,
+ * and DaryHeapBenchmark for measurements against PriorityQueue.
+ *
+ * @param <T> the element type
+ */
+public class DaryHeap<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+    private final Comparator<? super T> comparator;
+    private Object[] heap;
+    private int size;
+
+    /**
+     * Creates a heap ordered by the elements' natural order (smallest on top).
+     *
+     * @param arity number of children per node (at least 2)
+     */
+    public DaryHeap(int arity) {
+        this(arity, DEFAULT_CAPACITY, null);
+    }
+
+    /**
+     * @param arity number of children per node (at least 2)
+     * @param comparator decides which element is on top (first in order);
+     *                   null means natural order
+     */
+    public DaryHeap(int arity, Comparator<? super T> comparator) {
+        this(arity, DEFAULT_CAPACITY, comparator);
+    }
+
+    /**
+     * @param arity number of children per node (at least 2)
+     * @param initialCapacity elements to make room for up front
+     * @param comparator decides which element is on top; null means natural order
+     * @throws IllegalArgumentException if arity is below 2 or initialCapacity is negative
+     */
+    public DaryHeap(int arity, int initialCapacity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.heap = new Object[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Adds an element, growing the array if it is full.
+     *
+     * Time Complexity: O(log_d n), amortized over the occasional grow
+     *
+     * @throws NullPointerException if value is null
+     */
+    public void push(T value) {
+        if (value == null) {
+            throw new NullPointerException("Heap elements cannot be null");
+        }
+        if (size == heap.length) {
+            grow();
+        }
+        siftUp(size, value);
+        size++;
+    }
+
+    /**
+     * @return the top element without removing it
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Heap is Empty");
+        }
+        return (T) heap[0];
+    }
+
+    /**
+     * Removes and returns the top element.
+     *
+     * The last element is taken out and "dropped" into the hole at the root,
+     * sinking down to where it belongs (see siftDown).
+     *
+     * Time Complexity: O(d log_d n)
+     *
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Heap is Empty");
+        }
+        T top = (T) heap[0];
+        int last = --size;
+        T moved = (T) heap[last];
+        heap[last] = null;  // Let the GC reclaim it
+        if (last > 0) {
+            siftDown(0, moved);
+        }
+        return top;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * Removes every element but keeps the array for reuse.
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Moves {@code value} up from the hole at {@code index}: parents that
+     * should come after it slide down one level, then it is written once.
+     */
+    private void siftUp(int index, T value) {
+        Object[] h = heap;
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            @SuppressWarnings("unchecked")
+            T parentValue = (T) h[parent];
+            if (compare(value, parentValue) >= 0) {
+                break;
+            }
+            h[index] = parentValue;
+            index = parent;
+        }
+        h[index] = value;
+    }
+
+    /**
+     * Moves {@code value} down from the hole at {@code index}: the best of
+     * the (up to d) children moves up while it should come before value.
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, T value) {
+        Object[] h = heap;
+        int n = size;
+        int firstChild;
+        while ((firstChild = index * arity + 1) < n) {
+            int best = firstChild;
+            T bestValue = (T) h[firstChild];
+            int end = Math.min(firstChild + arity, n);
+            for (int child = firstChild + 1; child < end; child++) {
+                T childValue = (T) h[child];
+                if (compare(childValue, bestValue) < 0) {
+                    best = child;
+                    bestValue = childValue;
+                }
+            }
+            if (compare(bestValue, value) >= 0) {
+                break;
+            }
+            h[index] = bestValue;
+            index = best;
+        }
+        h[index] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(T a, T b) {
+        return comparator != null ? comparator.compare(a, b) : ((Comparable<? super T>) a).compareTo(b);
+    }
+
+    private void grow() {
+        if (heap.length == MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Heap cannot grow beyond " + MAX_ARRAY_SIZE + " elements");
+        }
+        int newCapacity = (int) Math.min(MAX_ARRAY_SIZE, heap.length + (heap.length >> 1) + 1L);
+        heap = Arrays.copyOf(heap, newCapacity);
+    }
+
+    /**
+     * Prints the array in level order, like Heap.printHeap().
+     */
+    public void printHeap() {
+        for (int i = 0; i < size; i++) {
+            System.out.print(heap[i]);
+            System.out.print(", ");
+        }
+        System.out.println();
+    }
+}
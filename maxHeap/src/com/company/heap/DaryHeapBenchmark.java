@@ -0,0 +1,130 @@
+package com.company.heap;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * D-ARY HEAP BENCHMARK
+ * ====================
+ *
+ * Push/pop-heavy workload, the same for every implementation:
+ * 1. push n random values
+ * 2. n times: pop the top, push a new random value (a scheduler's loop)
+ * 3. pop everything
+ * That is 2n pushes + 2n pops; the best round is reported as ops/sec.
+ *
+ * Compared: java.util.PriorityQueue<Long>, DaryHeap<Long> with arity 2, 4
+ * and 8, and the primitive LongDaryHeap with arity 4.
+ *
+ * Expect the boxed heaps to lose most at large n: every compare follows a
+ * pointer to a Long somewhere in memory. Arity 4/8 wins once the heap no
+ * longer fits in the CPU cache (fewer levels = fewer misses).
+ *
+ * HOW TO RUN:
+ *   java -Xmx4g com.company.heap.DaryHeapBenchmark                   (1K .. 10M)
+ *   java -Xmx24g com.company.heap.DaryHeapBenchmark 100000000        (100M; boxed
+ *                                                  heaps need ~40 bytes per Long)
+ */
+public class DaryHeapBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+    private static final int[] DEFAULT_SIZES = {1_000, 100_000, 1_000_000, 10_000_000};
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%-12s %16s %16s %16s %16s %16s%n", "elements", "PriorityQueue",
+                "DaryHeap d=2", "DaryHeap d=4", "DaryHeap d=8", "LongDaryHeap d=4");
+        for (int n : sizes) {
+            System.out.printf("%-12d %,16.0f %,16.0f %,16.0f %,16.0f %,16.0f%n", n,
+                    run(n, -1), run(n, 2), run(n, 4), run(n, 8), run(n, 0));
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * @param arity -1 = PriorityQueue, 0 = LongDaryHeap (arity 4), else DaryHeap arity
+     * @return best ops/sec
+     */
+    private static double run(int n, int arity) {
+        // Fewer rounds for huge heaps, where one round already takes seconds
+        int rounds = n >= 10_000_000 ? 2 : WARMUP_ROUNDS + MEASURED_ROUNDS;
+        int warmup = n >= 10_000_000 ? 1 : WARMUP_ROUNDS;
+        double best = 0;
+        for (int round = 0; round < rounds; round++) {
+            Random random = new Random(42);
+            long start = System.nanoTime();
+            long checksum;
+            if (arity == -1) {
+                checksum = priorityQueue(n, random);
+            } else if (arity == 0) {
+                checksum = longHeap(n, random);
+            } else {
+                checksum = daryHeap(n, arity, random);
+            }
+            long nanos = System.nanoTime() - start;
+            sink += checksum;
+            if (round >= warmup) {
+                best = Math.max(best, 4.0 * n * 1e9 / nanos);
+            }
+        }
+        return best;
+    }
+
+    private static long priorityQueue(int n, Random random) {
+        PriorityQueue<Long> heap = new PriorityQueue<>();
+        for (int i = 0; i < n; i++) {
+            heap.add(random.nextLong());
+        }
+        long checksum = 0;
+        for (int i = 0; i < n; i++) {
+            checksum += heap.poll();
+            heap.add(random.nextLong());
+        }
+        while (!heap.isEmpty()) {
+            checksum += heap.poll();
+        }
+        return checksum;
+    }
+
+    private static long daryHeap(int n, int arity, Random random) {
+        DaryHeap<Long> heap = new DaryHeap<>(arity);
+        for (int i = 0; i < n; i++) {
+            heap.push(random.nextLong());
+        }
+        long checksum = 0;
+        for (int i = 0; i < n; i++) {
+            checksum += heap.pop();
+            heap.push(random.nextLong());
+        }
+        while (!heap.isEmpty()) {
+            checksum += heap.pop();
+        }
+        return checksum;
+    }
+
+    private static long longHeap(int n, Random random) {
+        LongDaryHeap heap = new LongDaryHeap(4);
+        for (int i = 0; i < n; i++) {
+            heap.push(random.nextLong());
+        }
+        long checksum = 0;
+        for (int i = 0; i < n; i++) {
+            checksum += heap.pop();
+            heap.push(random.nextLong());
+        }
+        while (!heap.isEmpty()) {
+            checksum += heap.pop();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,177 @@
+package com.company.heap;
+
+import java.util.Arrays;
+
+/**
+ * D-ARY HEAP OF PRIMITIVE doubles
+ * ===============================
+ *
+ * Same algorithm as DaryHeap, but the values live directly in a double[]:
+ * no Double objects, no Comparator calls, no pointer to follow per compare.
+ * A DaryHeap<Double> holds references to 16-24 byte boxes spread around
+ * memory; this heap holds 8-byte values side by side, so the d children of
+ * a node are in one cache line.
+ *
+ * ORDER: a MIN heap by default (smallest on top, like PriorityQueue);
+ * use DoubleDaryHeap.maxHeap(d) for largest on top, like Heap.
+ *
+ * Typical use: latencies, prices, distances (Dijkstra).
+ *
+ * NaN is rejected: it is neither smaller nor larger than anything, so it
+ * would silently break the heap order.
+ *
+ * @see DaryHeap
+ */
+public class DoubleDaryHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+    private final boolean max;
+    private double[] heap;
+    private int size;
+
+    /**
+     * Creates a MIN heap (smallest value on top).
+     *
+     * @param arity number of children per node (at least 2)
+     */
+    public DoubleDaryHeap(int arity) {
+        this(arity, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param arity number of children per node (at least 2)
+     * @param initialCapacity values to make room for up front
+     * @param max true for largest on top, false for smallest on top
+     * @throws IllegalArgumentException if arity is below 2 or initialCapacity is negative
+     */
+    public DoubleDaryHeap(int arity, int initialCapacity, boolean max) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.arity = arity;
+        this.max = max;
+        this.heap = new double[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * @return an empty MAX heap (largest value on top)
+     */
+    public static DoubleDaryHeap maxHeap(int arity) {
+        return new DoubleDaryHeap(arity, DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Time Complexity: O(log_d n), amortized over the occasional grow
+     *
+     * @throws IllegalArgumentException if value is NaN
+     */
+    public void push(double value) {
+        if (value != value) {
+            throw new IllegalArgumentException("NaN cannot be ordered in a heap");
+        }
+        if (size == heap.length) {
+            grow();
+        }
+        double[] h = heap;
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            double parentValue = h[parent];
+            if (!before(value, parentValue)) {
+                break;
+            }
+            h[index] = parentValue;
+            index = parent;
+        }
+        h[index] = value;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    public double peek() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Heap is Empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Time Complexity: O(d log_d n)
+     *
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    public double pop() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Heap is Empty");
+        }
+        double[] h = heap;
+        double top = h[0];
+        int n = --size;
+        double value = h[n];
+        int index = 0;
+        int firstChild;
+        while ((firstChild = index * arity + 1) < n) {
+            int best = firstChild;
+            double bestValue = h[firstChild];
+            int end = Math.min(firstChild + arity, n);
+            for (int child = firstChild + 1; child < end; child++) {
+                double childValue = h[child];
+                if (before(childValue, bestValue)) {
+                    best = child;
+                    bestValue = childValue;
+                }
+            }
+            if (!before(bestValue, value)) {
+                break;
+            }
+            h[index] = bestValue;
+            index = best;
+        }
+        h[index] = value;
+        return top;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /** true if a belongs strictly above b. */
+    private boolean before(double a, double b) {
+        return max ? a > b : a < b;
+    }
+
+    private void grow() {
+        if (heap.length == MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Heap cannot grow beyond " + MAX_ARRAY_SIZE + " elements");
+        }
+        int newCapacity = (int) Math.min(MAX_ARRAY_SIZE, heap.length + (heap.length >> 1) + 1L);
+        heap = Arrays.copyOf(heap, newCapacity);
+    }
+
+    public void printHeap() {
+        for (int i = 0; i < size; i++) {
+            System.out.print(heap[i]);
+            System.out.print(", ");
+        }
+        System.out.println();
+    }
+}
@@ -44,6 +44,11 @@ package com.company.heap;
  * 
  * Array: [80, 75, 60, 68, 55, 40, 52, 67]
  *         0   1   2   3   4   5   6   7
+ * 
+ * This heap is int-only, binary and fixed-size (insert throws when full).
+ * For a growable heap of any type, with 4 or 8 children per node, see
+ * DaryHeap (and LongDaryHeap / DoubleDaryHeap for primitives). It is not
+ * thread-safe; MultiQueue shares work between many threads.
  */
 public class Heap {
 
@@ -54,6 +59,16 @@ public class Heap {
         heap = new int[capacity];
     }
 
+    /**
+     * Builds a full heap from the given values in O(n) (Floyd's heapify)
+     * instead of n inserts at O(log n) each.
+     */
+    public Heap(int[] values) {
+        heap = values.clone();
+        size = values.length;
+        HeapSort.heapify(heap, size);
+    }
+
     public void insert(int value) {   // time complexity: O(logn)
         if (isFull()) {
             throw new IndexOutOfBoundsException("Heap is full");
@@ -104,6 +119,8 @@ public class Heap {
      * 
      * Time Complexity: O(log n) for the bubble operation
      * Note: If you need to FIND the element first, it's O(n) total!
+     * (IndexedHeap avoids the search: insert returns a handle, and
+     * remove(handle) / changePriority(handle, p) are O(log n).)
      * 
      * @param index The index of the element to delete
      * @return The deleted value
@@ -170,18 +187,14 @@ public class Heap {
      * - Guaranteed O(n log n) even in worst case
      * - No extra memory needed (unlike merge sort)
      * - Not stable (equal elements might swap order)
+     * 
+     * To sort a plain array, skip the n inserts: new Heap(values) builds
+     * the heap in O(n), or use HeapSort.sort / HeapSort.parallelSort.
      */
     public void sort() {//  time complexity: O(nlogn)
-        int lastHeapIndex = size-1;
-        for (int i =0; i< lastHeapIndex; i++) {
-            // Swap root (max) with last unsorted element
-            int tmp = heap[0];
-            heap[0] = heap[lastHeapIndex - i];
-            heap[lastHeapIndex - i] = tmp;
-
-            // Fix heap for the reduced heap (excluding sorted elements)
-            fixHeapBelow(0,lastHeapIndex - i - 1);
-        }
+        // Same swap-and-fix loop, but the swapped-in value is sunk bottom-up:
+        // one compare per level instead of fixHeapBelow's two (see HeapSort)
+        HeapSort.sortHeap(heap, 0, size);
     }
 
 
@@ -486,6 +499,10 @@ public class Heap {
  * Time: O(N log k) where N=total nodes, k=number of lists
  * Space: O(k) for the heap
  * 
+ * For hundreds of lists a loser tree is faster (log k compares per node
+ * instead of a poll plus an add): see LoserTreeMergeIterator in the
+ * PriorityQueue module.
+ * 
  * ───────────────────────────────────────────────────────────────────────────
  * Q3: Find median from data stream
  * ───────────────────────────────────────────────────────────────────────────
@@ -545,6 +562,10 @@ public class Heap {
  * Time: O(log n) per add, O(1) for findMedian
  * Space: O(n)
  * 
+ * Runnable versions: MedianFinder (this idea on primitive heaps),
+ * SlidingWindowMedian (median of the last k values) and TDigest
+ * (p95/p99 of an endless stream in fixed memory).
+ * 
  * ═══════════════════════════════════════════════════════════════════════════
  * KEY TAKEAWAYS FOR INTERVIEWS:
  * ═══════════════════════════════════════════════════════════════════════════
@@ -0,0 +1,205 @@
+package com.company.heap;
+
+import java.util.stream.IntStream;
+
+/**
+ * HEAP SORT - Floyd Heapify, Bottom-Up Sift-Down, Parallel Chunks
+ * ===============================================================
+ *
+ * Heap.sort() sorts a heap that was built by n inserts (O(n log n)) and
+ * sinks each swapped-in value with fixHeapBelow, which makes TWO compares
+ * per level: left vs right child, then the larger child vs the value.
+ * This class does the same job with fewer compares, on any int[].
+ *
+ * 1. FLOYD HEAPIFY - build the heap in O(n)
+ * -----------------------------------------
+ * Instead of inserting values one by one, treat the array as a heap that
+ * is broken everywhere and repair it from the LAST parent back to the root:
+ *
+ *   [20, 35, -15, 7, 55, 1, -22]        parents are indices 2, 1, 0
+ *
+ *             20                        fix 2: -15 < 1      → swap
+ *           /    \                      fix 1: 35 < 55      → swap
+ *         35     -15                    fix 0: 20 < 55, 35  → sinks 2 levels
+ *        /  \    /  \
+ *       7   55  1   -22                 → [55, 35, 1, 7, 20, -15, -22]
+ *
+ * Half the nodes are leaves (no work), a quarter sink at most 1 level, an
+ * eighth at most 2 ... the total is below 2n moves: O(n), not O(n log n).
+ *
+ * 2. BOTTOM-UP SIFT-DOWN - half the compares per extraction
+ * ---------------------------------------------------------
+ * The value swapped into the root during sorting came from the BOTTOM, so
+ * it almost always sinks all the way back down. Checking "does it fit
+ * here?" at every level is wasted work. Instead:
+ *
+ *   a. walk down to a leaf, always moving the LARGER child up (1 compare
+ *      per level, not 2)
+ *   b. climb back up from that leaf until the value fits (usually 1-2 steps)
+ *
+ * ~n log n compares in total instead of ~2n log n. That pays off while the
+ * heap fits in the cache; on a heap far bigger than the cache both versions
+ * wait on memory, and the bottom-up walk - which always goes all the way to
+ * a leaf - can even lose (see SortBenchmark). parallelSort avoids that case.
+ *
+ * 3. PARALLEL - heapsort chunks, then k-way merge
+ * -----------------------------------------------
+ * Heapsort jumps around the whole array (the children of i are at 2i+1),
+ * so once the array outgrows the cache every level is a cache miss - and
+ * it cannot be split up like merge sort. parallelSort cuts the array into
+ * chunks - at least a few per core, and none bigger than the L2 cache -
+ * heapsorts the chunks at the same time and merges the sorted chunks with
+ * a small min heap of chunk heads (LongDaryHeap), O(n log k). Because every
+ * chunk heap stays in cache, this beats sort() on large arrays even on ONE
+ * core. The merge needs an n-element buffer, so it is not in place.
+ *
+ * Not stable (equal values may change order), like Heap.sort().
+ */
+public class HeapSort {
+
+    /** Below this size parallelSort just calls sort(). */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Chunks per core, so a slow chunk does not leave cores idle. */
+    private static final int CHUNKS_PER_CORE = 4;
+
+    /** Largest chunk: 64K ints = 256 KB, a heap that stays in the L2 cache. */
+    private static final int CACHE_CHUNK = 1 << 16;
+
+    private HeapSort() {
+    }
+
+    /**
+     * Sorts the array in ascending order, in place.
+     *
+     * Time Complexity: O(n log n), ~n log n compares
+     * Space Complexity: O(1)
+     */
+    public static void sort(int[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts array[from..to) in ascending order, in place.
+     */
+    public static void sort(int[] array, int from, int to) {
+        heapify(array, from, to - from);
+        sortHeap(array, from, to - from);
+    }
+
+    /**
+     * Turns array[0..n) into a MAX heap bottom-up (Floyd).
+     *
+     * Time Complexity: O(n)
+     */
+    public static void heapify(int[] array, int n) {
+        heapify(array, 0, n);
+    }
+
+    /**
+     * Sorts with several threads: chunks are heapsorted in parallel on the
+     * common ForkJoinPool, then k-way merged.
+     *
+     * Time Complexity: O((n/p) log n) for the chunks + O(n log k) for the merge,
+     *                  k = number of chunks
+     * Space Complexity: O(n) for the merge buffer
+     */
+    public static void parallelSort(int[] array) {
+        int n = array.length;
+        if (n < PARALLEL_THRESHOLD) {
+            sort(array);
+            return;
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        int chunks = Math.max(cores * CHUNKS_PER_CORE, (n + CACHE_CHUNK - 1) / CACHE_CHUNK);
+        int[] bounds = new int[chunks + 1];
+        for (int c = 0; c <= chunks; c++) {
+            bounds[c] = (int) ((long) n * c / chunks);
+        }
+        IntStream.range(0, chunks).parallel().forEach(c -> sort(array, bounds[c], bounds[c + 1]));
+        mergeChunks(array, bounds);
+    }
+
+    /**
+     * Extraction phase: array[from..from+n) is a max heap; repeatedly swap
+     * the root to the end of the shrinking heap and sink the swapped-in
+     * value bottom-up. Heap.sort() uses this on its own array.
+     */
+    static void sortHeap(int[] array, int from, int n) {
+        for (int last = n - 1; last > 0; last--) {
+            int value = array[from + last];
+            array[from + last] = array[from];  // Max goes to the end
+            siftDownBottomUp(array, from, 0, last, value);
+        }
+    }
+
+    private static void heapify(int[] array, int from, int n) {
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownBottomUp(array, from, i, n, array[from + i]);
+        }
+    }
+
+    /**
+     * Places {@code value} into the hole at heap index {@code hole} of the
+     * heap array[from..from+n), whose subtrees are already heaps.
+     *
+     * Walks the larger children down to a leaf (moving each one up a level),
+     * then climbs back up while the parent is smaller than value.
+     */
+    private static void siftDownBottomUp(int[] a, int from, int hole, int n, int value) {
+        int top = hole;
+        int child;
+        while ((child = 2 * hole + 2) < n) {
+            if (a[from + child - 1] > a[from + child]) {
+                child--;  // Left child is larger
+            }
+            a[from + hole] = a[from + child];
+            hole = child;
+        }
+        if (child == n) {  // Only a left child
+            a[from + hole] = a[from + n - 1];
+            hole = n - 1;
+        }
+        while (hole > top) {
+            int parent = (hole - 1) / 2;
+            if (a[from + parent] >= value) {
+                break;
+            }
+            a[from + hole] = a[from + parent];
+            hole = parent;
+        }
+        a[from + hole] = value;
+    }
+
+    /**
+     * Merges the sorted chunks array[bounds[c]..bounds[c+1]) into one sorted
+     * run. Each chunk's current head sits in a min heap as
+     * (value << 32 | chunk), so the smallest long is the smallest value.
+     */
+    private static void mergeChunks(int[] array, int[] bounds) {
+        int chunks = bounds.length - 1;
+        int[] next = new int[chunks];
+        LongDaryHeap heads = new LongDaryHeap(4, chunks, false);
+        for (int c = 0; c < chunks; c++) {
+            next[c] = bounds[c];
+            if (next[c] < bounds[c + 1]) {
+                heads.push(pack(array[next[c]++], c));
+            }
+        }
+        int[] merged = new int[array.length];
+        int out = 0;
+        while (!heads.isEmpty()) {
+            long head = heads.pop();
+            int c = (int) head;  // Low 32 bits
+            merged[out++] = (int) (head >> 32);
+            if (next[c] < bounds[c + 1]) {
+                heads.push(pack(array[next[c]++], c));
+            }
+        }
+        System.arraycopy(merged, 0, array, 0, out);
+    }
+
+    private static long pack(int value, int chunk) {
+        return ((long) value << 32) | chunk;
+    }
+}
@@ -0,0 +1,318 @@
+package com.company.heap;
+
+import java.util.Arrays;
+
+/**
+ * INDEXED HEAP - A Priority Queue You Can Re-Prioritize by Handle
+ * ===============================================================
+ *
+ * Heap.delete(index) needs the ARRAY POSITION of the element, which the
+ * caller does not know (elements move on every insert/delete), and
+ * PriorityQueue.remove(object) has to SEARCH for it: O(n).
+ *
+ * This heap hands out a HANDLE when you insert. The handle never changes,
+ * and the heap keeps track of where the entry currently sits, so
+ *
+ *   changePriority(handle, newPriority)   O(log n)
+ *   remove(handle)                        O(log n)
+ *
+ * need no search. Typical uses: order books (a price changes), timers
+ * (a deadline is pushed back or cancelled), Dijkstra (decrease-key).
+ *
+ * HOW POSITIONS ARE TRACKED:
+ * --------------------------
+ * Every entry lives in a SLOT (slot arrays: priority, value, position).
+ * The heap array holds slot numbers; position[slot] says where in the heap
+ * array that slot currently is. Every time the sift loops move a slot,
+ * they update position[] too.
+ *
+ *   heap:      [ 3 | 0 | 2 | 1 ]      ← slot numbers in heap order
+ *   position:  slot0→1  slot1→3  slot2→2  slot3→0
+ *
+ * HANDLES AND REUSE:
+ * ------------------
+ * Slots of removed entries are reused. A handle is the slot number plus a
+ * GENERATION counter that changes whenever a slot is freed, so an old
+ * handle can never accidentally touch the new entry in its slot:
+ *
+ *   handle = (generation << 32) | slot
+ *
+ * ORDER: MIN heap by default (smallest priority on top - earliest deadline);
+ * pass max = true for largest on top (highest bid). Arity as in DaryHeap.
+ *
+ * @param <V> the value stored with each priority
+ */
+public class IndexedHeap<V> {
+
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+    private final boolean max;
+
+    /** heap[i] = slot of the entry at heap position i. */
+    private int[] heap;
+    private int size;
+
+    // Per-slot data, indexed by slot number
+    private long[] priorities;
+    private Object[] values;
+    private int[] positions;     // Heap position, or -1 if the slot is free
+    private int[] generations;
+
+    /** Free slots form a stack: nextFree[slot] is the next free slot. */
+    private int[] nextFree;
+    private int freeHead = -1;
+    private int slotsUsed;
+
+    /**
+     * Creates a 4-ary MIN heap.
+     */
+    public IndexedHeap() {
+        this(DEFAULT_ARITY, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param arity number of children per node (at least 2)
+     * @param initialCapacity entries to make room for up front
+     * @param max true for largest priority on top, false for smallest
+     * @throws IllegalArgumentException if arity is below 2 or initialCapacity is negative
+     */
+    public IndexedHeap(int arity, int initialCapacity, boolean max) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.arity = arity;
+        this.max = max;
+        int capacity = Math.max(1, initialCapacity);
+        heap = new int[capacity];
+        priorities = new long[capacity];
+        values = new Object[capacity];
+        positions = new int[capacity];
+        generations = new int[capacity];
+        nextFree = new int[capacity];
+    }
+
+    /**
+     * Adds an entry.
+     *
+     * Time Complexity: O(log n), amortized over the occasional grow
+     *
+     * @return the handle to use with changePriority / remove / priority / value
+     */
+    public long insert(long priority, V value) {
+        int slot;
+        if (freeHead >= 0) {
+            slot = freeHead;
+            freeHead = nextFree[slot];
+        } else {
+            if (slotsUsed == priorities.length) {
+                grow();
+            }
+            slot = slotsUsed++;
+        }
+        priorities[slot] = priority;
+        values[slot] = value;
+        siftUp(size++, slot);
+        return handle(slot);
+    }
+
+    /**
+     * Gives an entry a new priority and moves it up or down to match.
+     *
+     * Time Complexity: O(log n)
+     *
+     * @throws IllegalArgumentException if the handle was removed or never issued
+     */
+    public void changePriority(long handle, long newPriority) {
+        int slot = slotOf(handle);
+        long old = priorities[slot];
+        priorities[slot] = newPriority;
+        if (before(newPriority, old)) {
+            siftUp(positions[slot], slot);
+        } else {
+            siftDown(positions[slot], slot);
+        }
+    }
+
+    /**
+     * Removes an entry wherever it is in the heap: the last entry takes its
+     * place and moves up or down (like Heap.delete, without the search).
+     *
+     * Time Complexity: O(log n)
+     *
+     * @return the removed entry's value
+     * @throws IllegalArgumentException if the handle was removed or never issued
+     */
+    public V remove(long handle) {
+        int slot = slotOf(handle);
+        int index = positions[slot];
+        @SuppressWarnings("unchecked")
+        V value = (V) values[slot];
+        int lastSlot = heap[--size];
+        if (index != size) {
+            if (before(priorities[lastSlot], priorities[slot])) {
+                siftUp(index, lastSlot);
+            } else {
+                siftDown(index, lastSlot);
+            }
+        }
+        free(slot);
+        return value;
+    }
+
+    /**
+     * Removes the top entry.
+     *
+     * @return its value
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    public V poll() {
+        return remove(peekHandle());
+    }
+
+    /**
+     * @return the handle of the top entry
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    public long peekHandle() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Heap is Empty");
+        }
+        return handle(heap[0]);
+    }
+
+    /**
+     * @return the priority of the top entry
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    public long peekPriority() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Heap is Empty");
+        }
+        return priorities[heap[0]];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the handle was removed or never issued
+     */
+    public long priority(long handle) {
+        return priorities[slotOf(handle)];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the handle was removed or never issued
+     */
+    @SuppressWarnings("unchecked")
+    public V value(long handle) {
+        return (V) values[slotOf(handle)];
+    }
+
+    /**
+     * @return true if the handle refers to an entry that is still in the heap
+     */
+    public boolean contains(long handle) {
+        int slot = (int) handle;
+        return slot >= 0 && slot < slotsUsed
+                && generations[slot] == (int) (handle >>> 32) && positions[slot] >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private long handle(int slot) {
+        return ((long) generations[slot] << 32) | slot;
+    }
+
+    private int slotOf(long handle) {
+        if (!contains(handle)) {
+            throw new IllegalArgumentException("Unknown or removed handle: " + handle);
+        }
+        return (int) handle;
+    }
+
+    private void free(int slot) {
+        positions[slot] = -1;
+        values[slot] = null;  // Let the GC reclaim it
+        generations[slot]++;  // Old handles to this slot become invalid
+        nextFree[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    /** true if priority a belongs strictly above priority b. */
+    private boolean before(long a, long b) {
+        return max ? a > b : a < b;
+    }
+
+    /**
+     * Places {@code slot} at heap position {@code index} or above, moving
+     * parents that belong below it down one level.
+     */
+    private void siftUp(int index, int slot) {
+        long priority = priorities[slot];
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            int parentSlot = heap[parent];
+            if (!before(priority, priorities[parentSlot])) {
+                break;
+            }
+            heap[index] = parentSlot;
+            positions[parentSlot] = index;
+            index = parent;
+        }
+        heap[index] = slot;
+        positions[slot] = index;
+    }
+
+    /**
+     * Places {@code slot} at heap position {@code index} or below, moving
+     * the best child up while it belongs above it.
+     */
+    private void siftDown(int index, int slot) {
+        long priority = priorities[slot];
+        int firstChild;
+        while ((firstChild = index * arity + 1) < size) {
+            int best = firstChild;
+            long bestPriority = priorities[heap[firstChild]];
+            int end = Math.min(firstChild + arity, size);
+            for (int child = firstChild + 1; child < end; child++) {
+                long childPriority = priorities[heap[child]];
+                if (before(childPriority, bestPriority)) {
+                    best = child;
+                    bestPriority = childPriority;
+                }
+            }
+            if (!before(bestPriority, priority)) {
+                break;
+            }
+            int bestSlot = heap[best];
+            heap[index] = bestSlot;
+            positions[bestSlot] = index;
+            index = best;
+        }
+        heap[index] = slot;
+        positions[slot] = index;
+    }
+
+    private void grow() {
+        if (priorities.length == MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Heap cannot grow beyond " + MAX_ARRAY_SIZE + " entries");
+        }
+        int capacity = (int) Math.min(MAX_ARRAY_SIZE, priorities.length + (priorities.length >> 1) + 1L);
+        heap = Arrays.copyOf(heap, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        values = Arrays.copyOf(values, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        nextFree = Arrays.copyOf(nextFree, capacity);
+    }
+}
@@ -0,0 +1,118 @@
+package com.company.heap;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * INDEXED HEAP BENCHMARK
+ * ======================
+ *
+ * Re-prioritization workload: n timers are pending, and each operation
+ * moves one random timer to a new deadline. Three ways to do that:
+ *
+ * - PriorityQueue remove + add   : remove(timer) searches the array, O(n),
+ *                                  then the timer is re-added with its new
+ *                                  deadline (the only option the JDK offers)
+ * - IndexedHeap remove + insert  : same idea, but remove(handle) is O(log n)
+ * - IndexedHeap changePriority   : one sift, O(log n)
+ *
+ * The O(n) search makes PriorityQueue slower the bigger n gets; both
+ * IndexedHeap columns only grow with log n.
+ *
+ * HOW TO RUN:
+ *   java com.company.heap.IndexedHeapBenchmark [sizes...]     (default 1K .. 1M)
+ */
+public class IndexedHeapBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+
+    private static long sink;
+
+    /** A pending timer for the PriorityQueue version. */
+    private static final class Timer implements Comparable<Timer> {
+        long deadline;
+
+        Timer(long deadline) {
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int compareTo(Timer other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%-10s %22s %22s %22s%n", "timers",
+                "PQ remove+add ops/s", "remove+insert ops/s", "changePriority ops/s");
+        for (int n : sizes) {
+            // PriorityQueue.remove is O(n), so it gets fewer operations at large n
+            int slowOps = (int) Math.max(1_000, Math.min(1_000_000, 200_000_000L / n));
+            System.out.printf("%-10d %,22.0f %,22.0f %,22.0f%n", n,
+                    measure(n, slowOps, 0), measure(n, 1_000_000, 1), measure(n, 1_000_000, 2));
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * @param mode 0 = PriorityQueue remove+add, 1 = IndexedHeap remove+insert,
+     *             2 = IndexedHeap changePriority
+     * @return best ops/sec
+     */
+    private static double measure(int n, int ops, int mode) {
+        double best = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            Random random = new Random(42);
+            long nanos;
+            if (mode == 0) {
+                PriorityQueue<Timer> queue = new PriorityQueue<>(n);
+                Timer[] timers = new Timer[n];
+                for (int i = 0; i < n; i++) {
+                    timers[i] = new Timer(random.nextLong());
+                    queue.add(timers[i]);
+                }
+                long start = System.nanoTime();
+                for (int op = 0; op < ops; op++) {
+                    Timer timer = timers[random.nextInt(n)];
+                    queue.remove(timer);
+                    timer.deadline = random.nextLong();
+                    queue.add(timer);
+                }
+                nanos = System.nanoTime() - start;
+                sink += queue.peek().deadline;
+            } else {
+                IndexedHeap<Integer> heap = new IndexedHeap<>(4, n, false);
+                long[] handles = new long[n];
+                for (int i = 0; i < n; i++) {
+                    handles[i] = heap.insert(random.nextLong(), i);
+                }
+                long start = System.nanoTime();
+                for (int op = 0; op < ops; op++) {
+                    int timer = random.nextInt(n);
+                    if (mode == 1) {
+                        Integer value = heap.remove(handles[timer]);
+                        handles[timer] = heap.insert(random.nextLong(), value);
+                    } else {
+                        heap.changePriority(handles[timer], random.nextLong());
+                    }
+                }
+                nanos = System.nanoTime() - start;
+                sink += heap.peekPriority();
+            }
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.max(best, ops * 1e9 / nanos);
+            }
+        }
+        return best;
+    }
+}
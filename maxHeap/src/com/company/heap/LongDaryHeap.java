@@ -0,0 +1,169 @@
+package com.company.heap;
+
+import java.util.Arrays;
+
+/**
+ * D-ARY HEAP OF PRIMITIVE longs
+ * =============================
+ *
+ * Same algorithm as DaryHeap, but the values live directly in a long[]:
+ * no Long objects, no Comparator calls, no pointer to follow per compare.
+ * A DaryHeap<Long> holds references to 16-24 byte boxes spread around
+ * memory; this heap holds 8-byte values side by side, so the d children of
+ * a node are in one cache line.
+ *
+ * ORDER: a MIN heap by default (smallest on top, like PriorityQueue);
+ * use LongDaryHeap.maxHeap(d) for largest on top, like Heap.
+ *
+ * Typical use: timestamps, sequence numbers, ids packed with a priority.
+ *
+ * @see DaryHeap
+ */
+public class LongDaryHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+    private final boolean max;
+    private long[] heap;
+    private int size;
+
+    /**
+     * Creates a MIN heap (smallest value on top).
+     *
+     * @param arity number of children per node (at least 2)
+     */
+    public LongDaryHeap(int arity) {
+        this(arity, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param arity number of children per node (at least 2)
+     * @param initialCapacity values to make room for up front
+     * @param max true for largest on top, false for smallest on top
+     * @throws IllegalArgumentException if arity is below 2 or initialCapacity is negative
+     */
+    public LongDaryHeap(int arity, int initialCapacity, boolean max) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.arity = arity;
+        this.max = max;
+        this.heap = new long[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * @return an empty MAX heap (largest value on top)
+     */
+    public static LongDaryHeap maxHeap(int arity) {
+        return new LongDaryHeap(arity, DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Time Complexity: O(log_d n), amortized over the occasional grow
+     */
+    public void push(long value) {
+        if (size == heap.length) {
+            grow();
+        }
+        long[] h = heap;
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            long parentValue = h[parent];
+            if (!before(value, parentValue)) {
+                break;
+            }
+            h[index] = parentValue;
+            index = parent;
+        }
+        h[index] = value;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    public long peek() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Heap is Empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Time Complexity: O(d log_d n)
+     *
+     * @throws IndexOutOfBoundsException if the heap is empty
+     */
+    public long pop() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Heap is Empty");
+        }
+        long[] h = heap;
+        long top = h[0];
+        int n = --size;
+        long value = h[n];
+        int index = 0;
+        int firstChild;
+        while ((firstChild = index * arity + 1) < n) {
+            int best = firstChild;
+            long bestValue = h[firstChild];
+            int end = Math.min(firstChild + arity, n);
+            for (int child = firstChild + 1; child < end; child++) {
+                long childValue = h[child];
+                if (before(childValue, bestValue)) {
+                    best = child;
+                    bestValue = childValue;
+                }
+            }
+            if (!before(bestValue, value)) {
+                break;
+            }
+            h[index] = bestValue;
+            index = best;
+        }
+        h[index] = value;
+        return top;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /** true if a belongs strictly above b. */
+    private boolean before(long a, long b) {
+        return max ? a > b : a < b;
+    }
+
+    private void grow() {
+        if (heap.length == MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Heap cannot grow beyond " + MAX_ARRAY_SIZE + " elements");
+        }
+        int newCapacity = (int) Math.min(MAX_ARRAY_SIZE, heap.length + (heap.length >> 1) + 1L);
+        heap = Arrays.copyOf(heap, newCapacity);
+    }
+
+    public void printHeap() {
+        for (int i = 0; i < size; i++) {
+            System.out.print(heap[i]);
+            System.out.print(", ");
+        }
+        System.out.println();
+    }
+}
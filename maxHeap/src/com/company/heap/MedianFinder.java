@@ -0,0 +1,98 @@
+package com.company.heap;
+
+/**
+ * MEDIAN FINDER - Exact Running Median With Two Heaps
+ * ===================================================
+ *
+ * The "find median from data stream" answer in Heap.java, made real:
+ *
+ *        lower (MAX heap)    |    upper (MIN heap)
+ *     smaller half, max on top | larger half, min on top
+ *              [3]             |       [4]
+ *             /   \            |      /
+ *           [2]   [1]          |    [5]
+ *
+ * - lower always holds as many values as upper, or one more
+ * - every value in lower <= every value in upper
+ * - so the median is lower's top (odd count) or the average of both tops
+ *
+ * Differences from the sketch in Heap.java:
+ * - primitive DoubleDaryHeaps instead of PriorityQueue<Integer>: add() boxes
+ *   nothing, so once the heaps have grown it allocates NOTHING
+ * - add() only moves a value between the heaps when it has to (the sketch
+ *   always pushes through both heaps: 3 operations per add instead of 1-2)
+ *
+ * EXACT, but it keeps EVERY value: O(n) memory. Fine for a bounded batch
+ * (one request, one minute of samples); for an endless stream use
+ * SlidingWindowMedian (last k values) or TDigest (any quantile, fixed memory).
+ *
+ * Time: O(log n) per add, O(1) for median()
+ */
+public class MedianFinder {
+
+    private static final int ARITY = 4;
+
+    private final DoubleDaryHeap lower;   // Smaller half, largest on top
+    private final DoubleDaryHeap upper;   // Larger half, smallest on top
+
+    public MedianFinder() {
+        this(16);
+    }
+
+    /**
+     * @param expectedValues values to make room for up front, so add() never
+     *                       has to grow the heaps
+     */
+    public MedianFinder(int expectedValues) {
+        int half = expectedValues / 2 + 1;
+        lower = new DoubleDaryHeap(ARITY, half, true);
+        upper = new DoubleDaryHeap(ARITY, half, false);
+    }
+
+    /**
+     * Time Complexity: O(log n)
+     *
+     * @throws IllegalArgumentException if value is NaN
+     */
+    public void add(double value) {
+        if (lower.isEmpty() || value <= lower.peek()) {
+            lower.push(value);
+            if (lower.size() > upper.size() + 1) {
+                upper.push(lower.pop());
+            }
+        } else {
+            upper.push(value);
+            if (upper.size() > lower.size()) {
+                lower.push(upper.pop());
+            }
+        }
+    }
+
+    /**
+     * @return the median of all values added so far (the average of the two
+     *         middle values for an even count)
+     * @throws IndexOutOfBoundsException if no value was added
+     */
+    public double median() {
+        if (lower.size() > upper.size()) {
+            return lower.peek();  // Odd count
+        }
+        return (lower.peek() + upper.peek()) / 2.0;  // Even count; throws when empty
+    }
+
+    public int size() {
+        return lower.size() + upper.size();
+    }
+
+    public boolean isEmpty() {
+        return lower.isEmpty();
+    }
+
+    /**
+     * Forgets every value but keeps the heap arrays.
+     */
+    public void clear() {
+        lower.clear();
+        upper.clear();
+    }
+}
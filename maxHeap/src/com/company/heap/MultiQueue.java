@@ -0,0 +1,205 @@
+package com.company.heap;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * MULTIQUEUE - A Concurrent Priority Queue With Relaxed Ordering
+ * ==============================================================
+ *
+ * Heap and DaryHeap are not thread-safe, and PriorityBlockingQueue puts ONE
+ * lock around one heap: with many threads they all wait for each other.
+ *
+ * A MultiQueue uses MANY small heaps (shards), each with its own lock:
+ *
+ *   add(x):  put x into a RANDOM shard
+ *   poll():  look at the tops of TWO random shards, lock the one with the
+ *            better top and pop it
+ *
+ *     shard 0: [3, 9, 14]   shard 1: [1, 8]   shard 2: [5, 6]   shard 3: []
+ *                   ▲ pick two at random (say 0 and 2), compare 3 vs 5,
+ *                     pop 3 from shard 0
+ *
+ * Threads almost never want the same shard at the same time, so they rarely
+ * wait. If the chosen shard is locked anyway, poll() just picks again
+ * (tryLock) instead of waiting.
+ *
+ * RELAXED ORDERING:
+ * -----------------
+ * poll() does NOT always return the global best element - 1 may still be
+ * sitting in shard 1. But "best of two random choices" keeps it close:
+ * the RANK ERROR (how many better elements were still in the queue) stays
+ * around the number of shards on average, independent of the queue size.
+ * For a job dispatcher that is fine: a job with priority 3 running a few
+ * microseconds before the one with priority 1 does not matter; everyone
+ * queueing behind one lock does.
+ *
+ * SIZING: use about 2 shards per thread (see forThreads).
+ *
+ * Each shard caches its top element in a volatile field, so poll() can
+ * compare two shards WITHOUT locking either.
+ *
+ * @param <T> the element type
+ */
+public class MultiQueue<T> {
+
+    /** Shards per thread recommended by the MultiQueue papers. */
+    private static final int SHARDS_PER_THREAD = 2;
+
+    private static final int SHARD_ARITY = 4;
+
+    private final Shard<T>[] shards;
+    private final Comparator<? super T> comparator;
+    private final LongAdder size = new LongAdder();
+
+    /** One heap, its lock and its current top. */
+    private static final class Shard<T> extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        final DaryHeap<T> heap;
+        volatile T top;
+
+        Shard(Comparator<? super T> comparator) {
+            heap = new DaryHeap<>(SHARD_ARITY, comparator);
+        }
+    }
+
+    /**
+     * @param shardCount number of internal heaps (at least 1)
+     * @param comparator decides which element is best (first in order);
+     *                   null means natural order, smallest first
+     */
+    @SuppressWarnings("unchecked")
+    public MultiQueue(int shardCount, Comparator<? super T> comparator) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Illegal shard count: " + shardCount);
+        }
+        this.comparator = comparator;
+        shards = (Shard<T>[]) new Shard<?>[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>(comparator);
+        }
+    }
+
+    /**
+     * @return a MultiQueue sized for {@code threads} concurrent users
+     */
+    public static <T> MultiQueue<T> forThreads(int threads, Comparator<? super T> comparator) {
+        return new MultiQueue<>(Math.max(1, threads) * SHARDS_PER_THREAD, comparator);
+    }
+
+    /**
+     * Adds an element to a random shard.
+     *
+     * @throws NullPointerException if value is null
+     */
+    public void add(T value) {
+        if (value == null) {
+            throw new NullPointerException("Queue elements cannot be null");
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Shard<T> shard = shards[random.nextInt(shards.length)];
+        for (int attempt = 0; !shard.tryLock(); attempt++) {
+            if (attempt == shards.length) {
+                shard.lock();  // Every pick was busy: wait for this one
+                break;
+            }
+            shard = shards[random.nextInt(shards.length)];
+        }
+        try {
+            shard.heap.push(value);
+            shard.top = shard.heap.peek();
+            size.increment();  // Under the lock: no poll can take the value before it is counted
+        } finally {
+            shard.unlock();
+        }
+    }
+
+    /**
+     * Removes a GOOD element: the better top of two random shards.
+     *
+     * If random choices keep finding empty or locked shards, it falls back to
+     * checking every shard in turn, so null really means the queue was
+     * empty when each shard was checked.
+     *
+     * @return the removed element, or null if the queue is empty
+     */
+    public T poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < shards.length; attempt++) {
+            Shard<T> a = shards[random.nextInt(shards.length)];
+            Shard<T> b = shards[random.nextInt(shards.length)];
+            T topA = a.top;
+            T topB = b.top;
+            Shard<T> chosen;
+            if (topA == null) {
+                if (topB == null) {
+                    continue;
+                }
+                chosen = b;
+            } else {
+                chosen = topB == null || compare(topA, topB) <= 0 ? a : b;
+            }
+            if (chosen.tryLock()) {
+                try {
+                    if (!chosen.heap.isEmpty()) {
+                        return popLocked(chosen);
+                    }
+                } finally {
+                    chosen.unlock();
+                }
+            }
+        }
+        int start = random.nextInt(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            Shard<T> shard = shards[(start + i) % shards.length];
+            if (shard.top == null) {
+                continue;
+            }
+            shard.lock();
+            try {
+                if (!shard.heap.isEmpty()) {
+                    return popLocked(shard);
+                }
+            } finally {
+                shard.unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of elements; exact only when no other thread is
+     *         adding or polling
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));  // sum() is not a snapshot
+    }
+
+    public boolean isEmpty() {
+        for (Shard<T> shard : shards) {
+            if (shard.top != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    private T popLocked(Shard<T> shard) {
+        T value = shard.heap.pop();
+        shard.top = shard.heap.isEmpty() ? null : shard.heap.peek();
+        size.decrement();
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(T a, T b) {
+        return comparator != null ? comparator.compare(a, b) : ((Comparable<? super T>) a).compareTo(b);
+    }
+}
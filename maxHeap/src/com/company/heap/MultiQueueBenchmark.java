@@ -0,0 +1,175 @@
+package com.company.heap;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MULTIQUEUE BENCHMARK - Throughput and Rank Error, 1 to 64 Threads
+ * =================================================================
+ *
+ * THROUGHPUT: the queue starts with PREFILL elements; every thread then
+ * alternates add(random) / poll() - a dispatcher where jobs arrive as fast
+ * as they are taken. Compared with PriorityBlockingQueue (one lock).
+ *
+ * RANK ERROR: the queue is filled with the keys 0..n-1 and the threads only
+ * poll. Each poll takes a ticket from a global counter right after it
+ * returns; replaying the polls in ticket order, the rank error of a poll is
+ * how many SMALLER keys were still in the queue (0 = it returned the true
+ * minimum). A Fenwick tree over the keys answers "how many smaller keys are
+ * left" in O(log n). PriorityBlockingQueue would report ~0 here, apart from
+ * the gap between a poll and its ticket.
+ *
+ * On fewer cores than threads the rank error also counts threads that were
+ * descheduled between poll() and taking their ticket, so it overstates the
+ * real error; run on a machine with at least as many cores as threads.
+ *
+ * Throughput only scales with the number of cores
+ * (Runtime.availableProcessors is printed); on one core every extra thread
+ * just adds context switches.
+ *
+ * Each configuration gets one warmup run before it is timed.
+ *
+ * HOW TO RUN:
+ *   java com.company.heap.MultiQueueBenchmark [operationsPerRun]
+ */
+public class MultiQueueBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int PREFILL = 1_000_000;
+    private static final int RANK_KEYS = 1_000_000;
+
+    private static volatile long blackhole;
+
+    public static void main(String[] args) throws InterruptedException {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        System.out.println("cores: " + Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-8s %20s %20s %16s %16s%n", "threads",
+                "MultiQueue ops/s", "PBQueue ops/s", "mean rank err", "max rank err");
+        for (int threads : THREADS) {
+            throughput(threads, operations, true);  // Warmup
+            double multi = throughput(threads, operations, true);
+            throughput(threads, operations, false);
+            double blocking = throughput(threads, operations, false);
+            double[] rank = rankError(threads);
+            System.out.printf("%-8d %,20.0f %,20.0f %16.1f %16.0f%n", threads, multi, blocking, rank[0], rank[1]);
+        }
+    }
+
+    private static double throughput(int threads, int operations, boolean multiQueue) throws InterruptedException {
+        MultiQueue<Long> multi = MultiQueue.forThreads(threads, null);
+        PriorityBlockingQueue<Long> blocking = new PriorityBlockingQueue<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < PREFILL; i++) {
+            long value = random.nextLong();
+            if (multiQueue) {
+                multi.add(value);
+            } else {
+                blocking.add(value);
+            }
+        }
+
+        int perThread = operations / threads / 2;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom r = ThreadLocalRandom.current();
+                long sum = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    if (multiQueue) {
+                        multi.add(r.nextLong());
+                        sum += multi.poll();
+                    } else {
+                        blocking.add(r.nextLong());
+                        sum += blocking.poll();
+                    }
+                }
+                blackhole += sum;
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long nanos = System.nanoTime() - begin;
+        return 2.0 * perThread * threads * 1e9 / nanos;
+    }
+
+    /**
+     * @return {mean rank error, max rank error}
+     */
+    private static double[] rankError(int threads) throws InterruptedException {
+        MultiQueue<Integer> queue = MultiQueue.forThreads(threads, null);
+        int[] keys = new int[RANK_KEYS];
+        for (int i = 0; i < RANK_KEYS; i++) {
+            keys[i] = i;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = RANK_KEYS - 1; i > 0; i--) {  // Shuffle so shards fill evenly
+            int j = random.nextInt(i + 1);
+            int tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        for (int key : keys) {
+            queue.add(key);
+        }
+
+        int[] polledInOrder = new int[RANK_KEYS];
+        AtomicLong tickets = new AtomicLong();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                Integer key;
+                while ((key = queue.poll()) != null) {
+                    polledInOrder[(int) tickets.getAndIncrement()] = key;
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Fenwick tree: present[k] = 1 while key k is still in the queue
+        int[] tree = new int[RANK_KEYS + 1];
+        for (int i = 1; i <= RANK_KEYS; i++) {
+            tree[i]++;
+            int parent = i + (i & -i);
+            if (parent <= RANK_KEYS) {
+                tree[parent] += tree[i];
+            }
+        }
+        long total = 0;
+        long max = 0;
+        int polled = (int) tickets.get();
+        for (int p = 0; p < polled; p++) {
+            int key = polledInOrder[p];
+            long smallerLeft = 0;
+            for (int i = key; i > 0; i -= i & -i) {  // Prefix count of keys < key
+                smallerLeft += tree[i];
+            }
+            total += smallerLeft;
+            max = Math.max(max, smallerLeft);
+            for (int i = key + 1; i <= RANK_KEYS; i += i & -i) {
+                tree[i]--;
+            }
+        }
+        if (polled != RANK_KEYS) {
+            throw new IllegalStateException("Polled " + polled + " of " + RANK_KEYS + " keys");
+        }
+        blackhole += Arrays.hashCode(polledInOrder);
+        return new double[]{total / (double) polled, max};
+    }
+}
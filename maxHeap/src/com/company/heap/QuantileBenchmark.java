@@ -0,0 +1,140 @@
+package com.company.heap;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * QUANTILE BENCHMARK - Streaming Percentiles vs Sorting a Snapshot
+ * ================================================================
+ *
+ * A stream of simulated payment latencies (log-normal: most around 20 ms,
+ * a long tail of slow ones); every QUERY_EVERY values a dashboard asks for
+ * p50 / p95 / p99. Compared:
+ *
+ * WHOLE STREAM (n values):
+ * - sort snapshot : copy everything seen so far and Arrays.sort it per query
+ * - MedianFinder  : exact, but median only
+ * - TDigest       : p50/p95/p99, fixed memory (rank error printed)
+ *
+ * LAST WINDOW values:
+ * - sort snapshot       : copy the ring buffer and sort it per query
+ * - SlidingWindowMedian : exact median of the window
+ *
+ * The snapshot cost grows with n (or the window) per query; the streaming
+ * versions pay O(log n) (or less) per value and O(1) / O(centroids) per query.
+ * So a window snapshot still wins when queries are rare (one per window's
+ * worth of values); query more often and SlidingWindowMedian pulls ahead.
+ *
+ * HOW TO RUN:
+ *   java com.company.heap.QuantileBenchmark [values] [window] [queryEvery]
+ */
+public class QuantileBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+    private static double sink;
+    private static int queryEvery;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int window = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        queryEvery = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+
+        double[] latencies = new double[n];
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            latencies[i] = 20 * Math.exp(0.8 * random.nextGaussian());  // ms
+        }
+
+        System.out.printf("%,d values, a query every %,d values, window %,d%n%n", n, queryEvery, window);
+        System.out.printf("%-28s %14s%n", "whole stream", "ms");
+        System.out.printf("%-28s %14.1f%n", "sort snapshot (p50/95/99)", best(latencies, window, 0));
+        System.out.printf("%-28s %14.1f%n", "MedianFinder (p50)", best(latencies, window, 1));
+        System.out.printf("%-28s %14.1f%n", "TDigest (p50/95/99)", best(latencies, window, 2));
+        System.out.printf("%n%-28s %14s%n", "last " + window, "ms");
+        System.out.printf("%-28s %14.1f%n", "sort window snapshot (p50)", best(latencies, window, 3));
+        System.out.printf("%-28s %14.1f%n", "SlidingWindowMedian (p50)", best(latencies, window, 4));
+
+        TDigest digest = new TDigest();
+        for (double latency : latencies) {
+            digest.add(latency);
+        }
+        double[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%nTDigest accuracy (%d centroids):%n", digest.centroidCount());
+        for (double q : QUANTILES) {
+            double estimate = digest.quantile(q);
+            int rank = Arrays.binarySearch(sorted, estimate);
+            rank = rank < 0 ? -rank - 1 : rank;
+            System.out.printf("  p%-4s exact %8.3f ms   estimate %8.3f ms   rank error %.4f%%%n",
+                    Math.round(q * 100), sorted[(int) Math.min(n - 1L, (long) (q * n))], estimate,
+                    100.0 * Math.abs(rank / (double) n - q));
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static double best(double[] latencies, int window, int mode) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            run(latencies, window, mode);
+            double ms = (System.nanoTime() - start) / 1e6;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, ms);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param mode 0 = sort snapshot, 1 = MedianFinder, 2 = TDigest,
+     *             3 = sort window snapshot, 4 = SlidingWindowMedian
+     */
+    private static void run(double[] latencies, int window, int mode) {
+        int n = latencies.length;
+        // Only what this mode uses - the others would bill it for their allocations
+        MedianFinder finder = mode == 1 ? new MedianFinder(n) : null;
+        TDigest digest = mode == 2 ? new TDigest() : null;
+        SlidingWindowMedian sliding = mode == 4 ? new SlidingWindowMedian(window) : null;
+        double[] snapshot = mode == 0 ? new double[n] : mode == 3 ? new double[window] : null;
+        for (int i = 0; i < n; i++) {
+            double latency = latencies[i];
+            switch (mode) {
+                case 1: finder.add(latency); break;
+                case 2: digest.add(latency); break;
+                case 4: sliding.add(latency); break;
+                default: break;  // The snapshots read latencies[] directly
+            }
+            if ((i + 1) % queryEvery != 0) {
+                continue;
+            }
+            switch (mode) {
+                case 0: {
+                    int count = i + 1;
+                    System.arraycopy(latencies, 0, snapshot, 0, count);
+                    Arrays.sort(snapshot, 0, count);
+                    for (double q : QUANTILES) {
+                        sink += snapshot[(int) (q * (count - 1))];
+                    }
+                    break;
+                }
+                case 1: sink += finder.median(); break;
+                case 2:
+                    for (double q : QUANTILES) {
+                        sink += digest.quantile(q);
+                    }
+                    break;
+                case 3: {
+                    int count = Math.min(window, i + 1);
+                    System.arraycopy(latencies, i + 1 - count, snapshot, 0, count);
+                    Arrays.sort(snapshot, 0, count);
+                    sink += snapshot[count / 2];
+                    break;
+                }
+                default: sink += sliding.median(); break;
+            }
+        }
+    }
+}
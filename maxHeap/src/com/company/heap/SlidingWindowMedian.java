@@ -0,0 +1,240 @@
+package com.company.heap;
+
+import java.util.Arrays;
+
+/**
+ * SLIDING WINDOW MEDIAN - Median of the Last k Values
+ * ===================================================
+ *
+ * Like MedianFinder, but only the last k values count: when value number
+ * k+1 arrives, the oldest one has to leave its heap. A heap cannot remove
+ * from the middle cheaply, so the old value is deleted LAZILY:
+ *
+ *   1. remember "one copy of v is dead" in a small count table
+ *   2. fix the half sizes as if it were gone
+ *   3. actually pop it only when it reaches the TOP of its heap
+ *      (pruning - every top is always a live value)
+ *
+ *   window = 3, stream 5 1 4 2:
+ *     after 5 1 4:   lower [4, 1]   upper [5]        median 4
+ *     add 2, 5 dies: lower [2, 1]   upper [5*, 4]    5 is dead but buried
+ *                    upper top was 5 → pruned        median 2
+ *
+ * WHICH HEAP HELD THE DEAD VALUE? Compare it with lower's top: every live
+ * value in lower is <= that top, every live value in upper is >= it.
+ *
+ * BOUNDED MEMORY: dead values buried deep in a heap could pile up, so once
+ * the heaps hold more than twice the window, both are rebuilt from the ring
+ * buffer of live values (rare, O(k log k), amortized O(log k) per add).
+ * Every array - heaps, ring buffer, dead-count table - is sized up front,
+ * so add() never allocates.
+ *
+ * Time: O(log k) amortized per add, O(1) for median()
+ */
+public class SlidingWindowMedian {
+
+    private static final int ARITY = 4;
+
+    private final int window;
+    private final double[] ring;   // The live values, oldest at head once full
+    private int head;
+    private int count;
+
+    private final DoubleDaryHeap lower;   // Smaller half, largest on top
+    private final DoubleDaryHeap upper;   // Larger half, smallest on top
+    private int lowerLive;                // Heap sizes minus dead values
+    private int upperLive;
+    private final DeadCounts dead;
+
+    /**
+     * @param window number of most recent values the median is taken over
+     * @throws IllegalArgumentException if window is below 1
+     */
+    public SlidingWindowMedian(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Illegal window: " + window);
+        }
+        this.window = window;
+        ring = new double[window];
+        int capacity = 2 * window + 2;  // Rebuild threshold plus the value being added
+        lower = new DoubleDaryHeap(ARITY, capacity, true);
+        upper = new DoubleDaryHeap(ARITY, capacity, false);
+        dead = new DeadCounts(capacity);
+    }
+
+    /**
+     * Adds a value; once the window is full the oldest value leaves.
+     *
+     * Time Complexity: O(log k) amortized
+     *
+     * @throws IllegalArgumentException if value is NaN
+     */
+    public void add(double value) {
+        if (value != value) {
+            throw new IllegalArgumentException("NaN has no median");
+        }
+        value += 0.0;  // -0.0 becomes 0.0, so equal values share one dead-count key
+        insert(value);
+        if (count == window) {
+            evict(ring[head]);
+            ring[head] = value;
+            head = head + 1 == window ? 0 : head + 1;
+        } else {
+            ring[count++] = value;
+        }
+        rebalance();
+        if (lower.size() + upper.size() > 2 * window) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @return the median of the last min(k, added) values
+     * @throws IndexOutOfBoundsException if no value was added
+     */
+    public double median() {
+        if (lowerLive > upperLive) {
+            return lower.peek();  // Odd count
+        }
+        return (lower.peek() + upper.peek()) / 2.0;  // Even count; throws when empty
+    }
+
+    /**
+     * @return number of values in the window
+     */
+    public int size() {
+        return count;
+    }
+
+    public int window() {
+        return window;
+    }
+
+    private void insert(double value) {
+        if (lowerLive == 0 || value <= lower.peek()) {
+            lower.push(value);
+            lowerLive++;
+        } else {
+            upper.push(value);
+            upperLive++;
+        }
+    }
+
+    private void evict(double value) {
+        dead.increment(value);
+        if (lowerLive > 0 && value <= lower.peek()) {
+            lowerLive--;
+            prune(lower);
+        } else {
+            upperLive--;
+            prune(upper);
+        }
+    }
+
+    /** Keeps lowerLive == upperLive or lowerLive == upperLive + 1. */
+    private void rebalance() {
+        if (lowerLive > upperLive + 1) {
+            upper.push(lower.pop());
+            lowerLive--;
+            upperLive++;
+            prune(lower);
+        } else if (lowerLive < upperLive) {
+            lower.push(upper.pop());
+            upperLive--;
+            lowerLive++;
+            prune(upper);
+        }
+    }
+
+    /** Pops dead values off the top until the top is live (or the heap is empty). */
+    private void prune(DoubleDaryHeap heap) {
+        while (!heap.isEmpty() && dead.decrementIfPresent(heap.peek())) {
+            heap.pop();
+        }
+    }
+
+    /** Drops every dead value by refilling the heaps from the ring buffer. */
+    private void rebuild() {
+        lower.clear();
+        upper.clear();
+        dead.clear();
+        lowerLive = 0;
+        upperLive = 0;
+        for (int i = 0; i < count; i++) {
+            insert(ring[i]);
+            rebalance();
+        }
+    }
+
+    /**
+     * double → count table with open addressing (linear probing).
+     * Holds at most as many keys as there are dead values, which the rebuild
+     * bounds, so it is sized once and never grows.
+     */
+    private static final class DeadCounts {
+        private final long[] keys;
+        private final int[] counts;   // 0 = empty slot
+        private final int mask;
+
+        DeadCounts(int maxKeys) {
+            int capacity = Integer.highestOneBit(Math.max(2, maxKeys) * 2 - 1) << 1;  // Load factor <= 0.5
+            keys = new long[capacity];
+            counts = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        void increment(double value) {
+            long key = Double.doubleToRawLongBits(value);
+            int i = slot(key);
+            while (counts[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            counts[i]++;
+        }
+
+        /** Takes one dead copy of value; false if there is none. */
+        boolean decrementIfPresent(double value) {
+            long key = Double.doubleToRawLongBits(value);
+            int i = slot(key);
+            while (counts[i] != 0) {
+                if (keys[i] == key) {
+                    if (--counts[i] == 0) {
+                        removeAt(i);
+                    }
+                    return true;
+                }
+                i = (i + 1) & mask;
+            }
+            return false;
+        }
+
+        void clear() {
+            Arrays.fill(counts, 0);
+        }
+
+        /** Backward-shift deletion: later entries of the probe run move into the hole. */
+        private void removeAt(int hole) {
+            int i = hole;
+            while (true) {
+                i = (i + 1) & mask;
+                if (counts[i] == 0) {
+                    return;
+                }
+                int home = slot(keys[i]);
+                // Move entry i into the hole unless its home lies cyclically in (hole, i]
+                if (((i - home) & mask) >= ((i - hole) & mask)) {
+                    keys[hole] = keys[i];
+                    counts[hole] = counts[i];
+                    counts[i] = 0;
+                    hole = i;
+                }
+            }
+        }
+
+        private int slot(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h >>> 32) & mask;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.company.heap;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * SORT BENCHMARK - Where Heapsort Wins and Loses
+ * ==============================================
+ *
+ * Sorts the same int[] with:
+ * - classic heapsort   : the old Heap.sort path - n inserts (fixHeapAbove),
+ *                        then top-down fixHeapBelow with two compares a level
+ * - HeapSort.sort      : Floyd heapify + bottom-up sift-down
+ * - HeapSort.parallel  : chunks heapsorted in parallel, then k-way merged
+ * - quickSort          : Sort/QuickSort (first element as pivot)
+ * - mergeSort          : Sort/MergeSort (top-down, temp array per merge)
+ * - Arrays.sort        : the JDK's dual-pivot quicksort, for reference
+ *
+ * quickSort and mergeSort are copied from the Sort modules unchanged:
+ * every module here is its own project, so they cannot be called directly.
+ *
+ * INPUTS: random, already sorted, and few distinct values (0..99).
+ * quickSort is skipped on sorted and few-distinct input: with the first
+ * element as pivot, and equal values never split, it degrades to O(n^2)
+ * and recurses up to n levels deep (stack overflow).
+ *
+ * WHAT TO EXPECT: heapsort needs no extra memory and has no bad inputs.
+ * While the array fits in the cache, HeapSort.sort beats the classic version
+ * by about 2x and keeps up with quickSort. Past a few MB its jumps from i to
+ * 2i+1 miss the cache on every level: HeapSort.sort falls behind quickSort
+ * and even the classic version. HeapSort.parallel keeps every chunk heap
+ * in cache, so it stays competitive even on one core, and more cores help
+ * the chunk phase.
+ *
+ * HOW TO RUN:
+ *   java com.company.heap.SortBenchmark [sizes...]   (default 10K .. 10M)
+ */
+public class SortBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000, 10_000_000};
+    private static final String[] INPUTS = {"random", "sorted", "few distinct"};
+    private static final String[] SORTS = {
+            "classic heap", "HeapSort.sort", "HeapSort.parallel", "quickSort", "mergeSort", "Arrays.sort"};
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.println("cores: " + Runtime.getRuntime().availableProcessors() + ", times in ms");
+        System.out.printf("%-14s %-12s", "input", "n");
+        for (String sort : SORTS) {
+            System.out.printf(" %18s", sort);
+        }
+        System.out.println();
+        for (int input = 0; input < INPUTS.length; input++) {
+            for (int n : sizes) {
+                int[] data = generate(n, input);
+                System.out.printf("%-14s %-12d", INPUTS[input], n);
+                for (int sort = 0; sort < SORTS.length; sort++) {
+                    if (sort == 3 && input != 0) {
+                        System.out.printf(" %18s", "n/a");
+                        continue;
+                    }
+                    System.out.printf(" %18.1f", best(data, sort));
+                }
+                System.out.println();
+            }
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static int[] generate(int n, int input) {
+        Random random = new Random(42);
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = input == 0 ? random.nextInt() : input == 1 ? i : random.nextInt(100);
+        }
+        return data;
+    }
+
+    private static double best(int[] data, int sort) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            int[] copy = data.clone();
+            long start = System.nanoTime();
+            switch (sort) {
+                case 0: classicHeapSort(copy); break;
+                case 1: HeapSort.sort(copy); break;
+                case 2: HeapSort.parallelSort(copy); break;
+                case 3: quickSort(copy, 0, copy.length); break;
+                case 4: mergeSort(copy, 0, copy.length); break;
+                default: Arrays.sort(copy); break;
+            }
+            double ms = (System.nanoTime() - start) / 1e6;
+            sink += copy[copy.length / 2];
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, ms);
+            }
+        }
+        return best;
+    }
+
+    /** Heap.insert for every value, then the top-down Heap.sort loop. */
+    private static void classicHeapSort(int[] a) {
+        for (int i = 1; i < a.length; i++) {  // insert: fixHeapAbove
+            int value = a[i];
+            int index = i;
+            while (index > 0 && value > a[(index - 1) / 2]) {
+                a[index] = a[(index - 1) / 2];
+                index = (index - 1) / 2;
+            }
+            a[index] = value;
+        }
+        for (int last = a.length - 1; last > 0; last--) {  // sort: swap + fixHeapBelow
+            int tmp = a[0];
+            a[0] = a[last];
+            a[last] = tmp;
+            int index = 0;
+            int child;
+            while ((child = 2 * index + 1) < last) {
+                if (child + 1 < last && a[child + 1] > a[child]) {
+                    child++;
+                }
+                if (a[index] >= a[child]) {
+                    break;
+                }
+                tmp = a[index];
+                a[index] = a[child];
+                a[child] = tmp;
+                index = child;
+            }
+        }
+    }
+
+    // From Sort/QuickSort (com.company.quicksort.Main)
+    private static void quickSort(int[] input, int start, int end) {
+        if (end - start < 2) {
+            return;
+        }
+        int pivotIndex = partition(input, start, end);
+        quickSort(input, start, pivotIndex);
+        quickSort(input, pivotIndex + 1, end);
+    }
+
+    private static int partition(int[] input, int start, int end) {
+        int pivot = input[start];
+        int i = start;
+        int j = end;
+        while (i < j) {
+            while (i < j && input[--j] >= pivot);
+            if (i < j) {
+                input[i] = input[j];
+            }
+            while (i < j && input[++i] <= pivot);
+            if (i < j) {
+                input[j] = input[i];
+            }
+        }
+        input[j] = pivot;
+        return j;
+    }
+
+    // From Sort/MergeSort (com.company.mergesort.Main)
+    private static void mergeSort(int[] input, int start, int end) {
+        if (end - start < 2) {
+            return;
+        }
+        int mid = (start + end) / 2;
+        mergeSort(input, start, mid);
+        mergeSort(input, mid, end);
+        merge(input, start, mid, end);
+    }
+
+    private static void merge(int[] input, int start, int mid, int end) {
+        if (input[mid - 1] <= input[mid]) {
+            return;
+        }
+        int i = start;
+        int j = mid;
+        int tempIndex = 0;
+        int[] temp = new int[end - start];
+        while (i < mid && j < end) {
+            temp[tempIndex++] = input[i] <= input[j] ? input[i++] : input[j++];
+        }
+        System.arraycopy(input, i, input, start + tempIndex, mid - i);
+        System.arraycopy(temp, 0, input, start, tempIndex);
+    }
+}
@@ -0,0 +1,275 @@
+package com.company.heap;
+
+/**
+ * T-DIGEST - Approximate Percentiles of an Endless Stream in Fixed Memory
+ * =======================================================================
+ *
+ * MedianFinder keeps every value; for "p50/p95/p99 of all payment latencies
+ * since startup" that grows forever. A t-digest keeps a bounded number
+ * of CENTROIDS instead (about 60 at the default compression) - (mean,
+ * weight) pairs, each standing for a run of neighbouring values:
+ *
+ *   values:     1 2 2 3 | 5 6 7 8 9 10 12 | 40 | 95
+ *   centroids:  (2, 4)    (8.1, 7)           (40, 1) (95, 1)
+ *                  ▲ big centroids in the MIDDLE, tiny ones at the EDGES
+ *
+ * The trick is the size limit: a centroid near quantile q may hold at most
+ * about 2 pi * n * sqrt(q(1-q)) / compression values. Around the median centroids are
+ * large (the median barely moves if you blur them); near p99 they are small,
+ * and min/max are tracked exactly - so tail percentiles, the ones that
+ * matter for latency, stay accurate.
+ *
+ * HOW VALUES GET IN (the "merging" t-digest):
+ *   add(x) just appends x to a buffer                   O(1), no allocation
+ *   when the buffer is full: sort it (an in-place heapsort), then walk it
+ *   together with the (already sorted) centroids, merging neighbours while
+ *   the size limit allows                               O(buffer log buffer)
+ *
+ * quantile(q) merges the buffer, then finds the two centroids around rank
+ * q*n and interpolates between their means.
+ *
+ * MEMORY: room for 2 * compression centroids plus a buffer of
+ * 5 * compression values, all allocated in the constructor - a few KB.
+ * With compression 100 the rank error is typically below 0.1%.
+ *
+ * Not exact: for exact answers over a bounded set use MedianFinder or
+ * SlidingWindowMedian.
+ */
+public class TDigest {
+
+    private static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    // Centroids, sorted by mean; two sets of arrays so a merge can write one
+    // while reading the other, then swap
+    private double[] means;
+    private double[] weights;
+    private double[] nextMeans;
+    private double[] nextWeights;
+    private int centroids;
+    private double mergedWeight;
+
+    private final double[] buffer;
+    private int buffered;
+
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param compression accuracy knob: more centroids, more accuracy, more
+     *                    memory (typically 50 - 500)
+     * @throws IllegalArgumentException if compression is below 10
+     */
+    public TDigest(double compression) {
+        if (!(compression >= 10)) {
+            throw new IllegalArgumentException("Compression must be at least 10: " + compression);
+        }
+        this.compression = compression;
+        // The size limit allows at most ~compression centroids after a merge
+        int maxCentroids = (int) Math.ceil(2 * compression) + 8;
+        means = new double[maxCentroids];
+        weights = new double[maxCentroids];
+        nextMeans = new double[maxCentroids];
+        nextWeights = new double[maxCentroids];
+        buffer = new double[(int) Math.ceil(5 * compression)];
+    }
+
+    /**
+     * Records one value.
+     *
+     * Time Complexity: O(1), plus O(log buffer) amortized for the merges
+     *
+     * @throws IllegalArgumentException if value is NaN
+     */
+    public void add(double value) {
+        if (value != value) {
+            throw new IllegalArgumentException("NaN has no rank");
+        }
+        if (buffered == buffer.length) {
+            merge();
+        }
+        buffer[buffered++] = value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Estimates the value below which a fraction q of all values lie.
+     *
+     * @param q between 0 and 1 (0.5 = median, 0.99 = p99)
+     * @throws IllegalArgumentException if q is outside [0, 1]
+     * @throws IndexOutOfBoundsException if no value was added
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        merge();
+        if (centroids == 0) {
+            throw new IndexOutOfBoundsException("Digest is Empty");
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+        double rank = q * mergedWeight;
+
+        // Below the centre of the first centroid: between min and it
+        double firstHalf = weights[0] / 2;
+        if (rank < firstHalf) {
+            return min + (means[0] - min) * (rank / firstHalf);
+        }
+        // Above the centre of the last centroid: between it and max
+        int last = centroids - 1;
+        double lastHalf = weights[last] / 2;
+        if (rank > mergedWeight - lastHalf) {
+            return max - (max - means[last]) * ((mergedWeight - rank) / lastHalf);
+        }
+        // Between the centres of two neighbours: interpolate
+        double centre = firstHalf;
+        for (int i = 0; i < last; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (rank <= centre + step) {
+                return means[i] + (means[i + 1] - means[i]) * ((rank - centre) / step);
+            }
+            centre += step;
+        }
+        return means[last];
+    }
+
+    /**
+     * @return number of values recorded
+     */
+    public long size() {
+        return (long) mergedWeight + buffered;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public double min() {
+        return min;
+    }
+
+    public double max() {
+        return max;
+    }
+
+    /**
+     * @return current number of centroids (after merging the buffer)
+     */
+    public int centroidCount() {
+        merge();
+        return centroids;
+    }
+
+    /**
+     * Sorts the buffer and merges it with the centroids, combining
+     * neighbours while they fit under the size limit of their quantile.
+     */
+    private void merge() {
+        if (buffered == 0) {
+            return;
+        }
+        heapSort(buffer, buffered);
+
+        double total = mergedWeight + buffered;
+        int out = 0;
+        double curMean = 0;
+        double curWeight = 0;
+        double weightSoFar = 0;    // Weight of the centroids already written
+        double limit = total * kToQ(qToK(0) + 1);
+        int c = 0;
+        int b = 0;
+        while (c < centroids || b < buffered) {
+            double mean;
+            double weight;
+            if (b == buffered || (c < centroids && means[c] <= buffer[b])) {
+                mean = means[c];
+                weight = weights[c++];
+            } else {
+                mean = buffer[b++];
+                weight = 1;
+            }
+            if (curWeight == 0) {
+                curMean = mean;
+                curWeight = weight;
+            } else if (weightSoFar + curWeight + weight <= limit) {
+                curWeight += weight;
+                curMean += (mean - curMean) * weight / curWeight;  // Running weighted mean
+            } else {
+                nextMeans[out] = curMean;
+                nextWeights[out++] = curWeight;
+                weightSoFar += curWeight;
+                limit = total * kToQ(qToK(weightSoFar / total) + 1);
+                curMean = mean;
+                curWeight = weight;
+            }
+        }
+        nextMeans[out] = curMean;
+        nextWeights[out++] = curWeight;
+
+        double[] swap = means;
+        means = nextMeans;
+        nextMeans = swap;
+        swap = weights;
+        weights = nextWeights;
+        nextWeights = swap;
+        centroids = out;
+        mergedWeight = total;
+        buffered = 0;
+    }
+
+    /** Scale function k1: k = compression/(2 pi) * asin(2q - 1). */
+    private double qToK(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    private double kToQ(double k) {
+        if (k >= compression / 4) {
+            return 1;
+        }
+        return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+    }
+
+    /**
+     * Sorts a[0..n) ascending in place: build a max heap bottom-up, then
+     * repeatedly swap the top to the end (Heap.delete on the root, n times).
+     */
+    private static void heapSort(double[] a, int n) {
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            double top = a[0];
+            a[0] = a[end];
+            a[end] = top;
+            siftDown(a, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] a, int index, int n) {
+        double value = a[index];
+        int child;
+        while ((child = 2 * index + 1) < n) {
+            if (child + 1 < n && a[child + 1] > a[child]) {
+                child++;
+            }
+            if (a[child] <= value) {
+                break;
+            }
+            a[index] = a[child];
+            index = child;
+        }
+        a[index] = value;
+    }
+}